@@ -0,0 +1,94 @@
+package ch.jalu.configme.benchmark;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * JavaBean classes used in the bean mapping benchmarks.
+ */
+public final class BenchmarkBeans {
+
+    private BenchmarkBeans() {
+    }
+
+    /**
+     * Creates an entry collection with the given number of entries.
+     *
+     * @param count the number of entries to create
+     * @return the created entry collection
+     */
+    public static EntryCollection createEntryCollection(int count) {
+        EntryCollection collection = new EntryCollection();
+        for (int i = 0; i < count; ++i) {
+            Entry entry = new Entry();
+            entry.setName("Entry " + i);
+            entry.setWeight(i);
+            entry.setEnabled(i % 2 == 0);
+            entry.setTags(new ArrayList<>(Arrays.asList("tag" + (i % 7), "tag" + (i % 11))));
+            collection.getEntries().put("entry" + i, entry);
+        }
+        return collection;
+    }
+
+    /**
+     * Bean with a map of entries, i.e. a bean whose size scales with the benchmark parameter.
+     */
+    public static class EntryCollection {
+
+        private Map<String, Entry> entries = new LinkedHashMap<>();
+
+        public Map<String, Entry> getEntries() {
+            return entries;
+        }
+
+        public void setEntries(Map<String, Entry> entries) {
+            this.entries = entries;
+        }
+    }
+
+    /**
+     * Entry bean with fields of various types.
+     */
+    public static class Entry {
+
+        private String name;
+        private int weight;
+        private boolean enabled;
+        private List<String> tags = new ArrayList<>();
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public int getWeight() {
+            return weight;
+        }
+
+        public void setWeight(int weight) {
+            this.weight = weight;
+        }
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public List<String> getTags() {
+            return tags;
+        }
+
+        public void setTags(List<String> tags) {
+            this.tags = tags;
+        }
+    }
+}
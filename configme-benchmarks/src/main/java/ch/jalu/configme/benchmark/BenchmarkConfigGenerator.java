@@ -0,0 +1,163 @@
+package ch.jalu.configme.benchmark;
+
+import ch.jalu.configme.configurationdata.ConfigurationData;
+import ch.jalu.configme.configurationdata.ConfigurationDataBuilder;
+import ch.jalu.configme.properties.Property;
+import ch.jalu.configme.resource.YamlFileReader;
+import ch.jalu.configme.resource.YamlFileResource;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static ch.jalu.configme.properties.PropertyInitializer.newListProperty;
+import static ch.jalu.configme.properties.PropertyInitializer.newProperty;
+
+/**
+ * Generates configurations of a given size for the benchmarks.
+ * <p>
+ * Properties are spread over nested sections (e.g. {@code section3.group12.key3140}) so that the generated
+ * YAML files have a realistic depth, and the property types are cycled so that all common leaf types are covered.
+ */
+public final class BenchmarkConfigGenerator {
+
+    /** Number of properties per top-level section. */
+    private static final int PROPERTIES_PER_SECTION = 1000;
+    /** Number of properties per group within a section. */
+    private static final int PROPERTIES_PER_GROUP = 50;
+
+    private BenchmarkConfigGenerator() {
+    }
+
+    /**
+     * Creates the given number of properties with varied types and default values.
+     *
+     * @param count the number of properties to create
+     * @return the generated properties
+     */
+    public static @NotNull List<Property<?>> createProperties(int count) {
+        List<Property<?>> properties = new ArrayList<>(count);
+        for (int i = 0; i < count; ++i) {
+            properties.add(createProperty(i));
+        }
+        return properties;
+    }
+
+    /**
+     * Creates configuration data with the given number of generated properties.
+     *
+     * @param count the number of properties
+     * @return configuration data with the generated properties
+     */
+    public static @NotNull ConfigurationData createConfigurationData(int count) {
+        return ConfigurationDataBuilder.createConfiguration(createProperties(count));
+    }
+
+    /**
+     * Creates the path of the property with the given index.
+     *
+     * @param index the index of the property
+     * @return the property's path
+     */
+    public static @NotNull String createPath(int index) {
+        return "section" + (index / PROPERTIES_PER_SECTION)
+            + ".group" + ((index % PROPERTIES_PER_SECTION) / PROPERTIES_PER_GROUP)
+            + ".key" + index;
+    }
+
+    /**
+     * Writes a YAML file with the default values of all properties of the given configuration data.
+     * The configuration data's values are initialized as a side effect.
+     *
+     * @param configurationData the configuration data to write
+     * @param folder the folder to create the file in
+     * @return the created file
+     */
+    public static @NotNull Path writeConfigFile(@NotNull ConfigurationData configurationData, @NotNull Path folder) {
+        try {
+            Path file = Files.createTempFile(folder, "configme-benchmark", ".yml");
+            configurationData.initializeValues(new YamlFileReader(file));
+            new YamlFileResource(file).exportProperties(configurationData);
+            return file;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not create benchmark config file in '" + folder + "'", e);
+        }
+    }
+
+    /**
+     * Creates a temporary folder for benchmark files.
+     *
+     * @return the created folder
+     */
+    public static @NotNull Path createTemporaryFolder() {
+        try {
+            return Files.createTempDirectory("configme-benchmark");
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not create temporary folder", e);
+        }
+    }
+
+    /**
+     * Deletes the given folder and all of its contents.
+     *
+     * @param folder the folder to delete
+     */
+    public static void deleteRecursively(@NotNull Path folder) {
+        try (Stream<Path> files = Files.walk(folder)) {
+            files.sorted(Comparator.reverseOrder()).forEach(file -> {
+                try {
+                    Files.delete(file);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not delete folder '" + folder + "'", e);
+        }
+    }
+
+    /**
+     * Creates the raw value of a {@link BenchmarkBeans.EntryCollection} bean with the given number of entries,
+     * as it would be returned by a property reader.
+     *
+     * @param count the number of entries
+     * @return map representing an entry collection bean
+     */
+    public static @NotNull Map<String, Object> createRawEntryCollection(int count) {
+        Map<String, Object> entries = new LinkedHashMap<>();
+        for (int i = 0; i < count; ++i) {
+            Map<String, Object> entry = new LinkedHashMap<>();
+            entry.put("name", "Entry " + i);
+            entry.put("weight", i);
+            entry.put("enabled", i % 2 == 0);
+            entry.put("tags", Arrays.asList("tag" + (i % 7), "tag" + (i % 11)));
+            entries.put("entry" + i, entry);
+        }
+        Map<String, Object> collection = new LinkedHashMap<>();
+        collection.put("entries", entries);
+        return collection;
+    }
+
+    private static @NotNull Property<?> createProperty(int index) {
+        String path = createPath(index);
+        switch (index % 6) {
+            case 0: return newProperty(path, index);
+            case 1: return newProperty(path, "Value of property " + index);
+            case 2: return newProperty(path, index % 3 == 0);
+            case 3: return newProperty(path, index / 7.0);
+            case 4: return newListProperty(path, "first" + index, "second" + index);
+            case 5: return newProperty(TimeUnit.class, path, TimeUnit.values()[index % TimeUnit.values().length]);
+            default: throw new IllegalStateException("Unexpected index: " + index);
+        }
+    }
+}
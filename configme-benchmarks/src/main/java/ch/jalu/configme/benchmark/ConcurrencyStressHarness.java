@@ -0,0 +1,301 @@
+package ch.jalu.configme.benchmark;
+
+import ch.jalu.configme.SettingsManager;
+import ch.jalu.configme.SettingsManagerBuilder;
+import ch.jalu.configme.configurationdata.ConfigurationData;
+import ch.jalu.configme.properties.Property;
+import org.jetbrains.annotations.NotNull;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Stress harness which runs reader threads calling {@link SettingsManager#getProperty} while writer threads
+ * concurrently call {@link SettingsManager#reload()}, {@link SettingsManager#setProperty} and
+ * {@link SettingsManager#save()}. Records the read throughput, the read latency percentiles and all invariant
+ * violations, namely:
+ * <ul>
+ *   <li>a read which throws an exception (e.g. "No value exists for property")</li>
+ *   <li>a read which returns null</li>
+ *   <li>a read which returns a value not matching the type of the property's default value</li>
+ *   <li>a writer operation which throws an exception</li>
+ * </ul>
+ * Run {@link #main} for a report on the default settings manager, or use {@link #run} to verify any other
+ * {@link SettingsManager} implementation.
+ */
+public class ConcurrencyStressHarness {
+
+    private final int readerThreads;
+    private final long durationMillis;
+    private final boolean reloadWriter;
+    private final boolean setPropertyWriter;
+    private final boolean saveWriter;
+
+    /**
+     * Constructor.
+     *
+     * @param readerThreads number of threads calling getProperty
+     * @param durationMillis how long the stress test should run
+     * @param reloadWriter whether a thread should continuously call reload()
+     * @param setPropertyWriter whether a thread should continuously call setProperty()
+     * @param saveWriter whether a thread should continuously call save()
+     */
+    public ConcurrencyStressHarness(int readerThreads, long durationMillis, boolean reloadWriter,
+                                    boolean setPropertyWriter, boolean saveWriter) {
+        this.readerThreads = readerThreads;
+        this.durationMillis = durationMillis;
+        this.reloadWriter = reloadWriter;
+        this.setPropertyWriter = setPropertyWriter;
+        this.saveWriter = saveWriter;
+    }
+
+    /**
+     * Runs the harness on a generated configuration. Accepts the arguments {@code readers=<int>},
+     * {@code seconds=<int>}, {@code properties=<int>}, {@code reload=<bool>}, {@code set=<bool>} and
+     * {@code save=<bool>}, e.g. {@code readers=16 seconds=30 save=false}.
+     *
+     * @param args the arguments
+     * @throws InterruptedException if interrupted while waiting for the threads
+     */
+    public static void main(String... args) throws InterruptedException {
+        Map<String, String> options = new ConcurrentHashMap<>();
+        for (String arg : args) {
+            String[] parts = arg.split("=", 2);
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Expected arguments like 'readers=8', but got: " + arg);
+            }
+            options.put(parts[0], parts[1]);
+        }
+
+        int propertyCount = Integer.parseInt(options.getOrDefault("properties", "1000"));
+        ConcurrencyStressHarness harness = new ConcurrencyStressHarness(
+            Integer.parseInt(options.getOrDefault("readers", "8")),
+            TimeUnit.SECONDS.toMillis(Long.parseLong(options.getOrDefault("seconds", "10"))),
+            Boolean.parseBoolean(options.getOrDefault("reload", "true")),
+            Boolean.parseBoolean(options.getOrDefault("set", "true")),
+            Boolean.parseBoolean(options.getOrDefault("save", "true")));
+
+        Path folder = BenchmarkConfigGenerator.createTemporaryFolder();
+        try {
+            ConfigurationData configurationData = BenchmarkConfigGenerator.createConfigurationData(propertyCount);
+            Path configFile = BenchmarkConfigGenerator.writeConfigFile(configurationData, folder);
+            SettingsManager settingsManager = SettingsManagerBuilder.withYamlFile(configFile)
+                .configurationData(configurationData)
+                .create();
+
+            StressResult result = harness.run(settingsManager, configurationData.getProperties());
+            System.out.println(result.createReport());
+        } finally {
+            BenchmarkConfigGenerator.deleteRecursively(folder);
+        }
+    }
+
+    /**
+     * Runs the stress test on the given settings manager.
+     *
+     * @param settingsManager the settings manager to test
+     * @param properties the properties to read and write (must all be known to the settings manager)
+     * @return the result
+     * @throws InterruptedException if interrupted while waiting for the threads
+     */
+    public @NotNull StressResult run(@NotNull SettingsManager settingsManager,
+                                     @NotNull List<Property<?>> properties) throws InterruptedException {
+        Property<?>[] propertyArray = properties.toArray(new Property<?>[0]);
+        StressResult result = new StressResult(readerThreads);
+        List<Thread> threads = new ArrayList<>();
+        CountDownLatch startSignal = new CountDownLatch(1);
+        long endTime = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(durationMillis);
+
+        for (int i = 0; i < readerThreads; ++i) {
+            int readerIndex = i;
+            threads.add(new Thread(
+                () -> runReader(settingsManager, propertyArray, readerIndex, result, startSignal, endTime),
+                "stress-reader-" + i));
+        }
+        if (reloadWriter) {
+            threads.add(createWriter("reload", settingsManager::reload, result, startSignal, endTime));
+        }
+        if (setPropertyWriter) {
+            threads.add(createWriter("setProperty",
+                () -> setRandomProperty(settingsManager, propertyArray), result, startSignal, endTime));
+        }
+        if (saveWriter) {
+            threads.add(createWriter("save", settingsManager::save, result, startSignal, endTime));
+        }
+
+        threads.forEach(Thread::start);
+        long start = System.nanoTime();
+        startSignal.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        result.elapsedNanos = System.nanoTime() - start;
+        return result;
+    }
+
+    private static void runReader(SettingsManager settingsManager, Property<?>[] properties, int readerIndex,
+                                  StressResult result, CountDownLatch startSignal, long endTime) {
+        awaitStart(startSignal);
+        LatencyHistogram latencies = result.latencyHistograms[readerIndex];
+        long reads = 0;
+        int index = ThreadLocalRandom.current().nextInt(properties.length);
+        while (System.nanoTime() < endTime) {
+            Property<?> property = properties[index];
+            index = (index + 1) % properties.length;
+
+            long before = System.nanoTime();
+            try {
+                Object value = settingsManager.getProperty(property);
+                long latency = System.nanoTime() - before;
+                if (value == null) {
+                    result.recordViolation("getProperty returned null", property.getPath());
+                } else if (!isCompatibleValue(property.getDefaultValue(), value)) {
+                    result.recordViolation("getProperty returned value of wrong type",
+                        property.getPath() + ": " + value.getClass().getName());
+                }
+                latencies.record(latency);
+            } catch (RuntimeException e) {
+                result.recordViolation("getProperty threw " + e.getClass().getSimpleName(), e.getMessage());
+            }
+            ++reads;
+        }
+        result.reads.add(reads);
+    }
+
+    private static Thread createWriter(String name, Runnable operation, StressResult result,
+                                       CountDownLatch startSignal, long endTime) {
+        LongAdder counter = result.writes.computeIfAbsent(name, k -> new LongAdder());
+        return new Thread(() -> {
+            awaitStart(startSignal);
+            while (System.nanoTime() < endTime) {
+                try {
+                    operation.run();
+                } catch (RuntimeException e) {
+                    result.recordViolation(name + " threw " + e.getClass().getSimpleName(), e.getMessage());
+                }
+                counter.increment();
+            }
+        }, "stress-writer-" + name);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void setRandomProperty(SettingsManager settingsManager, Property<?>[] properties) {
+        Property<Object> property =
+            (Property<Object>) properties[ThreadLocalRandom.current().nextInt(properties.length)];
+        settingsManager.setProperty(property, property.getDefaultValue());
+    }
+
+    private static void awaitStart(CountDownLatch startSignal) {
+        try {
+            startSignal.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /* Checks that the value is of the same kind as the default value (collection implementations may differ). */
+    private static boolean isCompatibleValue(Object defaultValue, Object value) {
+        if (defaultValue instanceof Collection<?>) {
+            return value instanceof Collection<?>;
+        } else if (defaultValue instanceof Map<?, ?>) {
+            return value instanceof Map<?, ?>;
+        } else if (defaultValue instanceof Enum<?>) {
+            return ((Enum<?>) defaultValue).getDeclaringClass().isInstance(value);
+        }
+        return defaultValue.getClass().isInstance(value);
+    }
+
+    /**
+     * Result of a stress run.
+     */
+    public static final class StressResult {
+
+        private final LatencyHistogram[] latencyHistograms;
+        private final LongAdder reads = new LongAdder();
+        private final Map<String, LongAdder> writes = new ConcurrentHashMap<>();
+        private final AtomicLong violationCount = new AtomicLong();
+        private final Map<String, LongAdder> violationsByKind = new ConcurrentHashMap<>();
+        private final Map<String, String> exampleByKind = new ConcurrentHashMap<>();
+        private long elapsedNanos;
+
+        StressResult(int readerThreads) {
+            this.latencyHistograms = new LatencyHistogram[readerThreads];
+            for (int i = 0; i < readerThreads; ++i) {
+                latencyHistograms[i] = new LatencyHistogram();
+            }
+        }
+
+        void recordViolation(String kind, String example) {
+            violationCount.incrementAndGet();
+            violationsByKind.computeIfAbsent(kind, k -> new LongAdder()).increment();
+            exampleByKind.putIfAbsent(kind, String.valueOf(example));
+        }
+
+        /**
+         * @return total number of invariant violations
+         */
+        public long getViolationCount() {
+            return violationCount.get();
+        }
+
+        /**
+         * @return total number of reads
+         */
+        public long getReadCount() {
+            return reads.sum();
+        }
+
+        /**
+         * @return reads per second over all reader threads
+         */
+        public double getReadThroughput() {
+            return reads.sum() / (elapsedNanos / 1e9);
+        }
+
+        /**
+         * Returns the read latency at the given percentile, based on all successful reads of all reader threads.
+         * Latencies are recorded in a histogram, so the returned value has a relative error below 1% (except for
+         * the max, i.e. percentile 100, which is exact).
+         *
+         * @param percentile the percentile (e.g. 99.9)
+         * @return latency in nanoseconds
+         */
+        public long getReadLatencyPercentile(double percentile) {
+            return mergeLatencyHistograms().getValueAtPercentile(percentile);
+        }
+
+        /**
+         * @return textual report of this result
+         */
+        public @NotNull String createReport() {
+            StringBuilder sb = new StringBuilder();
+            sb.append(String.format("Duration: %.1f s%n", elapsedNanos / 1e9));
+            sb.append(String.format("Reads: %d (%.0f ops/s)%n", getReadCount(), getReadThroughput()));
+            writes.forEach((name, count) -> sb.append(String.format("Writes [%s]: %d%n", name, count.sum())));
+            sb.append(String.format("Read latency (ns): p50=%d p99=%d p99.9=%d p99.99=%d max=%d%n",
+                getReadLatencyPercentile(50), getReadLatencyPercentile(99), getReadLatencyPercentile(99.9),
+                getReadLatencyPercentile(99.99), getReadLatencyPercentile(100)));
+            sb.append("Invariant violations: ").append(getViolationCount()).append(System.lineSeparator());
+            violationsByKind.forEach((kind, count) -> sb.append("  ").append(count.sum()).append("x ").append(kind)
+                .append(" (e.g. ").append(exampleByKind.get(kind)).append(")").append(System.lineSeparator()));
+            return sb.toString();
+        }
+
+        private LatencyHistogram mergeLatencyHistograms() {
+            LatencyHistogram merged = new LatencyHistogram();
+            for (LatencyHistogram histogram : latencyHistograms) {
+                merged.add(histogram);
+            }
+            return merged;
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package ch.jalu.configme.benchmark;
+
+import ch.jalu.configme.configurationdata.ConfigurationData;
+import ch.jalu.configme.resource.YamlFileResource;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link YamlFileResource#exportProperties}, i.e. writing all properties to the YAML file.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ExportPropertiesBenchmark {
+
+    @Param({"10", "1000", "10000", "100000"})
+    private int propertyCount;
+
+    private Path folder;
+    private ConfigurationData configurationData;
+    private YamlFileResource resource;
+
+    @Setup(Level.Trial)
+    public void createConfiguration() {
+        folder = BenchmarkConfigGenerator.createTemporaryFolder();
+        configurationData = BenchmarkConfigGenerator.createConfigurationData(propertyCount);
+        Path configFile = BenchmarkConfigGenerator.writeConfigFile(configurationData, folder);
+        resource = new YamlFileResource(configFile);
+    }
+
+    @TearDown(Level.Trial)
+    public void deleteConfigFile() {
+        BenchmarkConfigGenerator.deleteRecursively(folder);
+    }
+
+    @Benchmark
+    public void exportProperties() {
+        resource.exportProperties(configurationData);
+    }
+}
@@ -0,0 +1,119 @@
+package ch.jalu.configme.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.yaml.snakeyaml.Yaml;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the stream-based file I/O that was used by the YAML file reader and resource with the bulk I/O that
+ * is used now: reading the file with one bulk read and decoding it into a single String before parsing, and
+ * rendering the export into memory before writing it with a single channel write.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FileIoBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int propertyCount;
+
+    private Path folder;
+    private Path configFile;
+    private Path exportFile;
+    private List<String> lines;
+
+    @Setup(Level.Trial)
+    public void createConfigFile() throws IOException {
+        folder = BenchmarkConfigGenerator.createTemporaryFolder();
+        configFile = BenchmarkConfigGenerator.writeConfigFile(
+            BenchmarkConfigGenerator.createConfigurationData(propertyCount), folder);
+        exportFile = folder.resolve("export.yml");
+        lines = Files.readAllLines(configFile, StandardCharsets.UTF_8);
+    }
+
+    @TearDown(Level.Trial)
+    public void deleteConfigFile() {
+        BenchmarkConfigGenerator.deleteRecursively(folder);
+    }
+
+    @Benchmark
+    public Object parseFromStreamReader() throws IOException {
+        try (InputStream is = Files.newInputStream(configFile);
+             InputStreamReader isr = new InputStreamReader(is, StandardCharsets.UTF_8)) {
+            return new Yaml().load(isr);
+        }
+    }
+
+    @Benchmark
+    public Object parseFromBulkRead() throws IOException {
+        String yaml = new String(Files.readAllBytes(configFile), StandardCharsets.UTF_8);
+        return new Yaml().load(yaml);
+    }
+
+    @Benchmark
+    public void writeWithStreamWriter() {
+        try (OutputStream os = Files.newOutputStream(exportFile);
+             OutputStreamWriter writer = new OutputStreamWriter(os, StandardCharsets.UTF_8)) {
+            writeLines(writer);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Benchmark
+    public void writeWithSingleChannelWrite() {
+        try {
+            StringWriter writer = new StringWriter();
+            writeLines(writer);
+            ByteBuffer buffer = ByteBuffer.wrap(writer.toString().getBytes(StandardCharsets.UTF_8));
+            try (FileChannel channel = FileChannel.open(exportFile, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Writes the lines of the config file in small appends, as done by the YAML file resource when exporting.
+     */
+    private void writeLines(Writer writer) throws IOException {
+        for (String line : lines) {
+            writer.append(line).append("\n");
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package ch.jalu.configme.benchmark;
+
+import ch.jalu.configme.SettingsManager;
+import ch.jalu.configme.SettingsManagerBuilder;
+import ch.jalu.configme.configurationdata.ConfigurationData;
+import ch.jalu.configme.properties.Property;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link SettingsManager#getProperty} lookups, cycling through all properties of the configuration.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GetPropertyBenchmark {
+
+    @Param({"10", "1000", "10000", "100000"})
+    private int propertyCount;
+
+    private Path folder;
+    private SettingsManager settingsManager;
+    private Property<?>[] properties;
+    private int index;
+
+    @Setup(Level.Trial)
+    public void createSettingsManager() {
+        folder = BenchmarkConfigGenerator.createTemporaryFolder();
+        ConfigurationData configurationData = BenchmarkConfigGenerator.createConfigurationData(propertyCount);
+        Path configFile = BenchmarkConfigGenerator.writeConfigFile(configurationData, folder);
+        settingsManager = SettingsManagerBuilder.withYamlFile(configFile)
+            .configurationData(configurationData)
+            .create();
+        properties = configurationData.getProperties().toArray(new Property<?>[0]);
+    }
+
+    @TearDown(Level.Trial)
+    public void deleteConfigFile() {
+        BenchmarkConfigGenerator.deleteRecursively(folder);
+    }
+
+    @Benchmark
+    public Object getProperty() {
+        Property<?> property = properties[index];
+        index = (index + 1) % properties.length;
+        return settingsManager.getProperty(property);
+    }
+}
@@ -0,0 +1,91 @@
+package ch.jalu.configme.benchmark;
+
+/**
+ * Histogram of latencies in the manner of HdrHistogram: values below {@link #SUB_BUCKETS} are counted exactly, and
+ * larger values are counted in buckets whose width doubles with each power of two, so that every value is recorded
+ * with a relative error below 1%. Memory use is fixed regardless of how many values are recorded.
+ * <p>
+ * Not thread-safe: each reader thread records into its own histogram, which are then merged with {@link #add}.
+ */
+final class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 8;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int HALF_SUB_BUCKETS = SUB_BUCKETS / 2;
+
+    private final long[] counts = new long[SUB_BUCKETS + (Long.SIZE - SUB_BUCKET_BITS) * HALF_SUB_BUCKETS];
+    private long totalCount;
+    private long max;
+
+    /**
+     * Records the given value.
+     *
+     * @param value the value to record (negative values are recorded as 0)
+     */
+    void record(long value) {
+        long nonNegativeValue = Math.max(0, value);
+        ++counts[indexOf(nonNegativeValue)];
+        ++totalCount;
+        max = Math.max(max, nonNegativeValue);
+    }
+
+    /**
+     * Adds all values of the given histogram to this histogram.
+     *
+     * @param other the histogram to add
+     */
+    void add(LatencyHistogram other) {
+        for (int i = 0; i < counts.length; ++i) {
+            counts[i] += other.counts[i];
+        }
+        totalCount += other.totalCount;
+        max = Math.max(max, other.max);
+    }
+
+    /**
+     * @return number of recorded values
+     */
+    long getTotalCount() {
+        return totalCount;
+    }
+
+    /**
+     * Returns the value at the given percentile, i.e. the highest value of the bucket in which the value at the
+     * percentile's rank falls. Returns the exact max value for 100, and 0 if no values were recorded.
+     *
+     * @param percentile the percentile (e.g. 99.9)
+     * @return value at the percentile
+     */
+    long getValueAtPercentile(double percentile) {
+        if (totalCount == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100.0 * totalCount));
+        long cumulativeCount = 0;
+        for (int i = 0; i < counts.length; ++i) {
+            cumulativeCount += counts[i];
+            if (cumulativeCount >= rank) {
+                return Math.min(highestValueOf(i), max);
+            }
+        }
+        return max;
+    }
+
+    private static int indexOf(long value) {
+        int shift = Long.SIZE - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+        if (shift <= 0) {
+            return (int) value;
+        }
+        // value >>> shift is in [HALF_SUB_BUCKETS, SUB_BUCKETS)
+        return SUB_BUCKETS + (shift - 1) * HALF_SUB_BUCKETS + (int) (value >>> shift) - HALF_SUB_BUCKETS;
+    }
+
+    private static long highestValueOf(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        int shift = (index - SUB_BUCKETS) / HALF_SUB_BUCKETS + 1;
+        long subBucket = (index - SUB_BUCKETS) % HALF_SUB_BUCKETS + HALF_SUB_BUCKETS;
+        return (subBucket << shift) + (1L << shift) - 1;
+    }
+}
@@ -0,0 +1,60 @@
+package ch.jalu.configme.benchmark;
+
+import ch.jalu.configme.beanmapper.MapperImpl;
+import ch.jalu.configme.benchmark.BenchmarkBeans.EntryCollection;
+import ch.jalu.configme.properties.convertresult.ConvertErrorRecorder;
+import ch.jalu.configme.utils.TypeInformation;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link MapperImpl#convertToBean} and {@link MapperImpl#toExportValue} on a bean holding
+ * a map with as many entry beans as the benchmark parameter.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MapperBenchmark {
+
+    private static final TypeInformation ENTRY_COLLECTION_TYPE = new TypeInformation(EntryCollection.class);
+
+    @Param({"10", "1000", "10000", "100000"})
+    private int propertyCount;
+
+    private MapperImpl mapper;
+    private Map<String, Object> rawValue;
+    private Object bean;
+
+    @Setup(Level.Trial)
+    public void createValues() {
+        mapper = new MapperImpl();
+        rawValue = BenchmarkConfigGenerator.createRawEntryCollection(propertyCount);
+        bean = mapper.convertToBean(rawValue, ENTRY_COLLECTION_TYPE, new ConvertErrorRecorder());
+    }
+
+    @Benchmark
+    public Object convertToBean() {
+        return mapper.convertToBean(rawValue, ENTRY_COLLECTION_TYPE, new ConvertErrorRecorder());
+    }
+
+    @Benchmark
+    public Object toExportValue() {
+        return mapper.toExportValue(bean);
+    }
+}
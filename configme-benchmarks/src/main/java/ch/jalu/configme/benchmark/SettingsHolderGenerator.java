@@ -0,0 +1,188 @@
+package ch.jalu.configme.benchmark;
+
+import ch.jalu.configme.SettingsHolder;
+import org.jetbrains.annotations.NotNull;
+
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Generates and compiles synthetic {@link SettingsHolder} classes in order to measure how ConfigMe's startup scales
+ * with the number of holder classes and properties.
+ * <p>
+ * Each generated class has its own root path ({@code holder3}) with properties spread over sections of ten.
+ * The properties cycle through all property kinds offered by
+ * {@link ch.jalu.configme.properties.PropertyInitializer PropertyInitializer}, including bean properties with
+ * nested beans. Every property has a comment, and each class registers a comment for its root section.
+ * <p>
+ * Compiling requires a JDK, as the system Java compiler is used.
+ */
+public final class SettingsHolderGenerator {
+
+    /** Package of the generated classes. */
+    public static final String PACKAGE = "ch.jalu.configme.benchmark.generated";
+
+    private static final String[] PROPERTY_TEMPLATES = {
+        "Property<Boolean> %s = newProperty(\"%s\", true)",
+        "Property<Short> %s = newProperty(\"%s\", (short) %d)",
+        "Property<Integer> %s = newProperty(\"%s\", %d)",
+        "Property<Long> %s = newProperty(\"%s\", %dL * 1000L)",
+        "Property<Double> %s = newProperty(\"%s\", %d / 3.0)",
+        "Property<String> %s = newProperty(\"%s\", \"Text %d\")",
+        "Property<TimeUnit> %s = newProperty(TimeUnit.class, \"%s\", TimeUnit.values()[%d %% 7])",
+        "RegexProperty %s = newRegexProperty(\"%s\", \"[a-z]+%d\")",
+        "Property<List<String>> %s = newListProperty(\"%s\", \"a%d\", \"b\")",
+        "Property<Set<String>> %s = newSetProperty(\"%s\", \"x%d\", \"y\")",
+        "Property<Set<String>> %s = newLowercaseStringSetProperty(\"%s\", \"Foo%d\", \"Bar\")",
+        "Property<EntryCollection> %s = newBeanProperty(EntryCollection.class, \"%s\", "
+            + "BenchmarkBeans.createEntryCollection(%d %% 4 + 1))",
+        "Property<Float> %s = typeBasedProperty(PrimitivePropertyType.FLOAT).path(\"%s\").defaultValue(%d.5f).build()",
+        "Property<List<Double>> %s = listProperty(PrimitivePropertyType.DOUBLE).path(\"%s\")"
+            + ".defaultValue(%d.0, 2.0).build()",
+        "Property<Set<Long>> %s = setProperty(PrimitivePropertyType.LONG).path(\"%s\").defaultValue(%dL, 4L).build()",
+        "Property<Map<String, Integer>> %s = mapProperty(PrimitivePropertyType.INTEGER).path(\"%s\")"
+            + ".defaultEntry(\"first\", %d).defaultEntry(\"second\", 2).build()",
+        "Property<String[]> %s = arrayProperty(PrimitivePropertyType.STRING, String[]::new).path(\"%s\")"
+            + ".defaultValue(\"s%d\", \"t\").build()",
+        "Property<Integer[]> %s = inlineArrayProperty(StandardInlineArrayConverters.INTEGER).path(\"%s\")"
+            + ".defaultValue(%d, 7).build()",
+        "Property<Optional<Integer>> %s = optionalIntegerProperty(\"%s\") /* %d */",
+        "Property<Optional<TimeUnit>> %s = optionalEnumProperty(TimeUnit.class, \"%s\") /* %d */",
+    };
+
+    private SettingsHolderGenerator() {
+    }
+
+    /**
+     * Returns the fully qualified name of the generated class with the given index.
+     *
+     * @param index the index of the class
+     * @return the class name
+     */
+    public static @NotNull String getClassName(int index) {
+        return PACKAGE + ".GeneratedSettings" + index;
+    }
+
+    /**
+     * Generates the source code of the given number of settings holder classes and compiles them into the
+     * given folder.
+     *
+     * @param holderCount the number of classes to generate
+     * @param propertiesPerHolder the number of properties each class should have
+     * @param folder the folder to write the sources and compiled classes to
+     */
+    public static void generateAndCompile(int holderCount, int propertiesPerHolder, @NotNull Path folder) {
+        try {
+            Path sourceFolder = Files.createDirectories(folder.resolve(PACKAGE.replace('.', '/')));
+            List<String> arguments = new ArrayList<>();
+            arguments.add("-d");
+            arguments.add(folder.toString());
+            arguments.add("-classpath");
+            arguments.add(System.getProperty("java.class.path"));
+            arguments.add("-proc:none");
+            arguments.add("-nowarn");
+            for (int i = 0; i < holderCount; ++i) {
+                Path sourceFile = sourceFolder.resolve("GeneratedSettings" + i + ".java");
+                Files.write(sourceFile, generateSource(i, propertiesPerHolder).getBytes(StandardCharsets.UTF_8));
+                arguments.add(sourceFile.toString());
+            }
+            compile(arguments);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not write generated sources to '" + folder + "'", e);
+        }
+    }
+
+    /**
+     * Loads the generated classes from the given folder with a new class loader. The classes are not initialized,
+     * such that the static initialization of the properties is performed when ConfigMe first accesses them.
+     *
+     * @param holderCount the number of generated classes
+     * @param folder the folder the classes were compiled to
+     * @return the loaded classes
+     */
+    public static @NotNull List<Class<? extends SettingsHolder>> loadClasses(int holderCount, @NotNull Path folder) {
+        ClassLoader classLoader;
+        try {
+            classLoader = new URLClassLoader(new URL[]{ folder.toUri().toURL() },
+                SettingsHolderGenerator.class.getClassLoader());
+        } catch (MalformedURLException e) {
+            throw new IllegalStateException("Invalid class folder '" + folder + "'", e);
+        }
+
+        List<Class<? extends SettingsHolder>> classes = new ArrayList<>(holderCount);
+        for (int i = 0; i < holderCount; ++i) {
+            try {
+                classes.add(Class.forName(getClassName(i), false, classLoader).asSubclass(SettingsHolder.class));
+            } catch (ClassNotFoundException e) {
+                throw new IllegalStateException("Generated class '" + getClassName(i) + "' not found", e);
+            }
+        }
+        return classes;
+    }
+
+    /**
+     * Generates the source code of the settings holder class with the given index.
+     *
+     * @param index the index of the class
+     * @param propertyCount the number of properties to generate
+     * @return the Java source code
+     */
+    public static @NotNull String generateSource(int index, int propertyCount) {
+        StringBuilder sb = new StringBuilder();
+        sb.append("package ").append(PACKAGE).append(";\n\n")
+            .append("import ch.jalu.configme.Comment;\n")
+            .append("import ch.jalu.configme.SettingsHolder;\n")
+            .append("import ch.jalu.configme.benchmark.BenchmarkBeans;\n")
+            .append("import ch.jalu.configme.benchmark.BenchmarkBeans.EntryCollection;\n")
+            .append("import ch.jalu.configme.configurationdata.CommentsConfiguration;\n")
+            .append("import ch.jalu.configme.properties.Property;\n")
+            .append("import ch.jalu.configme.properties.RegexProperty;\n")
+            .append("import ch.jalu.configme.properties.inlinearray.StandardInlineArrayConverters;\n")
+            .append("import ch.jalu.configme.properties.types.PrimitivePropertyType;\n")
+            .append("import java.util.*;\n")
+            .append("import java.util.concurrent.TimeUnit;\n\n")
+            .append("import static ch.jalu.configme.properties.PropertyInitializer.*;\n\n")
+            .append("public final class GeneratedSettings").append(index).append(" implements SettingsHolder {\n\n");
+
+        for (int i = 0; i < propertyCount; ++i) {
+            String path = "holder" + index + ".section" + (i / 10) + ".prop" + i;
+            String template = PROPERTY_TEMPLATES[i % PROPERTY_TEMPLATES.length];
+            sb.append("    @Comment(\"Property ").append(i).append(" of holder ").append(index).append("\")\n")
+                .append("    public static final ").append(String.format(template, "PROP_" + i, path, i))
+                .append(";\n\n");
+        }
+
+        sb.append("    private GeneratedSettings").append(index).append("() {\n    }\n\n")
+            .append("    @Override\n")
+            .append("    public void registerComments(CommentsConfiguration conf) {\n")
+            .append("        conf.setComment(\"holder").append(index).append("\", \"Generated holder ")
+            .append(index).append("\");\n")
+            .append("    }\n")
+            .append("}\n");
+        return sb.toString();
+    }
+
+    private static void compile(@NotNull List<String> arguments) {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        if (compiler == null) {
+            throw new IllegalStateException("No Java compiler available: please run the benchmarks with a JDK");
+        }
+        ByteArrayOutputStream errors = new ByteArrayOutputStream();
+        int result = compiler.run(null, null, errors, arguments.toArray(new String[0]));
+        if (result != 0) {
+            throw new IllegalStateException("Compilation of generated classes failed:\n"
+                + new String(errors.toByteArray(), StandardCharsets.UTF_8));
+        }
+    }
+}
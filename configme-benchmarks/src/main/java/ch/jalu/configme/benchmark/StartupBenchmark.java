@@ -0,0 +1,87 @@
+package ch.jalu.configme.benchmark;
+
+import ch.jalu.configme.SettingsHolder;
+import ch.jalu.configme.SettingsManager;
+import ch.jalu.configme.SettingsManagerBuilder;
+import ch.jalu.configme.configurationdata.ConfigurationDataBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the creation of a settings manager end to end with {@link SettingsManagerBuilder}, based on
+ * synthetic settings holder classes generated by {@link SettingsHolderGenerator}.
+ * <p>
+ * The holder classes are loaded by a new class loader before each invocation, so every measurement includes the
+ * static initialization of the properties, the reflective scan of the classes, and the loading of the file.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 20)
+@Fork(1)
+public class StartupBenchmark {
+
+    @Param({"10", "100", "400"})
+    private int holderCount;
+
+    @Param({"40"})
+    private int propertiesPerHolder;
+
+    private Path folder;
+    private Path configFile;
+    private List<Class<? extends SettingsHolder>> holderClasses;
+
+    @Setup(Level.Trial)
+    public void generateClassesAndConfigFile() {
+        folder = BenchmarkConfigGenerator.createTemporaryFolder();
+        SettingsHolderGenerator.generateAndCompile(holderCount, propertiesPerHolder, folder);
+        try {
+            configFile = Files.createTempFile(folder, "startup", ".yml");
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        // Write the file with all properties so that the benchmark doesn't trigger a save
+        createSettingsManager(SettingsHolderGenerator.loadClasses(holderCount, folder));
+    }
+
+    @Setup(Level.Invocation)
+    public void loadClasses() {
+        holderClasses = SettingsHolderGenerator.loadClasses(holderCount, folder);
+    }
+
+    @TearDown(Level.Trial)
+    public void deleteFiles() {
+        BenchmarkConfigGenerator.deleteRecursively(folder);
+    }
+
+    @Benchmark
+    public SettingsManager createSettingsManager() {
+        return createSettingsManager(holderClasses);
+    }
+
+    private SettingsManager createSettingsManager(List<Class<? extends SettingsHolder>> classes) {
+        return SettingsManagerBuilder.withYamlFile(configFile)
+            .configurationData(ConfigurationDataBuilder.createConfiguration(classes))
+            .useDefaultMigrationService()
+            .create();
+    }
+}
@@ -0,0 +1,63 @@
+package ch.jalu.configme.benchmark;
+
+import ch.jalu.configme.resource.YamlFileReader;
+import ch.jalu.configme.resource.YamlFileResourceOptions;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the construction of a {@link YamlFileReader}, i.e. reading, parsing and normalizing a YAML file.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class YamlFileReaderBenchmark {
+
+    @Param({"10", "1000", "10000", "100000"})
+    private int propertyCount;
+
+    private Path folder;
+    private Path configFile;
+    private final YamlFileResourceOptions snakeYamlOptions = YamlFileResourceOptions.builder()
+        .useFastParser(false)
+        .build();
+
+    @Setup(Level.Trial)
+    public void createConfigFile() {
+        folder = BenchmarkConfigGenerator.createTemporaryFolder();
+        configFile = BenchmarkConfigGenerator.writeConfigFile(
+            BenchmarkConfigGenerator.createConfigurationData(propertyCount), folder);
+    }
+
+    @TearDown(Level.Trial)
+    public void deleteConfigFile() {
+        BenchmarkConfigGenerator.deleteRecursively(folder);
+    }
+
+    @Benchmark
+    public YamlFileReader createReader() {
+        return new YamlFileReader(configFile);
+    }
+
+    @Benchmark
+    public YamlFileReader createReaderWithSnakeYaml() {
+        return new YamlFileReader(configFile, snakeYamlOptions, null);
+    }
+}
@@ -2,6 +2,9 @@ package ch.jalu.configme;
 
 import ch.jalu.configme.configurationdata.ConfigurationData;
 import ch.jalu.configme.configurationdata.ConfigurationDataBuilder;
+import ch.jalu.configme.instrumentation.AccessCountingSettingsManager;
+import ch.jalu.configme.instrumentation.ConversionProfiler;
+import ch.jalu.configme.instrumentation.LifecycleListener;
 import ch.jalu.configme.migration.MigrationService;
 import ch.jalu.configme.migration.PlainMigrationService;
 import ch.jalu.configme.resource.PropertyResource;
@@ -23,6 +26,8 @@ public final class SettingsManagerBuilder {
     private final PropertyResource resource;
     private ConfigurationData configurationData;
     private @Nullable MigrationService migrationService;
+    private @Nullable LifecycleListener lifecycleListener;
+    private @Nullable ConversionProfiler conversionProfiler;
 
     private SettingsManagerBuilder(@NotNull PropertyResource resource) {
         this.resource = resource;
@@ -126,6 +131,31 @@ public final class SettingsManagerBuilder {
         return this;
     }
 
+    /**
+     * Sets a listener which receives the timings and counters of loading, migrating and saving the configuration.
+     * No timings are taken if no listener is set.
+     *
+     * @param lifecycleListener the listener to use (or null)
+     * @return this builder
+     */
+    public @NotNull SettingsManagerBuilder lifecycleListener(@Nullable LifecycleListener lifecycleListener) {
+        this.lifecycleListener = lifecycleListener;
+        return this;
+    }
+
+    /**
+     * Sets a profiler which records the time and memory taken to determine each property's value from the
+     * resource. The profiler is registered on the configuration data when the settings manager is created.
+     *
+     * @param conversionProfiler the profiler to use (or null)
+     * @return this builder
+     * @see ConfigurationData#setConversionProfiler
+     */
+    public @NotNull SettingsManagerBuilder conversionProfiler(@Nullable ConversionProfiler conversionProfiler) {
+        this.conversionProfiler = conversionProfiler;
+        return this;
+    }
+
     /**
      * Creates a settings manager instance. It is mandatory that resource and configuration data have been
      * configured beforehand.
@@ -135,6 +165,20 @@ public final class SettingsManagerBuilder {
     public @NotNull SettingsManager create() {
         Objects.requireNonNull(resource, "resource");
         Objects.requireNonNull(configurationData, "configurationData");
-        return new SettingsManagerImpl(resource, configurationData, migrationService);
+        if (conversionProfiler != null) {
+            configurationData.setConversionProfiler(conversionProfiler);
+        }
+        return new SettingsManagerImpl(resource, configurationData, migrationService, lifecycleListener);
+    }
+
+    /**
+     * Creates a settings manager instance which counts how many times each property is read and written.
+     * It is mandatory that resource and configuration data have been configured beforehand.
+     *
+     * @return the settings manager with access counters
+     * @see AccessCountingSettingsManager
+     */
+    public @NotNull AccessCountingSettingsManager createWithAccessCounting() {
+        return new AccessCountingSettingsManager(create(), configurationData.getProperties());
     }
 }
@@ -1,6 +1,8 @@
 package ch.jalu.configme;
 
 import ch.jalu.configme.configurationdata.ConfigurationData;
+import ch.jalu.configme.instrumentation.FlightRecorderEvents;
+import ch.jalu.configme.instrumentation.LifecycleListener;
 import ch.jalu.configme.migration.MigrationService;
 import ch.jalu.configme.properties.Property;
 import ch.jalu.configme.resource.PropertyReader;
@@ -9,6 +11,8 @@ import ch.jalu.configme.resource.PropertyResource;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.lang.ref.WeakReference;
+
 /**
  * Default implementation of {@link SettingsManager}. Use the {@link SettingsManagerBuilder} to create instances.
  * <p>
@@ -30,6 +34,12 @@ public class SettingsManagerImpl implements SettingsManager {
     private final ConfigurationData configurationData;
     private final PropertyResource resource;
     private final MigrationService migrationService;
+    private final @Nullable LifecycleListener lifecycleListener;
+    private boolean hasBeenLoaded;
+    /** Reader of the last load, to detect that the resource returned the same reader (i.e. nothing changed). */
+    private @NotNull WeakReference<PropertyReader> lastReader = new WeakReference<>(null);
+    /** Whether a value was set since the last load. */
+    private boolean hasSetValuesSinceLoad;
 
     /**
      * Constructor. Use {@link SettingsManagerBuilder} to create instances.
@@ -40,9 +50,24 @@ public class SettingsManagerImpl implements SettingsManager {
      */
     protected SettingsManagerImpl(@NotNull PropertyResource resource, @NotNull ConfigurationData configurationData,
                                   @Nullable MigrationService migrationService) {
+        this(resource, configurationData, migrationService, null);
+    }
+
+    /**
+     * Constructor. Use {@link SettingsManagerBuilder} to create instances.
+     *
+     * @param resource the property resource to read from and write to
+     * @param configurationData the configuration data
+     * @param migrationService migration service to check the property resource with
+     * @param lifecycleListener listener to report the timings of loading, migrating and saving to
+     */
+    protected SettingsManagerImpl(@NotNull PropertyResource resource, @NotNull ConfigurationData configurationData,
+                                  @Nullable MigrationService migrationService,
+                                  @Nullable LifecycleListener lifecycleListener) {
         this.configurationData = configurationData;
         this.resource = resource;
         this.migrationService = migrationService;
+        this.lifecycleListener = lifecycleListener;
         loadFromResourceAndValidate();
     }
 
@@ -68,6 +93,7 @@ public class SettingsManagerImpl implements SettingsManager {
     @Override
     public <T> void setProperty(@NotNull Property<T> property, @NotNull T value) {
         configurationData.setValue(property, value);
+        hasSetValuesSinceLoad = true;
     }
 
     @Override
@@ -77,21 +103,71 @@ public class SettingsManagerImpl implements SettingsManager {
 
     @Override
     public void save() {
-        resource.exportProperties(configurationData);
+        final Object event = FlightRecorderEvents.beginSave();
+        if (lifecycleListener == null) {
+            resource.exportProperties(configurationData);
+        } else {
+            resource.exportProperties(configurationData, lifecycleListener);
+        }
+        FlightRecorderEvents.commitSave(event, configurationData);
     }
 
     /**
      * Reads the configuration file and executes the migration service (if present). Saves the file if migrations
      * have been applied.
+     * <p>
+     * If the resource returns the same reader as in the previous load and no values have been set since, the
+     * medium is unchanged and the current values are kept without converting them again.
      */
     protected void loadFromResourceAndValidate() {
-        final PropertyReader reader = resource.createReader();
-        configurationData.initializeValues(reader);
+        final Object event = FlightRecorderEvents.beginLoad();
+        final PropertyReader reader = lifecycleListener == null
+            ? resource.createReader()
+            : resource.createReader(lifecycleListener);
+        if (reader == lastReader.get() && !hasSetValuesSinceLoad) {
+            FlightRecorderEvents.commitLoad(event, hasBeenLoaded, configurationData, false);
+            return;
+        }
+        initializeValues(reader);
 
-        if (migrationService != null
-            && migrationService.checkAndMigrate(reader, configurationData) == MigrationService.MIGRATION_REQUIRED) {
+        final boolean migrationRewrite = migrationService != null && checkAndMigrate(reader, migrationService);
+        if (migrationRewrite) {
             save();
         }
+        FlightRecorderEvents.commitLoad(event, hasBeenLoaded, configurationData, migrationRewrite);
+        hasBeenLoaded = true;
+        lastReader = new WeakReference<>(reader);
+        hasSetValuesSinceLoad = false;
+    }
+
+    private void initializeValues(@NotNull PropertyReader reader) {
+        if (lifecycleListener == null) {
+            configurationData.initializeValues(reader);
+        } else {
+            long start = System.nanoTime();
+            configurationData.initializeValues(reader);
+            lifecycleListener.onValuesInitialized(configurationData.getProperties().size(),
+                configurationData.getNumberOfInvalidValuesInResource(), System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Runs the given migration service and returns whether the configuration has to be saved.
+     *
+     * @param reader the reader with which the configuration data was initialized
+     * @param migrationService the migration service to run
+     * @return true if a migration was performed, false otherwise
+     */
+    private boolean checkAndMigrate(@NotNull PropertyReader reader, @NotNull MigrationService migrationService) {
+        final Object event = FlightRecorderEvents.beginMigration();
+        long start = System.nanoTime();
+        boolean migrationPerformed = migrationService.checkAndMigrate(reader, configurationData)
+            == MigrationService.MIGRATION_REQUIRED;
+        if (lifecycleListener != null) {
+            lifecycleListener.onMigrationChecked(migrationPerformed, System.nanoTime() - start);
+        }
+        FlightRecorderEvents.commitMigration(event, migrationPerformed);
+        return migrationPerformed;
     }
 
     protected final @NotNull PropertyResource getPropertyResource() {
@@ -105,4 +181,8 @@ public class SettingsManagerImpl implements SettingsManager {
     protected final @Nullable MigrationService getMigrationService() {
         return migrationService;
     }
+
+    protected final @Nullable LifecycleListener getLifecycleListener() {
+        return lifecycleListener;
+    }
 }
@@ -5,6 +5,8 @@ import ch.jalu.configme.beanmapper.leafvaluehandler.StandardLeafValueHandlers;
 import ch.jalu.configme.beanmapper.propertydescription.BeanDescriptionFactory;
 import ch.jalu.configme.beanmapper.propertydescription.BeanDescriptionFactoryImpl;
 import ch.jalu.configme.beanmapper.propertydescription.BeanPropertyDescription;
+import ch.jalu.configme.instrumentation.FlightRecorderEvents;
+import ch.jalu.configme.properties.convertresult.ConversionDiagnostic;
 import ch.jalu.configme.properties.convertresult.ConvertErrorRecorder;
 import ch.jalu.configme.utils.TypeInformation;
 import org.jetbrains.annotations.NotNull;
@@ -156,7 +158,10 @@ public class MapperImpl implements Mapper {
             return null;
         }
 
-        return convertValueForType(createRootMappingContext(beanType, errorRecorder), value);
+        final Object event = FlightRecorderEvents.beginBeanMapping();
+        Object bean = convertValueForType(createRootMappingContext(beanType, errorRecorder), value);
+        FlightRecorderEvents.commitBeanMapping(event, beanType, bean != null);
+        return bean;
     }
 
     /**
@@ -224,12 +229,14 @@ public class MapperImpl implements Mapper {
 
             int index = 0;
             for (Object entry : (Iterable) value) {
-                Object convertedEntry = convertValueForType(context.createChild("[" + index + "]", entryType), entry);
+                MappingContext entryContext = context.createChild("[" + index + "]", entryType);
+                Object convertedEntry = convertValueForType(entryContext, entry);
                 if (convertedEntry == null) {
-                    context.registerError("Cannot convert value at index " + index);
+                    entryContext.registerError(ConversionDiagnostic.Kind.INVALID_ENTRY, entry);
                 } else {
                     result.add(convertedEntry);
                 }
+                ++index;
             }
             return result;
         }
@@ -273,10 +280,10 @@ public class MapperImpl implements Mapper {
             Map<String, ?> entries = (Map<String, ?>) value;
             Map result = createMapMatchingType(context);
             for (Map.Entry<String, ?> entry : entries.entrySet()) {
-                Object mappedValue = convertValueForType(
-                    context.createChild("[k=" + entry.getKey() + "]", mapValueType), entry.getValue());
+                MappingContext entryContext = context.createChild("[k=" + entry.getKey() + "]", mapValueType);
+                Object mappedValue = convertValueForType(entryContext, entry.getValue());
                 if (mappedValue == null) {
-                    context.registerError("Cannot map value for key " + entry.getKey());
+                    entryContext.registerError(ConversionDiagnostic.Kind.INVALID_ENTRY, entry.getValue());
                 } else {
                     result.put(entry.getKey(), mappedValue);
                 }
@@ -336,14 +343,18 @@ public class MapperImpl implements Mapper {
         Map<?, ?> entries = (Map<?, ?>) value;
         Object bean = createBeanMatchingType(context);
         for (BeanPropertyDescription property : properties) {
-            Object result = convertValueForType(
-                context.createChild(property.getName(), property.getTypeInformation()),
-                entries.get(property.getName()));
+            MappingContext propertyContext = context.createChild(property.getName(), property.getTypeInformation());
+            Object rawValue = entries.get(property.getName());
+            Object result = convertValueForType(propertyContext, rawValue);
             if (result == null) {
                 if (property.getValue(bean) == null) {
                     return null; // We do not support beans with a null value
                 }
-                context.registerError("No value found, fallback to field default value");
+                if (rawValue == null) {
+                    propertyContext.registerError(ConversionDiagnostic.Kind.MISSING_VALUE, null);
+                } else {
+                    propertyContext.registerError(ConversionDiagnostic.Kind.INVALID_VALUE, rawValue);
+                }
             } else {
                 property.setValue(bean, result);
             }
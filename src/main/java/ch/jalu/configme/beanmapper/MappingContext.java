@@ -1,5 +1,6 @@
 package ch.jalu.configme.beanmapper;
 
+import ch.jalu.configme.properties.convertresult.ConversionDiagnostic;
 import ch.jalu.configme.utils.TypeInformation;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -49,8 +50,20 @@ public interface MappingContext {
      * {@link ch.jalu.configme.properties.convertresult.ConvertErrorRecorder ConvertErrorRecorder},
      * associated to the property this conversion is being performed for.
      *
-     * @param reason the error reason (ignored by the default context implementation)
+     * @param reason the error reason
      */
     void registerError(@NotNull String reason);
 
+    /**
+     * Registers an error at this context's path during the mapping process, which delegates to the supplied
+     * {@link ch.jalu.configme.properties.convertresult.ConvertErrorRecorder ConvertErrorRecorder}.
+     * In contrast to {@link #registerError(String)}, no message needs to be created.
+     *
+     * @param kind the kind of error
+     * @param rawValue the value that could not be mapped (null if not applicable)
+     */
+    default void registerError(@NotNull ConversionDiagnostic.Kind kind, @Nullable Object rawValue) {
+        registerError(kind.name());
+    }
+
 }
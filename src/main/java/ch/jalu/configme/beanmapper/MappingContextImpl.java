@@ -1,8 +1,10 @@
 package ch.jalu.configme.beanmapper;
 
+import ch.jalu.configme.properties.convertresult.ConversionDiagnostic;
 import ch.jalu.configme.properties.convertresult.ConvertErrorRecorder;
 import ch.jalu.configme.utils.TypeInformation;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * Standard implementation of {@link MappingContext}.
@@ -50,7 +52,12 @@ public class MappingContextImpl implements MappingContext {
 
     @Override
     public void registerError(@NotNull String reason) {
-        errorRecorder.setHasError("At path '" + path + "': " + reason);
+        errorRecorder.registerError(path, reason);
+    }
+
+    @Override
+    public void registerError(@NotNull ConversionDiagnostic.Kind kind, @Nullable Object rawValue) {
+        errorRecorder.registerError(kind, path, rawValue);
     }
 
     @Override
@@ -1,11 +1,17 @@
 package ch.jalu.configme.configurationdata;
 
+import ch.jalu.configme.instrumentation.ConversionProfiler;
+import ch.jalu.configme.instrumentation.RetainedSizeEstimator;
 import ch.jalu.configme.properties.Property;
+import ch.jalu.configme.properties.PropertyPath;
+import ch.jalu.configme.properties.convertresult.ConversionDiagnostics;
 import ch.jalu.configme.properties.convertresult.PropertyValue;
 import ch.jalu.configme.resource.PropertyReader;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -94,4 +100,83 @@ public interface ConfigurationData {
      */
     boolean areAllValuesValidInResource();
 
+    /**
+     * Returns the number of properties whose value was not fully valid in the resource on the last call of
+     * {@link #initializeValues}, i.e. the number of properties for which {@link PropertyValue#isValidInResource()}
+     * was false. Returns 0 if the properties have not yet been loaded.
+     * <p>
+     * The default implementation does not count the values and only returns a lower bound based on
+     * {@link #areAllValuesValidInResource()}: 0 if all values are valid, 1 otherwise.
+     *
+     * @return number of properties not represented in a fully valid way in the resource
+     */
+    default int getNumberOfInvalidValuesInResource() {
+        return areAllValuesValidInResource() ? 0 : 1;
+    }
+
+    /**
+     * Sets a profiler which records the time and memory taken to determine the value of each property when the
+     * values are initialized. No measurements are taken if no profiler is set.
+     * <p>
+     * The default implementation does nothing, i.e. implementations which do not override this method are not
+     * profiled and the profiler records no conversions.
+     *
+     * @param conversionProfiler the profiler to use (or null to disable profiling)
+     */
+    default void setConversionProfiler(@Nullable ConversionProfiler conversionProfiler) {
+        // no-op by default
+    }
+
+    /**
+     * Estimates the heap size retained by the current values of the properties, grouped by path prefix. The prefix
+     * of a property consists of the first {@code depth} segments of its path, e.g. {@code messages.errors} for the
+     * path {@code messages.errors.notFound} with depth 2. Objects referenced by multiple values are only counted once.
+     * See {@link RetainedSizeEstimator} for the assumptions the estimate is based on. The values of all properties
+     * must have been initialized.
+     *
+     * @param depth the number of path segments to group by (0 to get the total size)
+     * @return estimated retained bytes by path prefix, in the order of the properties
+     */
+    default @NotNull Map<String, Long> estimateRetainedSizeByPrefix(int depth) {
+        RetainedSizeEstimator estimator = new RetainedSizeEstimator();
+        Map<String, Long> sizeByPrefix = new LinkedHashMap<>();
+        for (Property<?> property : getProperties()) {
+            PropertyPath path = property.getPropertyPath();
+            String prefix = depth >= path.getSegmentCount()
+                ? path.getPath()
+                : String.join(".", path.getSegments().subList(0, depth));
+            sizeByPrefix.merge(prefix, estimator.estimate(getValue(property)), Long::sum);
+        }
+        return sizeByPrefix;
+    }
+
+    /**
+     * Returns the issues that were found in the resource when the values were last initialized, e.g. the paths with
+     * missing or invalid values. The diagnostics are capped at a maximum number
+     * (see {@link #setMaxConversionDiagnostics}). The returned object is a snapshot of the last initialization and
+     * is not changed by subsequent initializations.
+     * <p>
+     * The default implementation does not keep any diagnostics, as if the maximum were 0: it only reports the
+     * {@link #getNumberOfInvalidValuesInResource() number of invalid values} as total count, so that the
+     * diagnostics are {@link ConversionDiagnostics#isTruncated() truncated} if any value was not valid.
+     *
+     * @return the diagnostics of the last initialization
+     */
+    default @NotNull ConversionDiagnostics getConversionDiagnostics() {
+        return new ConversionDiagnostics(Collections.emptyList(), getNumberOfInvalidValuesInResource());
+    }
+
+    /**
+     * Sets the maximum number of diagnostics that are kept when the values are initialized. Takes effect on the
+     * next initialization.
+     * <p>
+     * The default implementation does nothing, as the default implementation of {@link #getConversionDiagnostics}
+     * does not keep any diagnostics.
+     *
+     * @param maxDiagnostics the maximum number of diagnostics to keep
+     */
+    default void setMaxConversionDiagnostics(int maxDiagnostics) {
+        // no-op by default
+    }
+
 }
@@ -2,11 +2,16 @@ package ch.jalu.configme.configurationdata;
 
 import ch.jalu.configme.SettingsHolder;
 import ch.jalu.configme.exception.ConfigMeException;
+import ch.jalu.configme.instrumentation.ConversionProfiler;
 import ch.jalu.configme.properties.Property;
+import ch.jalu.configme.properties.convertresult.ConversionDiagnostic;
+import ch.jalu.configme.properties.convertresult.ConversionDiagnostics;
 import ch.jalu.configme.properties.convertresult.PropertyValue;
 import ch.jalu.configme.resource.PropertyReader;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
@@ -19,11 +24,23 @@ import static java.lang.String.format;
  */
 public class ConfigurationDataImpl implements ConfigurationData {
 
+    /** Default maximum number of conversion diagnostics that are kept. */
+    public static final int DEFAULT_MAX_CONVERSION_DIAGNOSTICS = 1000;
+
     private final @NotNull List<Property<?>> properties;
     private final @NotNull Map<String, List<String>> allComments;
     private final @NotNull List<String> footerComments;
     private final @NotNull Map<String, Object> values;
     private boolean allPropertiesValidInResource;
+    private int numberOfInvalidValuesInResource;
+    private @Nullable ConversionProfiler conversionProfiler;
+    private int maxConversionDiagnostics = DEFAULT_MAX_CONVERSION_DIAGNOSTICS;
+    private @NotNull ConversionDiagnostics conversionDiagnostics =
+        new ConversionDiagnostics(Collections.emptyList(), 0);
+    /** Diagnostics collected during the current initialization (at most the maximum number). */
+    private final @NotNull List<ConversionDiagnostic> collectedDiagnostics = new ArrayList<>();
+    /** Total number of diagnostics of the current initialization. */
+    private int numberOfDiagnostics;
 
     /**
      * Constructor. See also {@link ConfigurationDataBuilder}.
@@ -82,10 +99,22 @@ public class ConfigurationDataImpl implements ConfigurationData {
     @Override
     public void initializeValues(@NotNull PropertyReader reader) {
         values.clear();
-
-        allPropertiesValidInResource = getProperties().stream()
-            .map(property -> setValueForProperty(property, reader))
-            .reduce(true, Boolean::logicalAnd);
+        collectedDiagnostics.clear();
+        numberOfDiagnostics = 0;
+
+        int invalidValues = 0;
+        for (Property<?> property : getProperties()) {
+            if (!setValueForProperty(property, reader)) {
+                ++invalidValues;
+            }
+        }
+        numberOfInvalidValuesInResource = invalidValues;
+        allPropertiesValidInResource = invalidValues == 0;
+        conversionDiagnostics = new ConversionDiagnostics(collectedDiagnostics, numberOfDiagnostics);
+        collectedDiagnostics.clear();
+        if (conversionProfiler != null) {
+            conversionProfiler.onLoadFinished();
+        }
     }
 
     /*
@@ -93,16 +122,62 @@ public class ConfigurationDataImpl implements ConfigurationData {
      * property is represented in a fully valid way in the resource.
      */
     protected <T> boolean setValueForProperty(@NotNull Property<T> property, @NotNull PropertyReader reader) {
-        PropertyValue<T> propertyValue = property.determineValue(reader);
+        PropertyValue<T> propertyValue = conversionProfiler == null
+            ? property.determineValue(reader)
+            : determineValueWithProfiling(property, reader, conversionProfiler);
         setValue(property, propertyValue.getValue());
+        addDiagnostics(propertyValue.getDiagnostics());
         return propertyValue.isValidInResource();
     }
 
+    private void addDiagnostics(@NotNull List<ConversionDiagnostic> diagnostics) {
+        for (ConversionDiagnostic diagnostic : diagnostics) {
+            ++numberOfDiagnostics;
+            if (collectedDiagnostics.size() < maxConversionDiagnostics) {
+                collectedDiagnostics.add(diagnostic);
+            }
+        }
+    }
+
+    private <T> @NotNull PropertyValue<T> determineValueWithProfiling(@NotNull Property<T> property,
+                                                                      @NotNull PropertyReader reader,
+                                                                      @NotNull ConversionProfiler profiler) {
+        long allocatedBytesBefore = profiler.getAllocatedBytesOfCurrentThread();
+        long start = System.nanoTime();
+        PropertyValue<T> propertyValue = property.determineValue(reader);
+        long nanos = System.nanoTime() - start;
+        long allocatedBytes = allocatedBytesBefore < 0
+            ? -1
+            : profiler.getAllocatedBytesOfCurrentThread() - allocatedBytesBefore;
+        profiler.recordConversion(property.getPath(), nanos, allocatedBytes);
+        return propertyValue;
+    }
+
     @Override
     public boolean areAllValuesValidInResource() {
         return allPropertiesValidInResource;
     }
 
+    @Override
+    public int getNumberOfInvalidValuesInResource() {
+        return numberOfInvalidValuesInResource;
+    }
+
+    @Override
+    public @NotNull ConversionDiagnostics getConversionDiagnostics() {
+        return conversionDiagnostics;
+    }
+
+    @Override
+    public void setMaxConversionDiagnostics(int maxDiagnostics) {
+        this.maxConversionDiagnostics = maxDiagnostics;
+    }
+
+    @Override
+    public void setConversionProfiler(@Nullable ConversionProfiler conversionProfiler) {
+        this.conversionProfiler = conversionProfiler;
+    }
+
     protected @NotNull Map<String, Object> getValues() {
         return values;
     }
@@ -32,13 +32,13 @@ public class PropertyListBuilder {
      * @param property the property to add
      */
     public void add(@NotNull Property<?> property) {
-        String[] paths = property.getPath().split("\\.");
+        List<String> paths = property.getPropertyPath().getSegments();
         Map<String, Object> map = rootEntries;
-        for (int i = 0; i < paths.length - 1; ++i) {
-            map = getChildMap(map, paths[i]);
+        for (int i = 0; i < paths.size() - 1; ++i) {
+            map = getChildMap(map, paths.get(i));
         }
 
-        final String end = paths[paths.length - 1];
+        final String end = paths.get(paths.size() - 1);
         if (map.containsKey(end)) {
             throw new ConfigMeException("Path at '" + property.getPath() + "' already exists");
         }
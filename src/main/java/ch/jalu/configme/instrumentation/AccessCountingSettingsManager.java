@@ -0,0 +1,172 @@
+package ch.jalu.configme.instrumentation;
+
+import ch.jalu.configme.SettingsManager;
+import ch.jalu.configme.properties.Property;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * Settings manager which counts how many times each property is read and written, and otherwise delegates all
+ * calls to another settings manager. Useful to find the properties which are read on hot paths (and whose value
+ * should rather be kept locally), as well as properties which are never read at all.
+ * <p>
+ * Create instances with {@link ch.jalu.configme.SettingsManagerBuilder#createWithAccessCounting()}, or wrap any
+ * settings manager with the constructor. Each property of the configuration has its own counter slot, so that
+ * threads reading different properties don't contend with each other; counting is done with {@link LongAdder}s,
+ * which also keeps contention low for properties read by many threads. Properties which are not part of the
+ * configuration are counted as well, but with an additional lookup.
+ */
+public class AccessCountingSettingsManager implements SettingsManager {
+
+    private final SettingsManager settingsManager;
+    private final List<Property<?>> properties;
+    /** Counters of the configuration's properties. Not modified after construction. */
+    private final Map<Property<?>, Counters> countersByProperty;
+    /** Counters of properties which are not in the configuration. */
+    private final Map<Property<?>, Counters> countersByOtherProperty = new ConcurrentHashMap<>();
+
+    /**
+     * Constructor.
+     *
+     * @param settingsManager the settings manager to delegate to
+     * @param properties all properties of the configuration (used to report on unread properties)
+     */
+    public AccessCountingSettingsManager(@NotNull SettingsManager settingsManager,
+                                         @NotNull Collection<? extends Property<?>> properties) {
+        this.settingsManager = settingsManager;
+        this.properties = new ArrayList<>(properties);
+        this.countersByProperty = new IdentityHashMap<>(properties.size());
+        for (Property<?> property : properties) {
+            countersByProperty.put(property, new Counters());
+        }
+    }
+
+    @Override
+    public <T> T getProperty(@NotNull Property<T> property) {
+        getCounters(property).reads.increment();
+        return settingsManager.getProperty(property);
+    }
+
+    @Override
+    public <T> void setProperty(@NotNull Property<T> property, @NotNull T value) {
+        getCounters(property).writes.increment();
+        settingsManager.setProperty(property, value);
+    }
+
+    @Override
+    public void reload() {
+        settingsManager.reload();
+    }
+
+    @Override
+    public void save() {
+        settingsManager.save();
+    }
+
+    /**
+     * Returns the number of reads and writes of all properties that belong to the configuration, as well as of
+     * other properties which have been accessed. The counts of properties which are accessed concurrently to this
+     * call may or may not include the concurrent accesses.
+     *
+     * @return access counts of all properties
+     */
+    public @NotNull List<PropertyAccessCount> getAccessCounts() {
+        List<PropertyAccessCount> accessCounts = new ArrayList<>(properties.size() + countersByOtherProperty.size());
+        for (Property<?> property : properties) {
+            accessCounts.add(countersByProperty.get(property).toAccessCount(property));
+        }
+        countersByOtherProperty.forEach((property, counters) -> accessCounts.add(counters.toAccessCount(property)));
+        return accessCounts;
+    }
+
+    /**
+     * Returns the access counts of the properties that have been read the most, in descending order.
+     *
+     * @param limit the maximum number of entries to return
+     * @return access counts of the most read properties
+     */
+    public @NotNull List<PropertyAccessCount> getMostReadProperties(int limit) {
+        return getAccessCounts().stream()
+            .filter(count -> count.getReads() > 0)
+            .sorted(Comparator.comparingLong(PropertyAccessCount::getReads).reversed())
+            .limit(limit)
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * Returns the properties of the configuration which have not been read since this settings manager was created
+     * (or since the last {@link #resetCounts() reset}).
+     *
+     * @return properties that have not been read, in the order of the configuration
+     */
+    public @NotNull List<Property<?>> getUnreadProperties() {
+        return properties.stream()
+            .filter(property -> countersByProperty.get(property).reads.sum() == 0)
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * Resets all counts to zero.
+     */
+    public void resetCounts() {
+        countersByProperty.values().forEach(Counters::reset);
+        countersByOtherProperty.clear();
+    }
+
+    /**
+     * Creates a human-readable report of the most read properties and the properties that have not been read.
+     *
+     * @param limit the maximum number of most read properties to include
+     * @return report of the property accesses
+     */
+    public @NotNull String createReport(int limit) {
+        StringBuilder sb = new StringBuilder("Most read properties:");
+        for (PropertyAccessCount count : getMostReadProperties(limit)) {
+            sb.append("\n  ").append(count.getProperty().getPath())
+                .append(": ").append(count.getReads()).append(" reads, ")
+                .append(count.getWrites()).append(" writes");
+        }
+
+        List<Property<?>> unreadProperties = getUnreadProperties();
+        sb.append("\nUnread properties (").append(unreadProperties.size()).append("):");
+        for (Property<?> property : unreadProperties) {
+            sb.append("\n  ").append(property.getPath());
+        }
+        return sb.toString();
+    }
+
+    protected final @NotNull SettingsManager getSettingsManager() {
+        return settingsManager;
+    }
+
+    private @NotNull Counters getCounters(@NotNull Property<?> property) {
+        Counters counters = countersByProperty.get(property);
+        return counters == null
+            ? countersByOtherProperty.computeIfAbsent(property, p -> new Counters())
+            : counters;
+    }
+
+    private static final class Counters {
+
+        private final LongAdder reads = new LongAdder();
+        private final LongAdder writes = new LongAdder();
+
+        @NotNull PropertyAccessCount toAccessCount(@NotNull Property<?> property) {
+            return new PropertyAccessCount(property, reads.sum(), writes.sum());
+        }
+
+        void reset() {
+            reads.reset();
+            writes.reset();
+        }
+    }
+}
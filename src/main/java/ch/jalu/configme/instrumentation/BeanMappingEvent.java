@@ -0,0 +1,25 @@
+package ch.jalu.configme.instrumentation;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JFR event: conversion of a value to a JavaBean by the bean mapper.
+ * Only to be used via {@link FlightRecorderEvents}.
+ */
+@Name("ch.jalu.configme.BeanMapping")
+@Label("ConfigMe Bean Mapping")
+@Category("ConfigMe")
+@Description("Conversion of a value to a JavaBean by the bean mapper")
+class BeanMappingEvent extends jdk.jfr.Event {
+
+    @Label("Bean Type")
+    @Description("Class the value is mapped to")
+    String beanType;
+
+    @Label("Successful")
+    @Description("Whether a bean could be created from the value")
+    boolean successful;
+}
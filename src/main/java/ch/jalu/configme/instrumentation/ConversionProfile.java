@@ -0,0 +1,77 @@
+package ch.jalu.configme.instrumentation;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Time and memory spent converting the value of one property from the resource, as recorded by a
+ * {@link ConversionProfiler}. Instances are immutable snapshots.
+ */
+public class ConversionProfile {
+
+    private final String path;
+    private final long conversions;
+    private final long totalNanos;
+    private final long maxNanos;
+    private final long totalAllocatedBytes;
+
+    /**
+     * Constructor.
+     *
+     * @param path the path of the property
+     * @param conversions the number of times the property's value was converted
+     * @param totalNanos total time taken by the conversions
+     * @param maxNanos time taken by the slowest conversion
+     * @param totalAllocatedBytes bytes allocated by all conversions, or -1 if not supported by the JVM
+     */
+    public ConversionProfile(@NotNull String path, long conversions, long totalNanos, long maxNanos,
+                             long totalAllocatedBytes) {
+        this.path = path;
+        this.conversions = conversions;
+        this.totalNanos = totalNanos;
+        this.maxNanos = maxNanos;
+        this.totalAllocatedBytes = totalAllocatedBytes;
+    }
+
+    public @NotNull String getPath() {
+        return path;
+    }
+
+    public long getConversions() {
+        return conversions;
+    }
+
+    public long getTotalNanos() {
+        return totalNanos;
+    }
+
+    public long getMaxNanos() {
+        return maxNanos;
+    }
+
+    public long getAverageNanos() {
+        return conversions == 0 ? 0 : totalNanos / conversions;
+    }
+
+    /**
+     * @return bytes allocated by all conversions, or -1 if the JVM does not support measuring allocations
+     */
+    public long getTotalAllocatedBytes() {
+        return totalAllocatedBytes;
+    }
+
+    /**
+     * @return average bytes allocated per conversion, or -1 if the JVM does not support measuring allocations
+     */
+    public long getAverageAllocatedBytes() {
+        if (totalAllocatedBytes < 0) {
+            return -1;
+        }
+        return conversions == 0 ? 0 : totalAllocatedBytes / conversions;
+    }
+
+    @Override
+    public @NotNull String toString() {
+        return "ConversionProfile[path=" + path + ", conversions=" + conversions + ", totalNanos=" + totalNanos
+            + ", maxNanos=" + maxNanos + ", totalAllocatedBytes=" + totalAllocatedBytes + "]";
+    }
+}
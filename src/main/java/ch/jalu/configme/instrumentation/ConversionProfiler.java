@@ -0,0 +1,166 @@
+package ch.jalu.configme.instrumentation;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * Records how long the conversion of each property's value takes when configuration data is initialized, and how
+ * many bytes it allocates. Useful to find the properties (typically bean properties) that make loading slow.
+ * <p>
+ * Register a profiler with {@link ch.jalu.configme.SettingsManagerBuilder#conversionProfiler
+ * SettingsManagerBuilder#conversionProfiler} or directly on the configuration data with
+ * {@link ch.jalu.configme.configurationdata.ConfigurationData#setConversionProfiler
+ * ConfigurationData#setConversionProfiler}. The recorded values are accumulated over all loads and reloads.
+ * Optionally, a report can be passed to a consumer (e.g. a logger) after every load.
+ * <p>
+ * Allocations are measured with {@link com.sun.management.ThreadMXBean#getThreadAllocatedBytes(long)}; on JVMs
+ * which don't support it, only the time is recorded and allocated bytes are reported as -1.
+ */
+public class ConversionProfiler {
+
+    private final @Nullable com.sun.management.ThreadMXBean threadBean = getThreadBeanIfSupported();
+    private final Map<String, Stats> statsByPath = new LinkedHashMap<>();
+    private @Nullable Consumer<String> reportConsumer;
+    private int reportLimit;
+
+    /**
+     * Makes this profiler pass a report of the slowest conversions to the given consumer after every load.
+     *
+     * @param limit the maximum number of conversions to include in the report
+     * @param reportConsumer the consumer to pass the report to (e.g. {@code logger::info})
+     * @return this profiler
+     */
+    public @NotNull ConversionProfiler reportAfterEachLoad(int limit, @NotNull Consumer<String> reportConsumer) {
+        this.reportLimit = limit;
+        this.reportConsumer = reportConsumer;
+        return this;
+    }
+
+    /**
+     * Returns the number of bytes allocated so far by the current thread, which the configuration data uses to
+     * determine the allocations of a property's conversion.
+     *
+     * @return bytes allocated by the current thread, or -1 if not supported
+     */
+    public long getAllocatedBytesOfCurrentThread() {
+        return threadBean == null ? -1 : threadBean.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    /**
+     * Records the conversion of a property's value.
+     *
+     * @param path the path of the property
+     * @param nanos time taken by the conversion
+     * @param allocatedBytes bytes allocated by the conversion, or -1 if unknown
+     */
+    public synchronized void recordConversion(@NotNull String path, long nanos, long allocatedBytes) {
+        statsByPath.computeIfAbsent(path, p -> new Stats()).add(nanos, allocatedBytes);
+    }
+
+    /**
+     * Called by the configuration data after all properties have been initialized.
+     */
+    public void onLoadFinished() {
+        if (reportConsumer != null) {
+            reportConsumer.accept(createReport(reportLimit));
+        }
+    }
+
+    /**
+     * @return the recorded conversions of all properties, in the order they were first recorded
+     */
+    public synchronized @NotNull List<ConversionProfile> getProfiles() {
+        List<ConversionProfile> profiles = new ArrayList<>(statsByPath.size());
+        statsByPath.forEach((path, stats) -> profiles.add(stats.toProfile(path)));
+        return profiles;
+    }
+
+    /**
+     * Returns the properties whose conversions took the most time in total, in descending order.
+     *
+     * @param limit the maximum number of entries to return
+     * @return the slowest conversions
+     */
+    public @NotNull List<ConversionProfile> getSlowestConversions(int limit) {
+        return getProfiles().stream()
+            .sorted(Comparator.comparingLong(ConversionProfile::getTotalNanos).reversed())
+            .limit(limit)
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * Removes all recorded values.
+     */
+    public synchronized void reset() {
+        statsByPath.clear();
+    }
+
+    /**
+     * Creates a human-readable report of the slowest conversions.
+     *
+     * @param limit the maximum number of conversions to include
+     * @return report of the slowest conversions
+     */
+    public @NotNull String createReport(int limit) {
+        StringBuilder sb = new StringBuilder("Slowest property conversions:");
+        for (ConversionProfile profile : getSlowestConversions(limit)) {
+            sb.append("\n  ").append(profile.getPath())
+                .append(": ").append(TimeUnit.NANOSECONDS.toMicros(profile.getAverageNanos())).append(" us avg, ")
+                .append(TimeUnit.NANOSECONDS.toMicros(profile.getMaxNanos())).append(" us max");
+            if (profile.getAverageAllocatedBytes() >= 0) {
+                sb.append(", ").append(profile.getAverageAllocatedBytes()).append(" bytes avg");
+            }
+            sb.append(" (").append(profile.getConversions()).append(" conversions)");
+        }
+        return sb.toString();
+    }
+
+    private static @Nullable com.sun.management.ThreadMXBean getThreadBeanIfSupported() {
+        try {
+            ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+            if (bean instanceof com.sun.management.ThreadMXBean) {
+                com.sun.management.ThreadMXBean threadBean = (com.sun.management.ThreadMXBean) bean;
+                if (threadBean.isThreadAllocatedMemorySupported() && threadBean.isThreadAllocatedMemoryEnabled()) {
+                    return threadBean;
+                }
+            }
+        } catch (LinkageError | UnsupportedOperationException e) {
+            // com.sun.management is not available on this JVM
+        }
+        return null;
+    }
+
+    private static final class Stats {
+
+        private long conversions;
+        private long totalNanos;
+        private long maxNanos;
+        private long totalAllocatedBytes;
+
+        void add(long nanos, long allocatedBytes) {
+            ++conversions;
+            totalNanos += nanos;
+            maxNanos = Math.max(maxNanos, nanos);
+            if (allocatedBytes < 0 || totalAllocatedBytes < 0) {
+                totalAllocatedBytes = -1;
+            } else {
+                totalAllocatedBytes += allocatedBytes;
+            }
+        }
+
+        @NotNull ConversionProfile toProfile(@NotNull String path) {
+            return new ConversionProfile(path, conversions, totalNanos, maxNanos, totalAllocatedBytes);
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package ch.jalu.configme.instrumentation;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JFR event: reading and parsing of a YAML file.
+ * Only to be used via {@link FlightRecorderEvents}.
+ */
+@Name("ch.jalu.configme.FileRead")
+@Label("ConfigMe File Read")
+@Category("ConfigMe")
+@Description("Reading and parsing of a YAML file")
+class FileReadEvent extends jdk.jfr.Event {
+
+    @Label("Path")
+    @Description("Path of the file")
+    String path;
+
+    @Label("Size")
+    @Description("Size of the file in bytes")
+    @DataAmount
+    long bytes;
+}
@@ -0,0 +1,31 @@
+package ch.jalu.configme.instrumentation;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JFR event: export of properties to a YAML file.
+ * Only to be used via {@link FlightRecorderEvents}.
+ */
+@Name("ch.jalu.configme.FileWrite")
+@Label("ConfigMe File Write")
+@Category("ConfigMe")
+@Description("Export of properties to a YAML file")
+class FileWriteEvent extends jdk.jfr.Event {
+
+    @Label("Path")
+    @Description("Path of the file")
+    String path;
+
+    @Label("Property Count")
+    @Description("Number of properties")
+    int propertyCount;
+
+    @Label("Size")
+    @Description("Size of the written file in bytes")
+    @DataAmount
+    long bytes;
+}
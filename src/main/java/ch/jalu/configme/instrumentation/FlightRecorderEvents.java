@@ -0,0 +1,156 @@
+package ch.jalu.configme.instrumentation;
+
+import ch.jalu.configme.configurationdata.ConfigurationData;
+import ch.jalu.configme.utils.TypeInformation;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.nio.file.Path;
+
+/**
+ * Emits ConfigMe's Java Flight Recorder (JFR) events. The events can be recorded with JFR's usual means,
+ * e.g. {@code -XX:StartFlightRecording}, and are grouped in the "ConfigMe" category.
+ * <p>
+ * ConfigMe runs on Java 8, where JFR might not be present. The event classes are therefore never referenced
+ * outside of this class: each {@code begin} method returns the started event as an opaque object, or {@code null}
+ * if JFR is not available, and the corresponding {@code commit} method must be called with that object.
+ * (The event types are not even used in signatures, as the bytecode verifier would have to load them.)
+ * If JFR is available but the event is not enabled, the event's fields are not computed.
+ * <p>
+ * This class is used internally by ConfigMe and is not intended to be called by other code.
+ */
+public final class FlightRecorderEvents {
+
+    private static final boolean AVAILABLE = isFlightRecorderPresent();
+
+    private FlightRecorderEvents() {
+    }
+
+    /**
+     * @return true if JFR events are emitted, false if JFR is not present in this JVM
+     */
+    public static boolean isAvailable() {
+        return AVAILABLE;
+    }
+
+    public static @Nullable Object beginLoad() {
+        if (!AVAILABLE) {
+            return null;
+        }
+        LoadEvent loadEvent = new LoadEvent();
+        loadEvent.begin();
+        return loadEvent;
+    }
+
+    public static void commitLoad(@Nullable Object event, boolean reload,
+                                  @NotNull ConfigurationData configurationData, boolean migrationRewrite) {
+        if (event != null && ((LoadEvent) event).shouldCommit()) {
+            LoadEvent loadEvent = (LoadEvent) event;
+            loadEvent.reload = reload;
+            loadEvent.propertyCount = configurationData.getProperties().size();
+            loadEvent.invalidValueCount = configurationData.getNumberOfInvalidValuesInResource();
+            loadEvent.migrationRewrite = migrationRewrite;
+            loadEvent.commit();
+        }
+    }
+
+    public static @Nullable Object beginMigration() {
+        if (!AVAILABLE) {
+            return null;
+        }
+        MigrationEvent migrationEvent = new MigrationEvent();
+        migrationEvent.begin();
+        return migrationEvent;
+    }
+
+    public static void commitMigration(@Nullable Object event, boolean migrationPerformed) {
+        if (event != null && ((MigrationEvent) event).shouldCommit()) {
+            MigrationEvent migrationEvent = (MigrationEvent) event;
+            migrationEvent.migrationPerformed = migrationPerformed;
+            migrationEvent.commit();
+        }
+    }
+
+    public static @Nullable Object beginSave() {
+        if (!AVAILABLE) {
+            return null;
+        }
+        SaveEvent saveEvent = new SaveEvent();
+        saveEvent.begin();
+        return saveEvent;
+    }
+
+    public static void commitSave(@Nullable Object event, @NotNull ConfigurationData configurationData) {
+        if (event != null && ((SaveEvent) event).shouldCommit()) {
+            SaveEvent saveEvent = (SaveEvent) event;
+            saveEvent.propertyCount = configurationData.getProperties().size();
+            saveEvent.commit();
+        }
+    }
+
+    public static @Nullable Object beginFileRead() {
+        if (!AVAILABLE) {
+            return null;
+        }
+        FileReadEvent fileReadEvent = new FileReadEvent();
+        fileReadEvent.begin();
+        return fileReadEvent;
+    }
+
+    public static void commitFileRead(@Nullable Object event, @NotNull Path path, long bytes) {
+        if (event != null && ((FileReadEvent) event).shouldCommit()) {
+            FileReadEvent fileReadEvent = (FileReadEvent) event;
+            fileReadEvent.path = path.toString();
+            fileReadEvent.bytes = bytes;
+            fileReadEvent.commit();
+        }
+    }
+
+    public static @Nullable Object beginFileWrite() {
+        if (!AVAILABLE) {
+            return null;
+        }
+        FileWriteEvent fileWriteEvent = new FileWriteEvent();
+        fileWriteEvent.begin();
+        return fileWriteEvent;
+    }
+
+    public static void commitFileWrite(@Nullable Object event, @NotNull Path path,
+                                       @NotNull ConfigurationData configurationData, long bytes) {
+        if (event != null && ((FileWriteEvent) event).shouldCommit()) {
+            FileWriteEvent fileWriteEvent = (FileWriteEvent) event;
+            fileWriteEvent.path = path.toString();
+            fileWriteEvent.propertyCount = configurationData.getProperties().size();
+            fileWriteEvent.bytes = bytes;
+            fileWriteEvent.commit();
+        }
+    }
+
+    public static @Nullable Object beginBeanMapping() {
+        if (!AVAILABLE) {
+            return null;
+        }
+        BeanMappingEvent beanMappingEvent = new BeanMappingEvent();
+        beanMappingEvent.begin();
+        return beanMappingEvent;
+    }
+
+    public static void commitBeanMapping(@Nullable Object event, @NotNull TypeInformation beanType,
+                                         boolean successful) {
+        if (event != null && ((BeanMappingEvent) event).shouldCommit()) {
+            BeanMappingEvent beanMappingEvent = (BeanMappingEvent) event;
+            beanMappingEvent.beanType = beanType.getType() == null ? null : beanType.getType().getTypeName();
+            beanMappingEvent.successful = successful;
+            beanMappingEvent.commit();
+        }
+    }
+
+    private static boolean isFlightRecorderPresent() {
+        try {
+            Class.forName("jdk.jfr.Event", false, FlightRecorderEvents.class.getClassLoader());
+            return true;
+        } catch (ClassNotFoundException | LinkageError e) {
+            return false;
+        }
+    }
+}
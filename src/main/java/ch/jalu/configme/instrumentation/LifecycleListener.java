@@ -0,0 +1,81 @@
+package ch.jalu.configme.instrumentation;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.nio.file.Path;
+
+/**
+ * Receives timings and counters of the phases a settings manager goes through when it loads, migrates and saves
+ * the configuration. Register a listener with
+ * {@link ch.jalu.configme.SettingsManagerBuilder#lifecycleListener SettingsManagerBuilder#lifecycleListener}.
+ * <p>
+ * All methods have an empty default implementation so that only the phases of interest need to be implemented.
+ * Durations are in nanoseconds. Methods are called on the thread that performs the operation, so implementations
+ * should return quickly. If no listener is registered, no timings are taken at all.
+ * <p>
+ * The phases related to the file are only reported by property resources which support it, such as
+ * {@link ch.jalu.configme.resource.YamlFileResource YamlFileResource}.
+ */
+public interface LifecycleListener {
+
+    /**
+     * Called after the contents of a file have been read, before they are parsed.
+     *
+     * @param file the file that was read
+     * @param bytes number of bytes read
+     * @param nanos time taken to read the file
+     */
+    default void onFileRead(@NotNull Path file, long bytes, long nanos) {
+    }
+
+    /**
+     * Called after the contents of a file have been parsed as YAML.
+     *
+     * @param file the file whose contents were parsed
+     * @param nanos time taken to parse the contents
+     */
+    default void onYamlParsed(@NotNull Path file, long nanos) {
+    }
+
+    /**
+     * Called after the map parsed from a file has been normalized
+     * (see {@link ch.jalu.configme.resource.MapNormalizer MapNormalizer}).
+     *
+     * @param file the file whose contents were normalized
+     * @param nanos time taken to normalize the map
+     */
+    default void onMapNormalized(@NotNull Path file, long nanos) {
+    }
+
+    /**
+     * Called after the values of all properties have been determined from the property reader
+     * (see {@link ch.jalu.configme.configurationdata.ConfigurationData#initializeValues}).
+     *
+     * @param propertyCount the number of properties
+     * @param invalidValueCount number of properties whose value was not fully valid in the resource
+     * @param nanos time taken to convert all properties
+     */
+    default void onValuesInitialized(int propertyCount, int invalidValueCount, long nanos) {
+    }
+
+    /**
+     * Called after the migration service has checked the configuration. Not called if the settings manager
+     * has no migration service.
+     *
+     * @param migrationPerformed true if a migration was performed, i.e. the configuration will be saved
+     * @param nanos time taken by the migration service
+     */
+    default void onMigrationChecked(boolean migrationPerformed, long nanos) {
+    }
+
+    /**
+     * Called after the properties have been written to a file.
+     *
+     * @param file the file that was written to
+     * @param propertyCount the number of properties that were exported
+     * @param bytesWritten the number of bytes written to the file, or -1 if unknown
+     * @param nanos time taken to export the properties
+     */
+    default void onPropertiesExported(@NotNull Path file, int propertyCount, long bytesWritten, long nanos) {
+    }
+}
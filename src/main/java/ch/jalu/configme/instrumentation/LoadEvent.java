@@ -0,0 +1,33 @@
+package ch.jalu.configme.instrumentation;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JFR event: loading of the configuration by a settings manager, including migrations and the resulting save.
+ * Only to be used via {@link FlightRecorderEvents}.
+ */
+@Name("ch.jalu.configme.Load")
+@Label("ConfigMe Load")
+@Category("ConfigMe")
+@Description("Loading of the configuration by a settings manager, including migrations and the resulting save")
+class LoadEvent extends jdk.jfr.Event {
+
+    @Label("Reload")
+    @Description("Whether the configuration was reloaded (as opposed to loaded initially)")
+    boolean reload;
+
+    @Label("Property Count")
+    @Description("Number of properties")
+    int propertyCount;
+
+    @Label("Invalid Values")
+    @Description("Number of properties whose value was not fully valid in the resource")
+    int invalidValueCount;
+
+    @Label("Migration Rewrite")
+    @Description("Whether a migration caused the configuration to be saved")
+    boolean migrationRewrite;
+}
@@ -0,0 +1,21 @@
+package ch.jalu.configme.instrumentation;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JFR event: check of the configuration by the migration service.
+ * Only to be used via {@link FlightRecorderEvents}.
+ */
+@Name("ch.jalu.configme.Migration")
+@Label("ConfigMe Migration")
+@Category("ConfigMe")
+@Description("Check of the configuration by the migration service")
+class MigrationEvent extends jdk.jfr.Event {
+
+    @Label("Migration Performed")
+    @Description("Whether a migration was performed, i.e. the configuration is saved")
+    boolean migrationPerformed;
+}
@@ -0,0 +1,45 @@
+package ch.jalu.configme.instrumentation;
+
+import ch.jalu.configme.properties.Property;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Number of times a property was read and written, as counted by an {@link AccessCountingSettingsManager}.
+ * Instances are immutable snapshots.
+ */
+public class PropertyAccessCount {
+
+    private final Property<?> property;
+    private final long reads;
+    private final long writes;
+
+    /**
+     * Constructor.
+     *
+     * @param property the property
+     * @param reads the number of times the property was read
+     * @param writes the number of times the property was written
+     */
+    public PropertyAccessCount(@NotNull Property<?> property, long reads, long writes) {
+        this.property = property;
+        this.reads = reads;
+        this.writes = writes;
+    }
+
+    public @NotNull Property<?> getProperty() {
+        return property;
+    }
+
+    public long getReads() {
+        return reads;
+    }
+
+    public long getWrites() {
+        return writes;
+    }
+
+    @Override
+    public @NotNull String toString() {
+        return "PropertyAccessCount[path=" + property.getPath() + ", reads=" + reads + ", writes=" + writes + "]";
+    }
+}
@@ -0,0 +1,207 @@
+package ch.jalu.configme.instrumentation;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.SortedSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Estimates the heap size retained by objects such as the values of a configuration. Objects are deduplicated by
+ * identity over the lifetime of an estimator: an object that was already counted is not counted again, so that the
+ * estimates of multiple values can be summed up.
+ * <p>
+ * The estimate assumes a 64-bit JVM with compressed references (12-byte object headers, 4-byte references,
+ * 8-byte alignment). Strings, boxed values, arrays, collections, maps and {@link Optional} are handled specifically:
+ * the internals of collections and maps are approximated based on their size, as they cannot be inspected
+ * reflectively on newer Java versions. All other objects (e.g. beans) are traversed via their fields. Enum entries
+ * and classes are considered to be retained elsewhere and are not counted.
+ */
+public class RetainedSizeEstimator {
+
+    private static final int OBJECT_HEADER = 12;
+    private static final int ARRAY_HEADER = 16;
+    private static final int REFERENCE = 4;
+
+    private final Set<Object> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+    private final Map<Class<?>, ClassLayout> layouts = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the estimated number of bytes retained by the given object and everything it references, excluding
+     * objects which have already been counted by this estimator.
+     *
+     * @param object the object to estimate (may be null)
+     * @return estimated retained size in bytes
+     */
+    public long estimate(@Nullable Object object) {
+        if (object == null || object instanceof Enum<?> || object instanceof Class<?> || !visited.add(object)) {
+            return 0;
+        }
+
+        if (object instanceof String) {
+            return estimateString((String) object);
+        } else if (object instanceof Number || object instanceof Boolean || object instanceof Character) {
+            return getLayout(object.getClass()).shallowSize;
+        } else if (object.getClass().isArray()) {
+            return estimateArray(object);
+        } else if (object instanceof Map<?, ?>) {
+            return estimateMap((Map<?, ?>) object);
+        } else if (object instanceof Collection<?>) {
+            return estimateCollection((Collection<?>) object);
+        } else if (object instanceof Optional<?>) {
+            return align(OBJECT_HEADER + REFERENCE) + estimate(((Optional<?>) object).orElse(null));
+        }
+        return estimateFields(object);
+    }
+
+    private long estimateString(@NotNull String string) {
+        // String object (hash, coder, value reference) + byte array, assuming compact Latin-1 strings where possible
+        boolean isLatin1 = string.chars().allMatch(c -> c < 256);
+        return align(OBJECT_HEADER + 4 + 1 + REFERENCE)
+            + align(ARRAY_HEADER + (long) string.length() * (isLatin1 ? 1 : 2));
+    }
+
+    private long estimateArray(@NotNull Object array) {
+        Class<?> componentType = array.getClass().getComponentType();
+        int length = Array.getLength(array);
+        long size = align(ARRAY_HEADER + (long) length * getFieldSize(componentType));
+        if (!componentType.isPrimitive()) {
+            for (int i = 0; i < length; ++i) {
+                size += estimate(Array.get(array, i));
+            }
+        }
+        return size;
+    }
+
+    private long estimateMap(@NotNull Map<?, ?> map) {
+        long size;
+        if (map instanceof SortedMap<?, ?>) {
+            size = estimateTree(map.size());
+        } else {
+            size = estimateHashTable(map.size(), map instanceof LinkedHashMap<?, ?>);
+        }
+        for (Map.Entry<?, ?> entry : map.entrySet()) {
+            size += estimate(entry.getKey()) + estimate(entry.getValue());
+        }
+        return size;
+    }
+
+    private long estimateCollection(@NotNull Collection<?> collection) {
+        long size;
+        if (collection instanceof SortedSet<?>) {
+            // TreeSet: object wrapping a TreeMap
+            size = align(OBJECT_HEADER + REFERENCE) + estimateTree(collection.size());
+        } else if (collection instanceof Set<?>) {
+            // HashSet: object wrapping a HashMap
+            size = align(OBJECT_HEADER + REFERENCE)
+                + estimateHashTable(collection.size(), collection instanceof LinkedHashSet<?>);
+        } else {
+            // ArrayList: object (size, modCount, array reference) + array
+            size = align(OBJECT_HEADER + 8 + REFERENCE) + align(ARRAY_HEADER + (long) collection.size() * REFERENCE);
+        }
+        for (Object element : collection) {
+            size += estimate(element);
+        }
+        return size;
+    }
+
+    private static long estimateTree(int entries) {
+        // TreeMap: object + one entry (key, value, left, right, parent, color) per element
+        return align(OBJECT_HEADER + 5 * REFERENCE + 8) + entries * align(OBJECT_HEADER + 5L * REFERENCE + 1);
+    }
+
+    private static long estimateHashTable(int entries, boolean isLinked) {
+        int capacity = 16;
+        while (capacity * 0.75 < entries) {
+            capacity <<= 1;
+        }
+        long mapObject = align(OBJECT_HEADER + 4 * REFERENCE + 16 + (isLinked ? 2 * REFERENCE + 1 : 0));
+        long table = align(ARRAY_HEADER + (long) capacity * REFERENCE);
+        // Node: hash, key, value, next (+ before, after for linked maps)
+        long node = align(OBJECT_HEADER + 4 + 3 * REFERENCE + (isLinked ? 2 * REFERENCE : 0));
+        return mapObject + table + entries * node;
+    }
+
+    private long estimateFields(@NotNull Object object) {
+        ClassLayout layout = getLayout(object.getClass());
+        long size = layout.shallowSize;
+        for (Field field : layout.referenceFields) {
+            try {
+                size += estimate(field.get(object));
+            } catch (IllegalAccessException e) {
+                // Field is not accessible: only its reference has been counted
+            }
+        }
+        return size;
+    }
+
+    private @NotNull ClassLayout getLayout(@NotNull Class<?> clazz) {
+        return layouts.computeIfAbsent(clazz, ClassLayout::new);
+    }
+
+    private static int getFieldSize(@NotNull Class<?> type) {
+        if (type == long.class || type == double.class) {
+            return 8;
+        } else if (type == int.class || type == float.class) {
+            return 4;
+        } else if (type == short.class || type == char.class) {
+            return 2;
+        } else if (type == byte.class || type == boolean.class) {
+            return 1;
+        }
+        return REFERENCE;
+    }
+
+    private static long align(long size) {
+        return (size + 7) & ~7L;
+    }
+
+    /**
+     * Shallow size and accessible reference fields of a class.
+     */
+    private static final class ClassLayout {
+
+        private final long shallowSize;
+        private final List<Field> referenceFields = new ArrayList<>();
+
+        ClassLayout(@NotNull Class<?> clazz) {
+            long fieldsSize = 0;
+            for (Class<?> current = clazz; current != null; current = current.getSuperclass()) {
+                for (Field field : current.getDeclaredFields()) {
+                    if (Modifier.isStatic(field.getModifiers())) {
+                        continue;
+                    }
+                    fieldsSize += getFieldSize(field.getType());
+                    if (!field.getType().isPrimitive() && trySetAccessible(field)) {
+                        referenceFields.add(field);
+                    }
+                }
+            }
+            this.shallowSize = align(OBJECT_HEADER + fieldsSize);
+        }
+
+        private static boolean trySetAccessible(@NotNull Field field) {
+            try {
+                field.setAccessible(true);
+                return true;
+            } catch (RuntimeException e) {
+                // InaccessibleObjectException on Java 9+ for classes of other modules
+                return false;
+            }
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package ch.jalu.configme.instrumentation;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JFR event: saving of the configuration by a settings manager.
+ * Only to be used via {@link FlightRecorderEvents}.
+ */
+@Name("ch.jalu.configme.Save")
+@Label("ConfigMe Save")
+@Category("ConfigMe")
+@Description("Saving of the configuration by a settings manager")
+class SaveEvent extends jdk.jfr.Event {
+
+    @Label("Property Count")
+    @Description("Number of properties")
+    int propertyCount;
+}
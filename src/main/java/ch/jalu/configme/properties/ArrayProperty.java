@@ -34,6 +34,7 @@ public class ArrayProperty<T> extends BaseProperty<T[]> {
     @Override
     protected T @Nullable [] getFromReader(@NotNull PropertyReader reader, @NotNull ConvertErrorRecorder errorRecorder) {
         Object object = reader.getObject(this.getPath());
+        errorRecorder.setRawValue(object);
         if (object instanceof Collection<?>) {
             Collection<?> collection = (Collection<?>) object;
             return collection.stream()
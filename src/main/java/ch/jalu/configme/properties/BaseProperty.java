@@ -1,11 +1,13 @@
 package ch.jalu.configme.properties;
 
+import ch.jalu.configme.properties.convertresult.ConversionDiagnostic;
 import ch.jalu.configme.properties.convertresult.ConvertErrorRecorder;
 import ch.jalu.configme.properties.convertresult.PropertyValue;
 import ch.jalu.configme.resource.PropertyReader;
 import org.jetbrains.annotations.NotNull;
 
 import org.jetbrains.annotations.Nullable;
+import java.util.Collections;
 import java.util.Objects;
 
 /**
@@ -19,6 +21,7 @@ import java.util.Objects;
 public abstract class BaseProperty<T> implements Property<T> {
 
     private final String path;
+    private final PropertyPath propertyPath;
     private final T defaultValue;
 
     /**
@@ -31,6 +34,7 @@ public abstract class BaseProperty<T> implements Property<T> {
         Objects.requireNonNull(path, "path");
         Objects.requireNonNull(defaultValue, "defaultValue");
         this.path = path;
+        this.propertyPath = PropertyPath.of(path);
         this.defaultValue = defaultValue;
     }
 
@@ -39,6 +43,11 @@ public abstract class BaseProperty<T> implements Property<T> {
         return path;
     }
 
+    @Override
+    public @NotNull PropertyPath getPropertyPath() {
+        return propertyPath;
+    }
+
     @Override
     public @NotNull T getDefaultValue() {
         return defaultValue;
@@ -46,12 +55,17 @@ public abstract class BaseProperty<T> implements Property<T> {
 
     @Override
     public @NotNull PropertyValue<T> determineValue(@NotNull PropertyReader reader) {
-        ConvertErrorRecorder errorRecorder = new ConvertErrorRecorder();
+        ConvertErrorRecorder errorRecorder = new ConvertErrorRecorder(path);
         T value = getFromReader(reader, errorRecorder);
         if (isValidValue(value)) {
-            return new PropertyValue<>(value, errorRecorder.isFullyValid());
+            return new PropertyValue<>(value, errorRecorder.isFullyValid(), errorRecorder.getDiagnostics());
         }
-        return PropertyValue.withValueRequiringRewrite(getDefaultValue());
+
+        Object rawValue = errorRecorder.hasRawValue() ? errorRecorder.getRawValue() : reader.getObject(propertyPath);
+        ConversionDiagnostic diagnostic = new ConversionDiagnostic(
+            rawValue == null ? ConversionDiagnostic.Kind.MISSING_VALUE : ConversionDiagnostic.Kind.INVALID_VALUE,
+            path, "", rawValue, null);
+        return new PropertyValue<>(getDefaultValue(), false, Collections.singletonList(diagnostic));
     }
 
     @Override
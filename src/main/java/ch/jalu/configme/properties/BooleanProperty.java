@@ -1,7 +1,10 @@
 package ch.jalu.configme.properties;
 
+import ch.jalu.configme.properties.convertresult.ConvertErrorRecorder;
 import ch.jalu.configme.properties.types.PrimitivePropertyType;
+import ch.jalu.configme.resource.PropertyReader;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * Boolean property. This extension exists for convenience and backwards compatibility.
@@ -11,4 +14,11 @@ public class BooleanProperty extends TypeBasedProperty<Boolean> {
     public BooleanProperty(@NotNull String path, @NotNull Boolean defaultValue) {
         super(path, defaultValue, PrimitivePropertyType.BOOLEAN);
     }
+
+    @Override
+    protected @Nullable Boolean getFromReader(@NotNull PropertyReader reader,
+                                              @NotNull ConvertErrorRecorder errorRecorder) {
+        // false may mark an absent value; only read the value as object if it is returned
+        return reader.getBoolean(getPath(), false) ? Boolean.TRUE : super.getFromReader(reader, errorRecorder);
+    }
 }
@@ -1,7 +1,10 @@
 package ch.jalu.configme.properties;
 
+import ch.jalu.configme.properties.convertresult.ConvertErrorRecorder;
 import ch.jalu.configme.properties.types.PrimitivePropertyType;
+import ch.jalu.configme.resource.PropertyReader;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * Double property. This extension exists for convenience and backwards compatibility.
@@ -11,4 +14,12 @@ public class DoubleProperty extends TypeBasedProperty<Double> {
     public DoubleProperty(@NotNull String path, double defaultValue) {
         super(path, defaultValue, PrimitivePropertyType.DOUBLE);
     }
+
+    @Override
+    protected @Nullable Double getFromReader(@NotNull PropertyReader reader,
+                                             @NotNull ConvertErrorRecorder errorRecorder) {
+        // NaN marks an absent value; only read the value as object if it is returned
+        double value = reader.getDouble(getPath(), Double.NaN);
+        return Double.isNaN(value) ? super.getFromReader(reader, errorRecorder) : Double.valueOf(value);
+    }
 }
@@ -1,7 +1,10 @@
 package ch.jalu.configme.properties;
 
+import ch.jalu.configme.properties.convertresult.ConvertErrorRecorder;
 import ch.jalu.configme.properties.types.PrimitivePropertyType;
+import ch.jalu.configme.resource.PropertyReader;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * Integer property. This extension exists for convenience and backwards compatibility.
@@ -11,4 +14,12 @@ public class IntegerProperty extends TypeBasedProperty<Integer> {
     public IntegerProperty(@NotNull String path, @NotNull Integer defaultValue) {
         super(path, defaultValue, PrimitivePropertyType.INTEGER);
     }
+
+    @Override
+    protected @Nullable Integer getFromReader(@NotNull PropertyReader reader,
+                                              @NotNull ConvertErrorRecorder errorRecorder) {
+        // Integer.MIN_VALUE marks an absent value; only read the value as object if it is returned
+        int value = reader.getInt(getPath(), Integer.MIN_VALUE);
+        return value == Integer.MIN_VALUE ? super.getFromReader(reader, errorRecorder) : Integer.valueOf(value);
+    }
 }
@@ -1,7 +1,10 @@
 package ch.jalu.configme.properties;
 
+import ch.jalu.configme.properties.convertresult.ConvertErrorRecorder;
 import ch.jalu.configme.properties.types.PrimitivePropertyType;
+import ch.jalu.configme.resource.PropertyReader;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * Long property. This extension exists for convenience and backwards compatibility.
@@ -11,4 +14,12 @@ public class LongProperty extends TypeBasedProperty<Long> {
     public LongProperty(@NotNull String path, @NotNull Long defaultValue) {
         super(path, defaultValue, PrimitivePropertyType.LONG);
     }
+
+    @Override
+    protected @Nullable Long getFromReader(@NotNull PropertyReader reader,
+                                           @NotNull ConvertErrorRecorder errorRecorder) {
+        // Long.MIN_VALUE marks an absent value; only read the value as object if it is returned
+        long value = reader.getLong(getPath(), Long.MIN_VALUE);
+        return value == Long.MIN_VALUE ? super.getFromReader(reader, errorRecorder) : Long.valueOf(value);
+    }
 }
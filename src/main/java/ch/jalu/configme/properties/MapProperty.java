@@ -37,6 +37,7 @@ public class MapProperty<V> extends BaseProperty<Map<String, V>> {
     @Override
     protected @Nullable Map<String, V> getFromReader(@NotNull PropertyReader reader, @NotNull ConvertErrorRecorder errorRecorder) {
         Object rawObject = reader.getObject(getPath());
+        errorRecorder.setRawValue(rawObject);
 
         if (!(rawObject instanceof Map<?, ?>)) {
             return null;
@@ -23,6 +23,16 @@ public interface Property<T> {
      */
     @NotNull String getPath();
 
+    /**
+     * Returns the path of the property, split into its segments. {@link BaseProperty} creates this object once;
+     * the default implementation creates a new object on each call.
+     *
+     * @return the path of the property
+     */
+    default @NotNull PropertyPath getPropertyPath() {
+        return PropertyPath.of(getPath());
+    }
+
     /**
      * Returns the value, based on the given reader, which should be used for this property. By default
      * this is the value as constructed from the reader, and otherwise the default value. Implementations
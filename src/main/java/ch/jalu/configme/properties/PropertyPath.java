@@ -0,0 +1,143 @@
+package ch.jalu.configme.properties;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Path of a property, split into its segments. Properties create their path object once so that the path does not
+ * need to be split again whenever it is processed (e.g. when a property list is built or when properties are
+ * exported to a file).
+ * <p>
+ * The segments are determined like {@code path.split("\\.")}: a path is split at every dot and trailing empty
+ * segments are dropped. The segments are interned, as the same segments typically occur in many property paths.
+ * Instances are immutable; two paths are equal if their string representations are equal.
+ */
+public final class PropertyPath {
+
+    private final String path;
+    private final List<String> segments;
+    private final int hash;
+    private @Nullable PropertyPath parent;
+
+    private PropertyPath(@NotNull String path, @NotNull List<String> segments) {
+        this.path = path;
+        this.segments = segments;
+        this.hash = path.hashCode();
+    }
+
+    /**
+     * Creates a property path from the given string.
+     *
+     * @param path the path (segments separated by ".")
+     * @return the property path
+     */
+    public static @NotNull PropertyPath of(@NotNull String path) {
+        return new PropertyPath(path, Collections.unmodifiableList(split(path)));
+    }
+
+    /**
+     * @return the path as string
+     */
+    public @NotNull String getPath() {
+        return path;
+    }
+
+    /**
+     * @return the segments of this path (unmodifiable)
+     */
+    public @NotNull List<String> getSegments() {
+        return segments;
+    }
+
+    /**
+     * @return the number of segments
+     */
+    public int getSegmentCount() {
+        return segments.size();
+    }
+
+    /**
+     * @return the last segment of this path, or an empty string if the path has no segments
+     */
+    public @NotNull String getLastSegment() {
+        return segments.isEmpty() ? "" : segments.get(segments.size() - 1);
+    }
+
+    /**
+     * Returns the path of the parent, i.e. this path without its last segment. Returns null if this path has at most
+     * one segment.
+     *
+     * @return the parent path, or null if there is none
+     */
+    public @Nullable PropertyPath getParent() {
+        if (parent == null && segments.size() > 1) {
+            List<String> parentSegments = segments.subList(0, segments.size() - 1);
+            parent = new PropertyPath(String.join(".", parentSegments), parentSegments);
+        }
+        return parent;
+    }
+
+    /**
+     * Creates the path of a child of this path.
+     *
+     * @param segment the segment to append
+     * @return path with the given segment appended
+     */
+    public @NotNull PropertyPath child(@NotNull String segment) {
+        if (path.isEmpty()) {
+            return new PropertyPath(segment, Collections.singletonList(segment.intern()));
+        }
+        List<String> childSegments = new ArrayList<>(segments.size() + 1);
+        childSegments.addAll(segments);
+        childSegments.add(segment.intern());
+        return new PropertyPath(path + "." + segment, Collections.unmodifiableList(childSegments));
+    }
+
+    @Override
+    public boolean equals(@Nullable Object obj) {
+        if (this == obj) {
+            return true;
+        } else if (obj instanceof PropertyPath) {
+            PropertyPath other = (PropertyPath) obj;
+            return hash == other.hash && path.equals(other.path);
+        }
+        return false;
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    @Override
+    public @NotNull String toString() {
+        return path;
+    }
+
+    private static @NotNull List<String> split(@NotNull String path) {
+        int dotIndex = path.indexOf('.');
+        if (dotIndex < 0) {
+            return Collections.singletonList(path.intern());
+        }
+
+        List<String> segments = new ArrayList<>();
+        int start = 0;
+        while (dotIndex >= 0) {
+            segments.add(path.substring(start, dotIndex).intern());
+            start = dotIndex + 1;
+            dotIndex = path.indexOf('.', start);
+        }
+        segments.add(path.substring(start).intern());
+
+        // Same as String#split: drop trailing empty segments
+        int size = segments.size();
+        while (size > 0 && segments.get(size - 1).isEmpty()) {
+            --size;
+        }
+        return size == segments.size() ? segments : new ArrayList<>(segments.subList(0, size));
+    }
+}
@@ -32,7 +32,9 @@ public class TypeBasedProperty<T> extends BaseProperty<T> {
 
     @Override
     protected @Nullable T getFromReader(@NotNull PropertyReader reader, @NotNull ConvertErrorRecorder errorRecorder) {
-        return type.convert(reader.getObject(getPath()), errorRecorder);
+        Object rawValue = reader.getObject(getPath());
+        errorRecorder.setRawValue(rawValue);
+        return type.convert(rawValue, errorRecorder);
     }
 
     @Override
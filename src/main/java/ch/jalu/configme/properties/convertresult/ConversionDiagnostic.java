@@ -0,0 +1,119 @@
+package ch.jalu.configme.properties.convertresult;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Describes an issue found while converting a value from the property resource, such as a missing value or a list
+ * entry that had to be skipped. Diagnostics only hold the data of the issue; the human-readable message is created
+ * lazily by {@link #getMessage()}.
+ *
+ * @see ConversionDiagnostics
+ */
+public class ConversionDiagnostic {
+
+    private final Kind kind;
+    private final String propertyPath;
+    private final String subPath;
+    private final @Nullable Object rawValue;
+    private final @Nullable String reason;
+
+    /**
+     * Constructor.
+     *
+     * @param kind the kind of issue
+     * @param propertyPath the path of the property whose value was converted
+     * @param subPath the path within the property's value where the issue occurred (empty string for the value itself)
+     * @param rawValue the value in the resource that could not be converted (null if not applicable)
+     * @param reason custom reason, for issues of kind {@link Kind#OTHER} (null if not applicable)
+     */
+    public ConversionDiagnostic(@NotNull Kind kind, @NotNull String propertyPath, @NotNull String subPath,
+                                @Nullable Object rawValue, @Nullable String reason) {
+        this.kind = kind;
+        this.propertyPath = propertyPath;
+        this.subPath = subPath;
+        this.rawValue = rawValue;
+        this.reason = reason;
+    }
+
+    public @NotNull Kind getKind() {
+        return kind;
+    }
+
+    public @NotNull String getPropertyPath() {
+        return propertyPath;
+    }
+
+    /**
+     * @return the path within the property's value at which the issue occurred, e.g. {@code [k=Bob].age} for the
+     *         value of a bean property; empty string if the issue concerns the property's value itself
+     */
+    public @NotNull String getSubPath() {
+        return subPath;
+    }
+
+    /**
+     * @return the full path at which the issue occurred (property path and sub path)
+     */
+    public @NotNull String getPath() {
+        if (subPath.isEmpty()) {
+            return propertyPath;
+        }
+        return propertyPath.isEmpty() ? subPath : propertyPath + "." + subPath;
+    }
+
+    public @Nullable Object getRawValue() {
+        return rawValue;
+    }
+
+    public @Nullable String getReason() {
+        return reason;
+    }
+
+    /**
+     * Creates a human-readable description of the issue.
+     *
+     * @return the message describing this issue
+     */
+    public @NotNull String getMessage() {
+        String description;
+        switch (kind) {
+            case MISSING_VALUE:
+                description = "No value found, using default value";
+                break;
+            case INVALID_VALUE:
+                description = "Invalid value '" + rawValue + "', using default value";
+                break;
+            case INVALID_ENTRY:
+                description = "Invalid entry '" + rawValue + "' was skipped";
+                break;
+            default:
+                description = reason == null ? "Error" : reason;
+        }
+        return "At path '" + getPath() + "': " + description;
+    }
+
+    @Override
+    public @NotNull String toString() {
+        return "ConversionDiagnostic[kind=" + kind + ", path=" + getPath() + "]";
+    }
+
+    /**
+     * Kind of issue found during conversion.
+     */
+    public enum Kind {
+
+        /** No value is present in the resource; a default value is used. */
+        MISSING_VALUE,
+
+        /** The value in the resource cannot be converted; a default value is used. */
+        INVALID_VALUE,
+
+        /** An entry of a collection or map cannot be converted and was skipped. */
+        INVALID_ENTRY,
+
+        /** Other issue, described by the diagnostic's reason. */
+        OTHER
+
+    }
+}
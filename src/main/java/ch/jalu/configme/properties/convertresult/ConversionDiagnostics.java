@@ -0,0 +1,54 @@
+package ch.jalu.configme.properties.convertresult;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Diagnostics of an initialization of configuration data, i.e. the {@link ConversionDiagnostic diagnostics} that
+ * were kept and the total number of issues. Only up to a maximum number of diagnostics are kept, so that a
+ * configuration with a large number of invalid entries does not retain an equally large number of diagnostics.
+ * <p>
+ * Instances are immutable.
+ */
+public final class ConversionDiagnostics {
+
+    private final List<ConversionDiagnostic> diagnostics;
+    private final int totalCount;
+
+    /**
+     * Constructor.
+     *
+     * @param diagnostics the diagnostics that were kept
+     * @param totalCount the total number of diagnostics, including those that were not kept
+     */
+    public ConversionDiagnostics(@NotNull List<ConversionDiagnostic> diagnostics, int totalCount) {
+        this.diagnostics = diagnostics.isEmpty()
+            ? Collections.emptyList()
+            : Collections.unmodifiableList(new ArrayList<>(diagnostics));
+        this.totalCount = Math.max(totalCount, this.diagnostics.size());
+    }
+
+    /**
+     * @return the kept diagnostics, in the order they were added (unmodifiable)
+     */
+    public @NotNull List<ConversionDiagnostic> getDiagnostics() {
+        return diagnostics;
+    }
+
+    /**
+     * @return the number of diagnostics that were added, including those that were not kept
+     */
+    public int getTotalCount() {
+        return totalCount;
+    }
+
+    /**
+     * @return true if diagnostics were dropped because the maximum was reached, false otherwise
+     */
+    public boolean isTruncated() {
+        return totalCount > diagnostics.size();
+    }
+}
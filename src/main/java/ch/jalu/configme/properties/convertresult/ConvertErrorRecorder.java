@@ -2,6 +2,11 @@ package ch.jalu.configme.properties.convertresult;
 
 import ch.jalu.configme.resource.PropertyReader;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 
 /**
  * Records errors during the conversion of a property to its Java value.
@@ -16,16 +21,69 @@ import org.jetbrains.annotations.NotNull;
  */
 public class ConvertErrorRecorder {
 
+    /** Maximum number of diagnostics kept per recorder. */
+    public static final int MAX_DIAGNOSTICS = 100;
+
+    private final String propertyPath;
     private boolean hasError;
+    private @Nullable Object rawValue;
+    private boolean hasRawValue;
+    private @Nullable List<ConversionDiagnostic> diagnostics;
+
+    /**
+     * Constructor for a recorder whose diagnostics have no property path.
+     */
+    public ConvertErrorRecorder() {
+        this("");
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param propertyPath the path of the property whose value is converted (used in diagnostics)
+     */
+    public ConvertErrorRecorder(@NotNull String propertyPath) {
+        this.propertyPath = propertyPath;
+    }
 
     /**
      * Registers that some error occurred during the conversion of the value. See class javadoc: no need to register
      * an error if the return value of the conversion implies there is an issue (such as returning null).
+     * <p>
+     * Prefer {@link #registerError(ConversionDiagnostic.Kind, String, Object)}, which does not require the caller
+     * to build a message.
      *
-     * @param reason the reason (not used in this implementation but may be extended for debugging)
+     * @param reason the reason, kept as diagnostic of kind {@link ConversionDiagnostic.Kind#OTHER}
      */
     public void setHasError(@NotNull String reason) {
+        registerError("", reason);
+    }
+
+    /**
+     * Registers that some error occurred during the conversion of the value. See class javadoc: no need to register
+     * an error if the return value of the conversion implies there is an issue (such as returning null).
+     *
+     * @param kind the kind of issue
+     * @param subPath the path within the property's value at which the issue occurred (empty string for the value
+     *                itself)
+     * @param rawValue the value that could not be converted (null if not applicable)
+     */
+    public void registerError(@NotNull ConversionDiagnostic.Kind kind, @NotNull String subPath,
+                              @Nullable Object rawValue) {
+        hasError = true;
+        addDiagnostic(new ConversionDiagnostic(kind, propertyPath, subPath, rawValue, null));
+    }
+
+    /**
+     * Registers that an error described by the given reason occurred during the conversion of the value.
+     *
+     * @param subPath the path within the property's value at which the issue occurred (empty string for the value
+     *                itself)
+     * @param reason the reason, kept as diagnostic of kind {@link ConversionDiagnostic.Kind#OTHER}
+     */
+    public void registerError(@NotNull String subPath, @NotNull String reason) {
         hasError = true;
+        addDiagnostic(new ConversionDiagnostic(ConversionDiagnostic.Kind.OTHER, propertyPath, subPath, null, reason));
     }
 
     /**
@@ -39,4 +97,47 @@ public class ConvertErrorRecorder {
     public boolean isFullyValid() {
         return !hasError;
     }
+
+    /**
+     * Records the value that was read from the resource for the property. If the property falls back to its
+     * default value, the value is used in the diagnostic so that it does not need to be read again.
+     *
+     * @param rawValue the value at the property's path in the resource (null if absent)
+     */
+    public void setRawValue(@Nullable Object rawValue) {
+        this.rawValue = rawValue;
+        this.hasRawValue = true;
+    }
+
+    /**
+     * @return true if the value read from the resource was recorded with {@link #setRawValue}, false otherwise
+     */
+    public boolean hasRawValue() {
+        return hasRawValue;
+    }
+
+    /**
+     * @return the value read from the resource as recorded with {@link #setRawValue}, or null if none was recorded
+     */
+    public @Nullable Object getRawValue() {
+        return rawValue;
+    }
+
+    /**
+     * Returns the diagnostics of the registered errors. At most {@link #MAX_DIAGNOSTICS} diagnostics are kept.
+     *
+     * @return the diagnostics of all registered errors (unmodifiable)
+     */
+    public @NotNull List<ConversionDiagnostic> getDiagnostics() {
+        return diagnostics == null ? Collections.emptyList() : Collections.unmodifiableList(diagnostics);
+    }
+
+    private void addDiagnostic(@NotNull ConversionDiagnostic diagnostic) {
+        if (diagnostics == null) {
+            diagnostics = new ArrayList<>();
+        }
+        if (diagnostics.size() < MAX_DIAGNOSTICS) {
+            diagnostics.add(diagnostic);
+        }
+    }
 }
@@ -3,6 +3,9 @@ package ch.jalu.configme.properties.convertresult;
 import ch.jalu.configme.properties.Property;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.Collections;
+import java.util.List;
+
 /**
  * Return value of {@link Property#determineValue}. Wraps the value to associate with the property, along with a field
  * indicating whether the value in the resource is present and fully valid according to the property's type.
@@ -19,6 +22,7 @@ public class PropertyValue<T> {
 
     private final T value;
     private final boolean isValidInResource;
+    private final List<ConversionDiagnostic> diagnostics;
 
     /**
      * Constructor.
@@ -27,8 +31,21 @@ public class PropertyValue<T> {
      * @param isValidInResource true if the value in the resource was fully valid
      */
     public PropertyValue(@NotNull T value, boolean isValidInResource) {
+        this(value, isValidInResource, Collections.emptyList());
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param value the value associated with the property
+     * @param isValidInResource true if the value in the resource was fully valid
+     * @param diagnostics the issues that were found in the resource's data
+     */
+    public PropertyValue(@NotNull T value, boolean isValidInResource,
+                         @NotNull List<ConversionDiagnostic> diagnostics) {
         this.value = value;
         this.isValidInResource = isValidInResource;
+        this.diagnostics = diagnostics;
     }
 
     /**
@@ -72,6 +89,14 @@ public class PropertyValue<T> {
         return isValidInResource;
     }
 
+    /**
+     * @return the issues that were found in the resource's data for this property (empty if none or not supported
+     *         by the property)
+     */
+    public @NotNull List<ConversionDiagnostic> getDiagnostics() {
+        return diagnostics;
+    }
+
     @Override
     public @NotNull String toString() {
         return "PropertyValue[valid=" + isValidInResource + ", value='" + value + "']";
@@ -0,0 +1,47 @@
+package ch.jalu.configme.resource;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.AbstractList;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * Compact, read-only list used to keep the values of a YAML file in memory. Lists consisting only of integers,
+ * longs or doubles are stored unboxed (see {@link CompactValues}); nested maps and lists are stored in their
+ * compact representation.
+ */
+final class CompactList extends AbstractList<Object> implements RandomAccess {
+
+    private final int size;
+    private final CompactValues values;
+
+    private CompactList(int size, @NotNull CompactValues values) {
+        this.size = size;
+        this.values = values;
+    }
+
+    /**
+     * Creates a compact list with the elements of the given list.
+     *
+     * @param list the list to copy
+     * @return compact list with the same elements
+     */
+    static @NotNull CompactList of(@NotNull List<?> list) {
+        return new CompactList(list.size(), CompactValues.of(list.toArray()));
+    }
+
+    @Override
+    public @Nullable Object get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        return values.get(index);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+}
@@ -0,0 +1,193 @@
+package ch.jalu.configme.resource;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Compact, read-only map with String keys, used to keep the values of a YAML file in memory with less overhead
+ * than a {@link java.util.LinkedHashMap}. Keys are stored in an array parallel to the values (see
+ * {@link CompactValues}); small maps are searched linearly, larger maps have an open-addressing index of the keys.
+ * The insertion order of the original map is kept. Keys are not interned, as equal keys already share one instance
+ * if keys are {@link YamlFileResourceOptions.Builder#deduplicateKeys deduplicated} while the file is loaded.
+ */
+final class CompactMap extends AbstractMap<String, Object> {
+
+    /** Maps with up to this number of entries are searched linearly. */
+    private static final int LINEAR_SCAN_THRESHOLD = 8;
+
+    private final String[] keys;
+    private final CompactValues values;
+    /** Index + 1 of the key at each slot of the open-addressing table, or null for small maps. */
+    private final int @Nullable [] table;
+
+    private CompactMap(@NotNull String[] keys, @NotNull CompactValues values) {
+        this.keys = keys;
+        this.values = values;
+        this.table = keys.length > LINEAR_SCAN_THRESHOLD ? createTable(keys) : null;
+    }
+
+    /**
+     * Creates a compact map with the entries of the given map. Keys are converted to Strings; nested maps and
+     * lists are converted to their compact representation.
+     *
+     * @param map the map to copy
+     * @return compact map with the same entries
+     */
+    static @NotNull CompactMap of(@NotNull Map<?, ?> map) {
+        String[] keys = new String[map.size()];
+        Object[] values = new Object[map.size()];
+        int i = 0;
+        for (Map.Entry<?, ?> entry : map.entrySet()) {
+            keys[i] = Objects.toString(entry.getKey());
+            values[i] = entry.getValue();
+            ++i;
+        }
+        return new CompactMap(keys, CompactValues.of(values));
+    }
+
+    @Override
+    public @Nullable Object get(@Nullable Object key) {
+        int index = indexOf(key);
+        return index < 0 ? null : values.get(index);
+    }
+
+    /**
+     * Returns the value of the given key as an int without boxing it, or the given absent value if the map has no
+     * number for the key.
+     *
+     * @param key the key
+     * @param absentValue the value to return if the map has no number for the key
+     * @return the value as int, or the absent value
+     */
+    int getInt(@NotNull String key, int absentValue) {
+        int index = indexOf(key);
+        return index < 0 ? absentValue : values.getInt(index, absentValue);
+    }
+
+    /**
+     * Returns the value of the given key as a long without boxing it, or the given absent value if the map has no
+     * number for the key.
+     *
+     * @param key the key
+     * @param absentValue the value to return if the map has no number for the key
+     * @return the value as long, or the absent value
+     */
+    long getLong(@NotNull String key, long absentValue) {
+        int index = indexOf(key);
+        return index < 0 ? absentValue : values.getLong(index, absentValue);
+    }
+
+    /**
+     * Returns the value of the given key as a double without boxing it, or the given absent value if the map has
+     * no number for the key.
+     *
+     * @param key the key
+     * @param absentValue the value to return if the map has no number for the key
+     * @return the value as double, or the absent value
+     */
+    double getDouble(@NotNull String key, double absentValue) {
+        int index = indexOf(key);
+        return index < 0 ? absentValue : values.getDouble(index, absentValue);
+    }
+
+    @Override
+    public boolean containsKey(@Nullable Object key) {
+        return indexOf(key) >= 0;
+    }
+
+    @Override
+    public int size() {
+        return keys.length;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return keys.length == 0;
+    }
+
+    @Override
+    public @NotNull Set<Entry<String, Object>> entrySet() {
+        return new EntrySet();
+    }
+
+    private int indexOf(@Nullable Object key) {
+        if (!(key instanceof String)) {
+            return -1;
+        }
+        if (table == null) {
+            for (int i = 0; i < keys.length; ++i) {
+                if (keys[i] == key || keys[i].equals(key)) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        int mask = table.length - 1;
+        int slot = spread(key.hashCode()) & mask;
+        while (table[slot] != 0) {
+            int index = table[slot] - 1;
+            if (keys[index] == key || keys[index].equals(key)) {
+                return index;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    private static int @NotNull [] createTable(@NotNull String[] keys) {
+        int capacity = Integer.highestOneBit(keys.length * 2 - 1) << 1;
+        int[] table = new int[capacity];
+        int mask = capacity - 1;
+        for (int i = 0; i < keys.length; ++i) {
+            int slot = spread(keys[i].hashCode()) & mask;
+            while (table[slot] != 0) {
+                slot = (slot + 1) & mask;
+            }
+            table[slot] = i + 1;
+        }
+        return table;
+    }
+
+    private static int spread(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+
+    private final class EntrySet extends AbstractSet<Entry<String, Object>> {
+
+        @Override
+        public @NotNull Iterator<Entry<String, Object>> iterator() {
+            return new Iterator<Entry<String, Object>>() {
+                private int index;
+
+                @Override
+                public boolean hasNext() {
+                    return index < keys.length;
+                }
+
+                @Override
+                public @NotNull Entry<String, Object> next() {
+                    if (index >= keys.length) {
+                        throw new NoSuchElementException();
+                    }
+                    Entry<String, Object> entry = new SimpleImmutableEntry<>(keys[index], values.get(index));
+                    ++index;
+                    return entry;
+                }
+            };
+        }
+
+        @Override
+        public int size() {
+            return keys.length;
+        }
+    }
+}
@@ -0,0 +1,176 @@
+package ch.jalu.configme.resource;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compact, read-only storage of a sequence of values, used by {@link CompactMap} and {@link CompactList}.
+ * If all values are integers, all values are longs or all values are doubles, they are stored unboxed in a
+ * primitive array. Otherwise, the values are kept in an object array as they were loaded, so that mixed values
+ * need no more memory than in a regular collection and are not boxed again when they are accessed.
+ * <p>
+ * Numbers can be read without boxing with {@link #getInt}, {@link #getLong} and {@link #getDouble}.
+ */
+final class CompactValues {
+
+    private final Object @Nullable [] objects;
+    private final int @Nullable [] ints;
+    private final long @Nullable [] longs;
+    private final double @Nullable [] doubles;
+
+    private CompactValues(Object @Nullable [] objects, int @Nullable [] ints, long @Nullable [] longs,
+                          double @Nullable [] doubles) {
+        this.objects = objects;
+        this.ints = ints;
+        this.longs = longs;
+        this.doubles = doubles;
+    }
+
+    /**
+     * Creates compact storage for the given values. Maps and lists among the values are converted to their
+     * compact representation. The given array may be used as storage and must not be modified afterwards.
+     *
+     * @param values the values to store
+     * @return compact storage of the values
+     */
+    static @NotNull CompactValues of(Object @NotNull [] values) {
+        Class<?> type = getCommonType(values);
+        if (type == Integer.class) {
+            int[] ints = new int[values.length];
+            for (int i = 0; i < values.length; ++i) {
+                ints[i] = (Integer) values[i];
+            }
+            return new CompactValues(null, ints, null, null);
+        } else if (type == Long.class) {
+            long[] longs = new long[values.length];
+            for (int i = 0; i < values.length; ++i) {
+                longs[i] = (Long) values[i];
+            }
+            return new CompactValues(null, null, longs, null);
+        } else if (type == Double.class) {
+            double[] doubles = new double[values.length];
+            for (int i = 0; i < values.length; ++i) {
+                doubles[i] = (Double) values[i];
+            }
+            return new CompactValues(null, null, null, doubles);
+        }
+
+        for (int i = 0; i < values.length; ++i) {
+            values[i] = compact(values[i]);
+        }
+        return new CompactValues(values, null, null, null);
+    }
+
+    /**
+     * Returns the compact representation of the given value if it is a map or a list, otherwise the value itself.
+     *
+     * @param value the value to process
+     * @return compact representation of the value, or the value itself
+     */
+    static @Nullable Object compact(@Nullable Object value) {
+        if (value instanceof CompactMap || value instanceof CompactList) {
+            return value;
+        } else if (value instanceof Map<?, ?>) {
+            return CompactMap.of((Map<?, ?>) value);
+        } else if (value instanceof List<?>) {
+            return CompactList.of((List<?>) value);
+        }
+        return value;
+    }
+
+    /**
+     * Returns the value at the given index. Values which are stored in a primitive array are boxed.
+     *
+     * @param index the index of the value
+     * @return the value
+     */
+    @Nullable Object get(int index) {
+        if (objects != null) {
+            return objects[index];
+        } else if (ints != null) {
+            return ints[index];
+        } else if (longs != null) {
+            return longs[index];
+        }
+        return doubles[index];
+    }
+
+    /**
+     * Returns the value at the given index as an int, or the given absent value if it is not a number.
+     *
+     * @param index the index of the value
+     * @param absentValue the value to return if the value is not a number
+     * @return the value as int, or the absent value
+     */
+    int getInt(int index, int absentValue) {
+        if (ints != null) {
+            return ints[index];
+        } else if (longs != null) {
+            return (int) longs[index];
+        } else if (doubles != null) {
+            return (int) doubles[index];
+        }
+        Object value = objects[index];
+        return value instanceof Number ? ((Number) value).intValue() : absentValue;
+    }
+
+    /**
+     * Returns the value at the given index as a long, or the given absent value if it is not a number.
+     *
+     * @param index the index of the value
+     * @param absentValue the value to return if the value is not a number
+     * @return the value as long, or the absent value
+     */
+    long getLong(int index, long absentValue) {
+        if (ints != null) {
+            return ints[index];
+        } else if (longs != null) {
+            return longs[index];
+        } else if (doubles != null) {
+            return (long) doubles[index];
+        }
+        Object value = objects[index];
+        return value instanceof Number ? ((Number) value).longValue() : absentValue;
+    }
+
+    /**
+     * Returns the value at the given index as a double, or the given absent value if it is not a number.
+     *
+     * @param index the index of the value
+     * @param absentValue the value to return if the value is not a number
+     * @return the value as double, or the absent value
+     */
+    double getDouble(int index, double absentValue) {
+        if (ints != null) {
+            return ints[index];
+        } else if (longs != null) {
+            return longs[index];
+        } else if (doubles != null) {
+            return doubles[index];
+        }
+        Object value = objects[index];
+        return value instanceof Number ? ((Number) value).doubleValue() : absentValue;
+    }
+
+    /**
+     * Returns the class of the values if all values are of the same class, otherwise null.
+     *
+     * @param values the values to process
+     * @return the common class of the values, or null if there is none
+     */
+    private static @Nullable Class<?> getCommonType(Object @NotNull [] values) {
+        if (values.length == 0 || values[0] == null) {
+            return null;
+        }
+        Class<?> type = values[0].getClass();
+        for (int i = 1; i < values.length; ++i) {
+            if (values[i] == null || values[i].getClass() != type) {
+                return null;
+            }
+        }
+        return type;
+    }
+}
@@ -0,0 +1,93 @@
+package ch.jalu.configme.resource;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.yaml.snakeyaml.LoaderOptions;
+import org.yaml.snakeyaml.constructor.AbstractConstruct;
+import org.yaml.snakeyaml.constructor.Constructor;
+import org.yaml.snakeyaml.nodes.MappingNode;
+import org.yaml.snakeyaml.nodes.Node;
+import org.yaml.snakeyaml.nodes.NodeTuple;
+import org.yaml.snakeyaml.nodes.ScalarNode;
+import org.yaml.snakeyaml.nodes.Tag;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * SnakeYAML constructor which creates the same objects as the default constructor, but canonicalizes the strings
+ * of mapping keys, and optionally of short string values, with a {@link StringPool}. Without a pool, it behaves
+ * exactly like the default constructor.
+ */
+final class DeduplicatingConstructor extends Constructor {
+
+    private final @Nullable StringPool pool;
+    private final boolean deduplicateKeys;
+    private final int maxScalarLength;
+    /** Scalar nodes of mapping keys which have not been constructed yet. */
+    private final Set<Node> pendingKeyNodes = Collections.newSetFromMap(new IdentityHashMap<>());
+
+    /**
+     * Constructor for a constructor that does not deduplicate any strings.
+     */
+    DeduplicatingConstructor() {
+        this(null, false, 0);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param pool the pool to canonicalize strings with, or null to not deduplicate any strings
+     * @param deduplicateKeys whether mapping keys should be canonicalized
+     * @param maxScalarLength maximum length of string values to canonicalize (0 to not canonicalize values)
+     */
+    DeduplicatingConstructor(@Nullable StringPool pool, boolean deduplicateKeys, int maxScalarLength) {
+        super(new LoaderOptions());
+        this.pool = pool;
+        this.deduplicateKeys = deduplicateKeys;
+        this.maxScalarLength = maxScalarLength;
+        if (pool != null) {
+            this.yamlConstructors.put(Tag.STR, new ConstructPooledStr());
+        }
+    }
+
+    /**
+     * Constructs the object of the given document root node.
+     *
+     * @param node the node to construct
+     * @return the constructed object
+     */
+    @Nullable Object construct(@NotNull Node node) {
+        return constructDocument(node);
+    }
+
+    @Override
+    protected void constructMapping2ndStep(MappingNode node, Map<Object, Object> mapping) {
+        if (pool != null) {
+            for (NodeTuple tuple : node.getValue()) {
+                if (tuple.getKeyNode() instanceof ScalarNode) {
+                    pendingKeyNodes.add(tuple.getKeyNode());
+                }
+            }
+        }
+        super.constructMapping2ndStep(node, mapping);
+    }
+
+    /**
+     * Constructs strings, returning the pooled instance for keys and short values.
+     */
+    private final class ConstructPooledStr extends AbstractConstruct {
+
+        @Override
+        public @NotNull Object construct(@NotNull Node node) {
+            String value = constructScalar((ScalarNode) node);
+            boolean isKey = pendingKeyNodes.remove(node);
+            if (isKey ? deduplicateKeys : value.length() <= maxScalarLength) {
+                return pool.canonicalize(value);
+            }
+            return value;
+        }
+    }
+}
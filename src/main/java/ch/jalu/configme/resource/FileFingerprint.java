@@ -0,0 +1,105 @@
+package ch.jalu.configme.resource;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.CRC32;
+
+/**
+ * Fingerprint of a file's contents, consisting of its size, its last modification time and a checksum of its
+ * contents. Used to detect whether a file has changed since it was last read.
+ */
+public final class FileFingerprint {
+
+    private final long size;
+    private final long lastModified;
+    private final long checksum;
+
+    /**
+     * Constructor.
+     *
+     * @param size the size of the file in bytes
+     * @param lastModified the last modification time of the file (milliseconds since the epoch)
+     * @param checksum checksum of the file's contents, see {@link #computeChecksum}
+     */
+    public FileFingerprint(long size, long lastModified, long checksum) {
+        this.size = size;
+        this.lastModified = lastModified;
+        this.checksum = checksum;
+    }
+
+    /**
+     * Creates a fingerprint for the given contents of a file.
+     *
+     * @param lastModified the last modification time of the file, determined before its contents were read
+     * @param content the contents of the file
+     * @return the fingerprint
+     */
+    public static @NotNull FileFingerprint of(long lastModified, byte @NotNull [] content) {
+        return new FileFingerprint(content.length, lastModified, computeChecksum(content));
+    }
+
+    /**
+     * Returns whether the given file has the same contents as described by this fingerprint. The size and the
+     * last modification time are checked first; the file is only read to compare its checksum if they match.
+     *
+     * @param path the file to check
+     * @return true if the file is unchanged, false otherwise
+     * @throws IOException if the file cannot be read
+     */
+    public boolean matches(@NotNull Path path) throws IOException {
+        if (Files.size(path) != size || Files.getLastModifiedTime(path).toMillis() != lastModified) {
+            return false;
+        }
+        byte[] content = Files.readAllBytes(path);
+        return content.length == size && computeChecksum(content) == checksum;
+    }
+
+    /**
+     * Computes the checksum of the given contents (CRC32).
+     *
+     * @param content the content to process
+     * @return the checksum
+     */
+    public static long computeChecksum(byte @NotNull [] content) {
+        CRC32 crc = new CRC32();
+        crc.update(content, 0, content.length);
+        return crc.getValue();
+    }
+
+    public long getSize() {
+        return size;
+    }
+
+    public long getLastModified() {
+        return lastModified;
+    }
+
+    public long getChecksum() {
+        return checksum;
+    }
+
+    @Override
+    public boolean equals(@Nullable Object obj) {
+        if (this == obj) {
+            return true;
+        } else if (obj instanceof FileFingerprint) {
+            FileFingerprint other = (FileFingerprint) obj;
+            return size == other.size && lastModified == other.lastModified && checksum == other.checksum;
+        }
+        return false;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(checksum);
+    }
+
+    @Override
+    public @NotNull String toString() {
+        return "FileFingerprint[size=" + size + ", lastModified=" + lastModified + ", checksum=" + checksum + "]";
+    }
+}
@@ -0,0 +1,188 @@
+package ch.jalu.configme.resource;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Immutable index of the keys of a property reader's values, used to answer {@link PropertyReader#getKeys} and
+ * {@link PropertyReader#getChildKeys} without traversing the values on every call. All sets returned by the index
+ * are ordered and unmodifiable.
+ * <p>
+ * For prefix and range queries ({@link PropertyReader#getKeysWithPrefix}, {@link PropertyReader#countUnder} and
+ * {@link PropertyReader#getKeysInRange}), the index keeps a sorted array of all keys, which is created on the first
+ * such query. Each query is then answered with binary searches, and the returned lists are views of the array.
+ */
+final class KeyIndex {
+
+    private static final KeyIndex EMPTY = new KeyIndex(Collections.emptySet(), Collections.emptySet(),
+        Collections.emptyMap());
+
+    private final Set<String> keys;
+    private final Set<String> leafKeys;
+    /** Full paths of the children of each section which can be addressed with a path (including the root "") */
+    private final Map<String, Set<String>> childKeys;
+    /** All keys in lexicographical order, created on first use. */
+    private volatile @Nullable List<String> sortedKeys;
+
+    private KeyIndex(@NotNull Set<String> keys, @NotNull Set<String> leafKeys,
+                     @NotNull Map<String, Set<String>> childKeys) {
+        this.keys = keys;
+        this.leafKeys = leafKeys;
+        this.childKeys = childKeys;
+    }
+
+    /**
+     * Creates an index of the keys of the given root map and all nested maps.
+     *
+     * @param root the root map (may be null)
+     * @return the key index
+     */
+    static @NotNull KeyIndex create(@Nullable Map<?, ?> root) {
+        if (root == null) {
+            return EMPTY;
+        }
+        Set<String> keys = new LinkedHashSet<>();
+        Set<String> leafKeys = new LinkedHashSet<>();
+        Map<String, Set<String>> childKeys = new HashMap<>();
+        addToIndex("", root, true, keys, leafKeys, childKeys);
+        return new KeyIndex(Collections.unmodifiableSet(keys), Collections.unmodifiableSet(leafKeys), childKeys);
+    }
+
+    /**
+     * Returns all keys, or only the keys of leaf nodes (values that are not maps, and empty maps).
+     *
+     * @param onlyLeafNodes whether only the keys of leaf nodes should be returned
+     * @return the keys (ordered, unmodifiable)
+     */
+    @NotNull Set<String> getKeys(boolean onlyLeafNodes) {
+        return onlyLeafNodes ? leafKeys : keys;
+    }
+
+    /**
+     * Returns the full paths of the direct children of the given path. Null is returned for paths with an empty
+     * segment (e.g. "a..b"), which readers resolve differently; callers should determine the child keys of such
+     * paths themselves.
+     *
+     * @param path the path whose children should be returned
+     * @return the child paths (ordered, unmodifiable), empty set if the path is not a section, or null if the path
+     *         cannot be looked up in the index
+     */
+    @Nullable Set<String> getChildKeys(@NotNull String path) {
+        if (!path.isEmpty() && ReaderUtils.hasEmptySegment(path)) {
+            return null;
+        }
+        return childKeys.getOrDefault(path, Collections.emptySet());
+    }
+
+    /**
+     * Returns all keys starting with the given prefix, in lexicographical order.
+     *
+     * @param prefix the prefix
+     * @return the matching keys (unmodifiable)
+     */
+    @NotNull List<String> getKeysWithPrefix(@NotNull String prefix) {
+        List<String> sorted = getSortedKeys();
+        int from = lowerBound(sorted, prefix);
+        // Keys with the prefix form a contiguous block starting at "from": find its end
+        int low = from;
+        int high = sorted.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (sorted.get(mid).startsWith(prefix)) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return sorted.subList(from, low);
+    }
+
+    /**
+     * Returns the number of keys below the given path, or the total number of keys for the empty path.
+     *
+     * @param path the path
+     * @return number of keys below the path
+     */
+    int countUnder(@NotNull String path) {
+        return path.isEmpty() ? keys.size() : getKeysWithPrefix(path + ".").size();
+    }
+
+    /**
+     * Returns the keys between the given bounds, in lexicographical order.
+     *
+     * @param fromKey the lower bound (inclusive)
+     * @param toKey the upper bound (exclusive)
+     * @return the keys in the range (unmodifiable)
+     */
+    @NotNull List<String> getKeysInRange(@NotNull String fromKey, @NotNull String toKey) {
+        if (fromKey.compareTo(toKey) > 0) {
+            throw new IllegalArgumentException("The lower bound '" + fromKey
+                + "' of the range is greater than the upper bound '" + toKey + "'");
+        }
+        List<String> sorted = getSortedKeys();
+        return sorted.subList(lowerBound(sorted, fromKey), lowerBound(sorted, toKey));
+    }
+
+    private @NotNull List<String> getSortedKeys() {
+        List<String> sorted = sortedKeys;
+        if (sorted == null) {
+            String[] keyArray = keys.toArray(new String[0]);
+            Arrays.sort(keyArray);
+            sorted = Collections.unmodifiableList(Arrays.asList(keyArray));
+            sortedKeys = sorted;
+        }
+        return sorted;
+    }
+
+    /**
+     * Returns the index of the first key that is equal to or greater than the given key.
+     */
+    private static int lowerBound(@NotNull List<String> sorted, @NotNull String key) {
+        int low = 0;
+        int high = sorted.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (sorted.get(mid).compareTo(key) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static void addToIndex(@NotNull String path, @NotNull Map<?, ?> map, boolean addressable,
+                                   @NotNull Set<String> keys, @NotNull Set<String> leafKeys,
+                                   @NotNull Map<String, Set<String>> childKeys) {
+        Set<String> children = addressable ? new LinkedHashSet<>(map.size()) : null;
+        for (Map.Entry<?, ?> entry : map.entrySet()) {
+            String key = String.valueOf(entry.getKey());
+            String childPath = path.isEmpty() ? key : path + "." + key;
+            Object value = entry.getValue();
+            boolean isMap = value instanceof Map<?, ?>;
+
+            keys.add(childPath);
+            if (!isMap || ((Map<?, ?>) value).isEmpty()) {
+                leafKeys.add(childPath);
+            }
+            if (children != null) {
+                children.add(childPath);
+            }
+            if (isMap) {
+                boolean childAddressable = addressable && !key.isEmpty() && key.indexOf('.') < 0;
+                addToIndex(childPath, (Map<?, ?>) value, childAddressable, keys, leafKeys, childKeys);
+            }
+        }
+        if (children != null) {
+            childKeys.put(path, Collections.unmodifiableSet(children));
+        }
+    }
+}
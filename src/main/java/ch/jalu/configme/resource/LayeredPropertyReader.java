@@ -0,0 +1,249 @@
+package ch.jalu.configme.resource;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Property reader which combines the values of multiple readers ("layers"), where each layer overrides the values
+ * of the layers below it. A value of an upper layer replaces the value of lower layers at the same path, except if
+ * both values are maps: in that case, the entries of both maps are combined in the same manner. Null values do not
+ * override any value.
+ * <p>
+ * The layers are not merged into a new map structure: when the reader is created, the value of each path is
+ * determined once and saved into an index, so that each lookup is a single hash lookup. New maps are only created
+ * for sections that are present in more than one layer; all other values are shared with the layers.
+ * <p>
+ * Each layer must return its root map (or null if it has no values) for the empty path, like {@link YamlFileReader}.
+ */
+public class LayeredPropertyReader implements PropertyReader {
+
+    private final List<PropertyReader> layers;
+    private final @Nullable Map<String, Object> root;
+    /** Resolved value of each path. */
+    private final Map<String, Object> overlayIndex = new HashMap<>();
+    /** Index of the keys, created on first use (immutable, so it may safely be created more than once). */
+    private volatile @Nullable KeyIndex keyIndex;
+
+    /**
+     * Constructor.
+     *
+     * @param layers the readers to combine, from the lowest priority (e.g. shipped defaults) to the highest
+     */
+    public LayeredPropertyReader(@NotNull List<? extends PropertyReader> layers) {
+        this.layers = Collections.unmodifiableList(new ArrayList<>(layers));
+
+        List<Map<?, ?>> rootMaps = new ArrayList<>(layers.size());
+        for (PropertyReader layer : layers) {
+            Object layerRoot = layer.getObject("");
+            if (layerRoot instanceof Map<?, ?>) {
+                rootMaps.add((Map<?, ?>) layerRoot);
+            }
+        }
+        this.root = rootMaps.isEmpty() ? null : resolveSection("", rootMaps, true);
+    }
+
+    /**
+     * @return the layers of this reader, from the lowest priority to the highest
+     */
+    public @NotNull List<PropertyReader> getLayers() {
+        return layers;
+    }
+
+    @Override
+    public @Nullable Object getObject(@NotNull String path) {
+        if (path.isEmpty()) {
+            return root;
+        }
+        Object value = overlayIndex.get(path);
+        if (value != null || !ReaderUtils.hasEmptySegment(path)) {
+            return value;
+        }
+
+        // Path cannot be in the index; look it up like YamlFileReader does
+        Object node = root;
+        for (String key : path.split("\\.")) {
+            node = node instanceof Map<?, ?> ? ((Map<?, ?>) node).get(key) : null;
+            if (node == null) {
+                return null;
+            }
+        }
+        return node;
+    }
+
+    @Override
+    public @Nullable String getString(@NotNull String path) {
+        return ReaderUtils.castOrNull(getObject(path), String.class);
+    }
+
+    @Override
+    public @Nullable Integer getInt(@NotNull String path) {
+        return ReaderUtils.toInteger(getObject(path));
+    }
+
+    @Override
+    public @Nullable Double getDouble(@NotNull String path) {
+        return ReaderUtils.toDouble(getObject(path));
+    }
+
+    @Override
+    public @Nullable Boolean getBoolean(@NotNull String path) {
+        return ReaderUtils.castOrNull(getObject(path), Boolean.class);
+    }
+
+    @Override
+    public @Nullable List<?> getList(@NotNull String path) {
+        return ReaderUtils.castOrNull(getObject(path), List.class);
+    }
+
+    @Override
+    public boolean contains(@NotNull String path) {
+        return getObject(path) != null;
+    }
+
+    @Override
+    public @NotNull Set<String> getKeys(boolean onlyLeafNodes) {
+        return getKeyIndex().getKeys(onlyLeafNodes);
+    }
+
+    @Override
+    public @NotNull Set<String> getChildKeys(@NotNull String path) {
+        Set<String> childKeys = getKeyIndex().getChildKeys(path);
+        if (childKeys != null) {
+            return childKeys;
+        }
+
+        return ReaderUtils.getChildPaths(path, getObject(path));
+    }
+
+    @Override
+    public @NotNull List<String> getKeysWithPrefix(@NotNull String prefix) {
+        return getKeyIndex().getKeysWithPrefix(prefix);
+    }
+
+    @Override
+    public int countUnder(@NotNull String path) {
+        return getKeyIndex().countUnder(path);
+    }
+
+    @Override
+    public @NotNull List<String> getKeysInRange(@NotNull String fromKey, @NotNull String toKey) {
+        return getKeyIndex().getKeysInRange(fromKey, toKey);
+    }
+
+    /**
+     * Returns the index of the keys of the combined values, creating it on first use.
+     *
+     * @return the key index
+     */
+    private @NotNull KeyIndex getKeyIndex() {
+        KeyIndex index = keyIndex;
+        if (index == null) {
+            index = KeyIndex.create(root);
+            keyIndex = index;
+        }
+        return index;
+    }
+
+    /**
+     * Determines the combined value of a section and adds the paths of all its entries to the index.
+     *
+     * @param path the path of the section
+     * @param maps the maps of the section, from the lowest layer to the highest
+     * @param index whether the section's entries should be indexed (false if the section cannot be addressed)
+     * @return the combined section
+     */
+    private @NotNull Map<String, Object> resolveSection(@NotNull String path, @NotNull List<Map<?, ?>> maps,
+                                                        boolean index) {
+        if (maps.size() == 1) {
+            Map<String, Object> map = (Map<String, Object>) maps.get(0);
+            if (index) {
+                indexEntries(path, map);
+            }
+            return map;
+        }
+
+        Set<Object> keys = new LinkedHashSet<>();
+        for (Map<?, ?> map : maps) {
+            keys.addAll(map.keySet());
+        }
+
+        Map<String, Object> section = new LinkedHashMap<>(keys.size());
+        for (Object key : keys) {
+            String childKey = String.valueOf(key);
+            String childPath = path.isEmpty() ? childKey : path + "." + childKey;
+            boolean indexChild = index && isAddressable(childKey);
+            Object value = resolveValue(childPath, key, maps, indexChild);
+            if (value != null) {
+                section.put(childKey, value);
+                if (indexChild) {
+                    overlayIndex.put(childPath, value);
+                }
+            }
+        }
+        return section;
+    }
+
+    /**
+     * Returns the value of the given key in the given maps: the value of the highest layer, or a combined section
+     * if the highest layers have maps for the key.
+     *
+     * @param path the path of the value
+     * @param key the key to look up in the maps
+     * @param maps the maps to look up the key in, from the lowest layer to the highest
+     * @param index whether the entries of a resolved section should be indexed
+     * @return the resolved value, or null if no map has a value for the key
+     */
+    private @Nullable Object resolveValue(@NotNull String path, @NotNull Object key, @NotNull List<Map<?, ?>> maps,
+                                          boolean index) {
+        List<Map<?, ?>> sectionMaps = null;
+        for (int i = maps.size() - 1; i >= 0; --i) {
+            Object value = maps.get(i).get(key);
+            if (value instanceof Map<?, ?>) {
+                if (sectionMaps == null) {
+                    sectionMaps = new ArrayList<>(2);
+                }
+                sectionMaps.add(0, (Map<?, ?>) value);
+            } else if (value != null) {
+                if (sectionMaps == null) {
+                    return value;
+                }
+                // A value in a lower layer is replaced by the maps of the upper layers
+                break;
+            }
+        }
+        return sectionMaps == null ? null : resolveSection(path, sectionMaps, index);
+    }
+
+    private void indexEntries(@NotNull String path, @NotNull Map<?, ?> map) {
+        for (Map.Entry<?, ?> entry : map.entrySet()) {
+            String key = String.valueOf(entry.getKey());
+            if (entry.getValue() != null && isAddressable(key)) {
+                String childPath = path.isEmpty() ? key : path + "." + key;
+                overlayIndex.put(childPath, entry.getValue());
+                if (entry.getValue() instanceof Map<?, ?>) {
+                    indexEntries(childPath, (Map<?, ?>) entry.getValue());
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns whether the key can be part of a path. Keys which cannot be addressed with a path are not indexed,
+     * as in {@link YamlFileReader}.
+     *
+     * @param key the key to check
+     * @return true if the key can be addressed with a path, false otherwise
+     */
+    private static boolean isAddressable(@NotNull String key) {
+        return !key.isEmpty() && key.indexOf('.') < 0;
+    }
+}
@@ -0,0 +1,225 @@
+package ch.jalu.configme.resource;
+
+import ch.jalu.configme.configurationdata.ConfigurationData;
+import ch.jalu.configme.instrumentation.LifecycleListener;
+import ch.jalu.configme.properties.Property;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Property resource which combines a stack of YAML files, e.g. shipped defaults, then site overrides, then
+ * node-local overrides. Values of a file override the values of the files before it; see
+ * {@link LayeredPropertyReader} for details. Files that do not exist are skipped.
+ * <p>
+ * Properties are only exported to the last file (the top layer), and only if their value differs from the value
+ * the lower layers define. The lower layers are never written to.
+ */
+public class LayeredYamlFileResource extends YamlFileResource {
+
+    private final List<Path> layers;
+    private final List<Path> lowerLayers;
+    private final YamlFileResourceOptions layerOptions;
+    /**
+     * Readers of all layers as of the last load, with null for files that did not exist, or null if no reader has
+     * been created yet.
+     */
+    private @Nullable List<YamlFileReader> lastLayerReaders;
+    /** Last created reader, only kept if readers may be reused. */
+    private @Nullable LayeredPropertyReader lastReader;
+    /** Combined values of the lower layers, only set while properties are being exported. */
+    private @Nullable PropertyReader lowerLayersReader;
+
+    /**
+     * Constructor.
+     *
+     * @param layers the files to combine, from the lowest priority to the highest (the file to export to)
+     */
+    public LayeredYamlFileResource(@NotNull List<Path> layers) {
+        this(layers, YamlFileResourceOptions.builder().build());
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param layers the files to combine, from the lowest priority to the highest (the file to export to)
+     * @param options the options to read and export the files with
+     */
+    public LayeredYamlFileResource(@NotNull List<Path> layers, @NotNull YamlFileResourceOptions options) {
+        super(getTopLayer(layers), options);
+        this.layers = Collections.unmodifiableList(new ArrayList<>(layers));
+        this.lowerLayers = this.layers.subList(0, layers.size() - 1);
+        this.layerOptions = createLayerOptions(options);
+    }
+
+    @Override
+    public @NotNull PropertyReader createReader() {
+        return createLayeredReader(null);
+    }
+
+    @Override
+    public @NotNull PropertyReader createReader(@NotNull LifecycleListener listener) {
+        return createLayeredReader(listener);
+    }
+
+    @Override
+    public void exportProperties(@NotNull ConfigurationData configurationData) {
+        lowerLayersReader = new LayeredPropertyReader(withoutMissingLayers(readLowerLayersForExport()));
+        try {
+            super.exportProperties(configurationData);
+        } finally {
+            lowerLayersReader = null;
+        }
+    }
+
+    /**
+     * Returns the export value of the property, or null if the lower layers already define the same value.
+     *
+     * @param property the property to get the export value for
+     * @param configurationData the configuration data with the property's value
+     * @param <T> the property's type
+     * @return the export value of the property, or null if it should not be written to the top layer
+     */
+    @Override
+    protected <T> @Nullable Object getExportValue(@NotNull Property<T> property,
+                                                  @NotNull ConfigurationData configurationData) {
+        Object exportValue = super.getExportValue(property, configurationData);
+        if (lowerLayersReader != null && exportValue != null
+            && exportValue.equals(lowerLayersReader.getObject(property.getPropertyPath()))) {
+            return null;
+        }
+        return exportValue;
+    }
+
+    /**
+     * @return the files of the lower layers, from the lowest priority to the highest
+     */
+    protected final @NotNull List<Path> getLowerLayers() {
+        return lowerLayers;
+    }
+
+    /**
+     * Creates a reader combining all layers. If the options allow readers to be reused, layers whose file has not
+     * changed keep their reader, and the last combined reader is returned again if no layer has changed.
+     *
+     * @param listener the listener to report the loading phases to (nullable)
+     * @return the reader to use
+     */
+    private @NotNull PropertyReader createLayeredReader(@Nullable LifecycleListener listener) {
+        boolean reuseReaders = layerOptions.reuseReaderIfUnchanged();
+        List<YamlFileReader> previousReaders = reuseReaders ? lastLayerReaders : null;
+        List<YamlFileReader> layerReaders = readLayers(layers, previousReaders, listener);
+        lastLayerReaders = layerReaders;
+
+        LayeredPropertyReader reader = lastReader;
+        if (reader != null && previousReaders != null && areSameReaders(layerReaders, previousReaders)) {
+            return reader;
+        }
+        reader = new LayeredPropertyReader(withoutMissingLayers(layerReaders));
+        lastReader = reuseReaders ? reader : null;
+        return reader;
+    }
+
+    /**
+     * Returns the readers of the lower layers to compare the export values with. The readers of the last load are
+     * used for all files which have not changed since; the other files are read again.
+     *
+     * @return readers of the lower layers, with null for files that do not exist
+     */
+    private @NotNull List<YamlFileReader> readLowerLayersForExport() {
+        List<YamlFileReader> lastReaders = lastLayerReaders;
+        List<YamlFileReader> previousReaders = lastReaders == null ? null : lastReaders.subList(0, lowerLayers.size());
+        List<YamlFileReader> lowerLayerReaders = readLayers(lowerLayers, previousReaders, null);
+        if (lastReaders != null && !areSameReaders(lowerLayerReaders, previousReaders)) {
+            // Keep the new readers for the next load, but don't return the last combined reader again
+            List<YamlFileReader> layerReaders = new ArrayList<>(lowerLayerReaders);
+            layerReaders.add(lastReaders.get(lowerLayers.size()));
+            lastLayerReaders = layerReaders;
+            lastReader = null;
+        }
+        return lowerLayerReaders;
+    }
+
+    /**
+     * Returns a reader for each of the given files. The previous reader of a file is returned again if the file
+     * has not changed since it was read.
+     *
+     * @param files the files to read
+     * @param previousReaders the previous readers of the files (same order and size as the files), or null
+     * @param listener the listener to report the loading phases to (nullable)
+     * @return readers of the files, with null for files that do not exist
+     */
+    private @NotNull List<YamlFileReader> readLayers(@NotNull List<Path> files,
+                                                     @Nullable List<YamlFileReader> previousReaders,
+                                                     @Nullable LifecycleListener listener) {
+        List<YamlFileReader> readers = new ArrayList<>(files.size());
+        for (int i = 0; i < files.size(); ++i) {
+            Path file = files.get(i);
+            YamlFileReader previousReader = previousReaders == null ? null : previousReaders.get(i);
+            if (!Files.exists(file)) {
+                readers.add(null);
+            } else if (previousReader != null && isFileUnchanged(file, previousReader.getFingerprint())) {
+                readers.add(previousReader);
+            } else {
+                YamlFileReader reader = new YamlFileReader(file, layerOptions, listener);
+                if (layerOptions.useSnapshotCache()) {
+                    reader.writeSnapshot();
+                }
+                readers.add(reader);
+            }
+        }
+        return readers;
+    }
+
+    private static boolean isFileUnchanged(@NotNull Path file, @Nullable FileFingerprint fingerprint) {
+        try {
+            return fingerprint != null && fingerprint.matches(file);
+        } catch (IOException e) {
+            // Let the new reader throw the appropriate exception
+            return false;
+        }
+    }
+
+    private static boolean areSameReaders(@NotNull List<YamlFileReader> readers,
+                                          @NotNull List<YamlFileReader> otherReaders) {
+        for (int i = 0; i < readers.size(); ++i) {
+            if (readers.get(i) != otherReaders.get(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static @NotNull List<YamlFileReader> withoutMissingLayers(@NotNull List<YamlFileReader> readers) {
+        List<YamlFileReader> existingReaders = new ArrayList<>(readers);
+        existingReaders.removeIf(Objects::isNull);
+        return existingReaders;
+    }
+
+    private static @NotNull Path getTopLayer(@NotNull List<Path> layers) {
+        if (layers.isEmpty()) {
+            throw new IllegalArgumentException("At least one layer must be provided");
+        }
+        return Objects.requireNonNull(layers.get(layers.size() - 1), "layers");
+    }
+
+    /**
+     * Creates the options to read the individual layers with. The paths of the layers are not indexed, as the
+     * layered reader has its own index of all paths.
+     *
+     * @param options the options of this resource
+     * @return the options to read the layers with
+     */
+    private static @NotNull YamlFileResourceOptions createLayerOptions(@NotNull YamlFileResourceOptions options) {
+        return options.toBuilder()
+            .indexPaths(false)
+            .build();
+    }
+}
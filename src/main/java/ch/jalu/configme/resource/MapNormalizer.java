@@ -3,10 +3,15 @@ package ch.jalu.configme.resource;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Normalizes the keys of maps, splitting compound keys and ensuring that all keys are Strings.
@@ -14,6 +19,7 @@ import java.util.Optional;
 public class MapNormalizer {
 
     private final boolean splitDotPaths;
+    private final @Nullable StringPool keyPool;
 
     /**
      * Constructor.
@@ -21,7 +27,20 @@ public class MapNormalizer {
      * @param splitDotPaths whether compound keys (keys with ".") should be split
      */
     public MapNormalizer(boolean splitDotPaths) {
+        this(splitDotPaths, null);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param splitDotPaths whether compound keys (keys with ".") should be split
+     * @param keyPool pool to canonicalize the keys of new map entries with (e.g. keys created by splitting a
+     *                compound key), or null to not canonicalize keys. Must not be used concurrently if maps are
+     *                normalized lazily
+     */
+    public MapNormalizer(boolean splitDotPaths, @Nullable StringPool keyPool) {
         this.splitDotPaths = splitDotPaths;
+        this.keyPool = keyPool;
     }
 
     protected final boolean splitDotPaths() {
@@ -44,6 +63,22 @@ public class MapNormalizer {
         return createNormalizedMapIfNeeded(loadedMap).orElse((Map) loadedMap);
     }
 
+    /**
+     * Returns a view of the given map in normalized form. Unlike {@link #normalizeMap}, the map is not processed
+     * in advance and is never modified: each nested map is only normalized when it is accessed for the first time,
+     * so nested maps that are never accessed are never normalized. The returned map and its nested maps are
+     * unmodifiable.
+     *
+     * @param loadedMap the map to normalize
+     * @return normalized view of the map
+     */
+    public @Nullable Map<String, Object> normalizeMapLazily(@Nullable Map<Object, Object> loadedMap) {
+        if (loadedMap == null) {
+            return null;
+        }
+        return new LazyNormalizedMap(loadedMap);
+    }
+
     /**
      * Processes the given value if it is a Map and returns an Optional with a new Map if the input
      * value is not in its "normalized form." Recursively visits and replaces nested maps.
@@ -95,19 +130,29 @@ public class MapNormalizer {
     protected void addValueIntoMap(@NotNull Map<String, Object> map, @NotNull String path, @NotNull Object value) {
         int dotPosition = splitDotPaths ? path.indexOf(".") : -1;
         if (dotPosition > -1) {
-            String pathElement = path.substring(0, dotPosition);
+            String pathElement = canonicalizeKey(path.substring(0, dotPosition));
             Map<String, Object> mapAtPath = getOrInsertMap(map, pathElement);
             addValueIntoMap(mapAtPath, path.substring(dotPosition + 1), value);
         } else if (value instanceof Map<?, ?>) {
-            Map<String, Object> mapAtPath = getOrInsertMap(map, path);
+            Map<String, Object> mapAtPath = getOrInsertMap(map, canonicalizeKey(path));
             Map<?, ?> mapValue = (Map<?, ?>) value;
             mapValue.forEach((entryKey, entryValue) ->
                 addValueIntoMap(mapAtPath, Objects.toString(entryKey), entryValue));
         } else { // no dot in path that needs to be split, and value is not a map: just insert it
-            map.put(path, value);
+            map.put(canonicalizeKey(path), value);
         }
     }
 
+    /**
+     * Returns the canonical instance of the given key if a key pool is used, otherwise the key itself.
+     *
+     * @param key the key to canonicalize
+     * @return the canonical key
+     */
+    protected @NotNull String canonicalizeKey(@NotNull String key) {
+        return keyPool == null ? key : keyPool.canonicalize(key);
+    }
+
     /**
      * Returns the nested map in the given {@code parentMap} at the given {@code path}, inserting
      * one if none is yet present. Periods in the path argument are not handled by this method.
@@ -126,4 +171,95 @@ public class MapNormalizer {
         parentMap.put(path, newMap);
         return newMap;
     }
+
+    /**
+     * Normalized view of one or more raw maps, which are merged in order. Multiple raw maps occur when split paths
+     * are merged: for example, the map at "a" in <code>{ a: { b: 1 }, a.c: 2 }</code> is a view of
+     * <code>{ b: 1 }</code> and <code>{ c: 2 }</code>. The entries are determined on first access.
+     */
+    private final class LazyNormalizedMap extends AbstractMap<String, Object> {
+
+        private @Nullable List<Map<?, ?>> sources;
+        private volatile @Nullable Map<String, Object> entries;
+
+        LazyNormalizedMap(@NotNull Map<?, ?> source) {
+            this.sources = new ArrayList<>(1);
+            this.sources.add(source);
+        }
+
+        @Override
+        public @NotNull Set<Entry<String, Object>> entrySet() {
+            return getEntries().entrySet();
+        }
+
+        @Override
+        public @Nullable Object get(@Nullable Object key) {
+            return getEntries().get(key);
+        }
+
+        @Override
+        public boolean containsKey(@Nullable Object key) {
+            return getEntries().containsKey(key);
+        }
+
+        @Override
+        public int size() {
+            return getEntries().size();
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return getEntries().isEmpty();
+        }
+
+        private @NotNull Map<String, Object> getEntries() {
+            Map<String, Object> result = entries;
+            if (result == null) {
+                synchronized (this) {
+                    result = entries;
+                    if (result == null) {
+                        result = Collections.unmodifiableMap(normalizeSources());
+                        entries = result;
+                        sources = null;
+                    }
+                }
+            }
+            return result;
+        }
+
+        /**
+         * Merges the entries of the sources in the same way as {@link #addValueIntoMap}, but only for this level:
+         * nested maps are added as new lazy maps.
+         *
+         * @return the normalized entries of this map
+         */
+        private @NotNull Map<String, Object> normalizeSources() {
+            Map<String, Object> result = new LinkedHashMap<>();
+            for (Map<?, ?> source : sources) {
+                for (Map.Entry<?, ?> entry : source.entrySet()) {
+                    String key = Objects.toString(entry.getKey());
+                    int dotPosition = splitDotPaths ? key.indexOf('.') : -1;
+                    if (dotPosition > -1) {
+                        addSource(result, canonicalizeKey(key.substring(0, dotPosition)),
+                            Collections.singletonMap(key.substring(dotPosition + 1), entry.getValue()));
+                    } else if (entry.getValue() instanceof Map<?, ?>) {
+                        addSource(result, key, (Map<?, ?>) entry.getValue());
+                    } else {
+                        result.put(key, entry.getValue());
+                    }
+                }
+            }
+            return result;
+        }
+
+        private void addSource(@NotNull Map<String, Object> result, @NotNull String key, @NotNull Map<?, ?> source) {
+            Object value = result.get(key);
+            if (value instanceof LazyNormalizedMap) {
+                // Map was created in this call and has not been accessed yet
+                ((LazyNormalizedMap) value).sources.add(source);
+            } else {
+                result.put(key, new LazyNormalizedMap(source));
+            }
+        }
+    }
 }
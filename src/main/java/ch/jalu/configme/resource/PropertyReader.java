@@ -1,9 +1,12 @@
 package ch.jalu.configme.resource;
 
+import ch.jalu.configme.properties.PropertyPath;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 public interface PropertyReader {
 
@@ -36,6 +39,73 @@ public interface PropertyReader {
      */
     @NotNull Set<String> getChildKeys(@NotNull String path);
 
+    /**
+     * Returns all keys (see {@link #getKeys}) that start with the given prefix, in lexicographical order. For
+     * example, the prefix {@code "worlds."} returns the paths of all entries below "worlds". Readers may override
+     * this method to answer the query without filtering all keys.
+     *
+     * @param prefix the prefix the keys must start with (the empty string matches all keys)
+     * @return the matching keys, sorted (never null)
+     */
+    default @NotNull List<String> getKeysWithPrefix(@NotNull String prefix) {
+        return getKeys(false).stream()
+            .filter(key -> key.startsWith(prefix))
+            .sorted()
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * Returns the number of keys below the given path (i.e. the number of keys starting with the path followed
+     * by a dot), not including the path itself. For the empty path, the total number of keys is returned.
+     *
+     * @param path the path whose descendants should be counted
+     * @return number of keys below the path
+     */
+    default int countUnder(@NotNull String path) {
+        return path.isEmpty()
+            ? getKeys(false).size()
+            : getKeysWithPrefix(path + ".").size();
+    }
+
+    /**
+     * Returns all keys (see {@link #getKeys}) within the given range, in lexicographical order. Together with
+     * {@link #getKeysWithPrefix}, this allows iterating over a part of the keys in a stable order.
+     *
+     * @param fromKey the lower bound of the range (inclusive)
+     * @param toKey the upper bound of the range (exclusive)
+     * @return the keys in the range, sorted (never null)
+     */
+    default @NotNull List<String> getKeysInRange(@NotNull String fromKey, @NotNull String toKey) {
+        if (fromKey.compareTo(toKey) > 0) {
+            throw new IllegalArgumentException("The lower bound '" + fromKey
+                + "' of the range is greater than the upper bound '" + toKey + "'");
+        }
+        return getKeys(false).stream()
+            .filter(key -> key.compareTo(fromKey) >= 0 && key.compareTo(toKey) < 0)
+            .sorted()
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * Returns a reader for the section at the given path, whose paths are relative to the section. For example,
+     * {@code getSection("worlds").getInt("main.size")} returns the same value as {@code getInt("worlds.main.size")}.
+     * The section's values are not copied: the returned reader is a view that resolves relative paths from the
+     * section directly, so repeated lookups within a section do not need to build and resolve full paths.
+     * <p>
+     * If there is no section at the given path (no value, or a value that is not a map), the returned reader is
+     * empty. For the empty path, this reader is returned.
+     *
+     * @param path the path of the section
+     * @return reader of the section (never null)
+     */
+    default @NotNull PropertyReader getSection(@NotNull String path) {
+        if (path.isEmpty()) {
+            return this;
+        }
+        Object section = getObject(path);
+        return new SectionPropertyReader(section instanceof Map<?, ?> ? (Map<String, Object>) section : null);
+    }
+
     /**
      * Returns the object at the given path, or null if absent.
      *
@@ -44,6 +114,17 @@ public interface PropertyReader {
      */
     @Nullable Object getObject(@NotNull String path);
 
+    /**
+     * Returns the object at the given path, or null if absent. Readers may override this method to make use of
+     * the path's segments, which have already been split.
+     *
+     * @param path the path to retrieve the value for
+     * @return the value, or null if there is none
+     */
+    default @Nullable Object getObject(@NotNull PropertyPath path) {
+        return getObject(path.getPath());
+    }
+
     /**
      * Returns the value of the given path as a String if available.
      *
@@ -76,6 +157,94 @@ public interface PropertyReader {
      */
     @Nullable Boolean getBoolean(@NotNull String path);
 
+    /**
+     * Returns the value of the given path as a long if available.
+     *
+     * @param path the path to retrieve a long for
+     * @return the value as a long, or null if not applicable or unavailable
+     */
+    default @Nullable Long getLong(@NotNull String path) {
+        Object value = getObject(path);
+        return value instanceof Number ? ((Number) value).longValue() : null;
+    }
+
+    /**
+     * Returns the value of the given path as a float if available.
+     *
+     * @param path the path to retrieve a float for
+     * @return the value as a float, or null if not applicable or unavailable
+     */
+    default @Nullable Float getFloat(@NotNull String path) {
+        Object value = getObject(path);
+        return value instanceof Number ? ((Number) value).floatValue() : null;
+    }
+
+    /**
+     * Returns the value of the given path as an int, or the given absent value if there is no number at the path.
+     * Unlike {@link #getInt(String)}, no wrapper object is created for the result. If the absent value is returned,
+     * callers which need to know whether the path actually has this value can use {@link #getInt(String)}.
+     *
+     * @param path the path to retrieve an int for
+     * @param absentValue the value to return if the path has no number
+     * @return the value as int, or the absent value if not applicable or unavailable
+     */
+    default int getInt(@NotNull String path, int absentValue) {
+        Object value = getObject(path);
+        return value instanceof Number ? ((Number) value).intValue() : absentValue;
+    }
+
+    /**
+     * Returns the value of the given path as a long, or the given absent value if there is no number at the path.
+     * See {@link #getInt(String, int)}.
+     *
+     * @param path the path to retrieve a long for
+     * @param absentValue the value to return if the path has no number
+     * @return the value as long, or the absent value if not applicable or unavailable
+     */
+    default long getLong(@NotNull String path, long absentValue) {
+        Object value = getObject(path);
+        return value instanceof Number ? ((Number) value).longValue() : absentValue;
+    }
+
+    /**
+     * Returns the value of the given path as a float, or the given absent value if there is no number at the path.
+     * See {@link #getInt(String, int)}.
+     *
+     * @param path the path to retrieve a float for
+     * @param absentValue the value to return if the path has no number
+     * @return the value as float, or the absent value if not applicable or unavailable
+     */
+    default float getFloat(@NotNull String path, float absentValue) {
+        Object value = getObject(path);
+        return value instanceof Number ? ((Number) value).floatValue() : absentValue;
+    }
+
+    /**
+     * Returns the value of the given path as a double, or the given absent value if there is no number at the path.
+     * See {@link #getInt(String, int)}.
+     *
+     * @param path the path to retrieve a double for
+     * @param absentValue the value to return if the path has no number
+     * @return the value as double, or the absent value if not applicable or unavailable
+     */
+    default double getDouble(@NotNull String path, double absentValue) {
+        Object value = getObject(path);
+        return value instanceof Number ? ((Number) value).doubleValue() : absentValue;
+    }
+
+    /**
+     * Returns the value of the given path as a boolean, or the given absent value if there is no boolean at the
+     * path. See {@link #getInt(String, int)}.
+     *
+     * @param path the path to retrieve a boolean for
+     * @param absentValue the value to return if the path has no boolean
+     * @return the value as boolean, or the absent value if not applicable or unavailable
+     */
+    default boolean getBoolean(@NotNull String path, boolean absentValue) {
+        Object value = getObject(path);
+        return value instanceof Boolean ? (Boolean) value : absentValue;
+    }
+
     /**
      * Returns the value of the given path as a list if available.
      *
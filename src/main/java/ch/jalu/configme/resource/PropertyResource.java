@@ -1,6 +1,7 @@
 package ch.jalu.configme.resource;
 
 import ch.jalu.configme.configurationdata.ConfigurationData;
+import ch.jalu.configme.instrumentation.LifecycleListener;
 import org.jetbrains.annotations.NotNull;
 
 /**
@@ -12,12 +13,26 @@ public interface PropertyResource {
     /**
      * Creates a reader to access the values in the medium (typically a file).
      * <p>
-     * The reader is discarded after its use and so is not required to refresh itself.
+     * The reader is discarded after its use and so is not required to refresh itself. Implementations may return
+     * the same reader as before if the medium has not changed in the meantime: a settings manager then keeps the
+     * values it has already loaded instead of reinitializing them.
      *
      * @return reader providing values in the medium (e.g. file)
      */
     @NotNull PropertyReader createReader();
 
+    /**
+     * Creates a reader like {@link #createReader()} and reports the timings of the phases involved in loading
+     * the medium to the given listener. The default implementation does not report anything; implementations
+     * should override this method if they can provide insight into their loading phases.
+     *
+     * @param listener the listener to report to
+     * @return reader providing values in the medium (e.g. file)
+     */
+    default @NotNull PropertyReader createReader(@NotNull LifecycleListener listener) {
+        return createReader();
+    }
+
     /**
      * Exports the provided configuration data to the medium (typically a file).
      *
@@ -25,4 +40,15 @@ public interface PropertyResource {
      */
     void exportProperties(@NotNull ConfigurationData configurationData);
 
+    /**
+     * Exports the provided configuration data like {@link #exportProperties(ConfigurationData)} and reports
+     * the export to the given listener. The default implementation does not report anything.
+     *
+     * @param configurationData the configuration data to export
+     * @param listener the listener to report to
+     */
+    default void exportProperties(@NotNull ConfigurationData configurationData, @NotNull LifecycleListener listener) {
+        exportProperties(configurationData);
+    }
+
 }
@@ -0,0 +1,100 @@
+package ch.jalu.configme.resource;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Utilities for the property readers which keep their values in nested maps ({@link YamlFileReader},
+ * {@link LayeredPropertyReader} and {@link SectionPropertyReader}).
+ */
+final class ReaderUtils {
+
+    private ReaderUtils() {
+    }
+
+    /**
+     * Returns the given value as Integer if it is a number, otherwise null. Integers are returned as is.
+     *
+     * @param value the value to convert
+     * @return the value as Integer, or null
+     */
+    static @Nullable Integer toInteger(@Nullable Object value) {
+        if (value instanceof Integer) {
+            return (Integer) value;
+        }
+        return value instanceof Number ? ((Number) value).intValue() : null;
+    }
+
+    /**
+     * Returns the given value as Long if it is a number, otherwise null. Longs are returned as is.
+     *
+     * @param value the value to convert
+     * @return the value as Long, or null
+     */
+    static @Nullable Long toLong(@Nullable Object value) {
+        if (value instanceof Long) {
+            return (Long) value;
+        }
+        return value instanceof Number ? ((Number) value).longValue() : null;
+    }
+
+    /**
+     * Returns the given value as Double if it is a number, otherwise null. Doubles are returned as is.
+     *
+     * @param value the value to convert
+     * @return the value as Double, or null
+     */
+    static @Nullable Double toDouble(@Nullable Object value) {
+        if (value instanceof Double) {
+            return (Double) value;
+        }
+        return value instanceof Number ? ((Number) value).doubleValue() : null;
+    }
+
+    /**
+     * Returns the given value if it is of the given type, otherwise null.
+     *
+     * @param value the value to check
+     * @param type the required type
+     * @param <T> the type
+     * @return the value if it is of the given type, otherwise null
+     */
+    static <T> @Nullable T castOrNull(@Nullable Object value, @NotNull Class<T> type) {
+        return type.isInstance(value) ? type.cast(value) : null;
+    }
+
+    /**
+     * Returns the full paths of the entries of the given value if it is a map, otherwise an empty set. Used for
+     * paths whose child keys cannot be taken from a {@link KeyIndex}.
+     *
+     * @param path the path of the value
+     * @param value the value at the path
+     * @return the paths of the map's entries (ordered), or empty set if the value is not a map
+     */
+    static @NotNull Set<String> getChildPaths(@NotNull String path, @Nullable Object value) {
+        if (value instanceof Map<?, ?>) {
+            String pathPrefix = path.isEmpty() ? "" : path + ".";
+            return ((Map<?, ?>) value).keySet().stream()
+                .map(childPath -> pathPrefix + childPath)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+        }
+        return Collections.emptySet();
+    }
+
+    /**
+     * Returns whether the path has an empty segment (e.g. "a..b" or "a."). Such paths are resolved by splitting
+     * them, which skips trailing empty segments, and may therefore not be looked up in an index of the paths.
+     *
+     * @param path the path to check (not empty)
+     * @return true if the path has an empty segment, false otherwise
+     */
+    static boolean hasEmptySegment(@NotNull String path) {
+        return path.charAt(0) == '.' || path.charAt(path.length() - 1) == '.' || path.contains("..");
+    }
+}
@@ -0,0 +1,148 @@
+package ch.jalu.configme.resource;
+
+import ch.jalu.configme.properties.PropertyPath;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Property reader which is a view of a section (a nested map) of another reader's values, as returned by
+ * {@link PropertyReader#getSection}. The section is not copied: paths are resolved relative to the section by
+ * traversing its map directly, so that code working with a section does not need to build full paths.
+ * <p>
+ * For example, if a reader has the values <code>{ worlds: { main: { size: 3 } } }</code>, the section "worlds"
+ * returns 3 for the path "main.size". If the path of the section does not exist or is not a map, the view is
+ * empty.
+ */
+public class SectionPropertyReader implements PropertyReader {
+
+    private final @Nullable Map<String, Object> root;
+    /** Index of the keys, created on first use (immutable, so it may safely be created more than once). */
+    private volatile @Nullable KeyIndex keyIndex;
+
+    /**
+     * Constructor.
+     *
+     * @param root the map of the section (null for an empty section)
+     */
+    public SectionPropertyReader(@Nullable Map<String, Object> root) {
+        this.root = root;
+    }
+
+    @Override
+    public @Nullable Object getObject(@NotNull String path) {
+        if (path.isEmpty()) {
+            return root;
+        } else if (ReaderUtils.hasEmptySegment(path)) {
+            // Resolve such paths like YamlFileReader does
+            Object node = root;
+            for (String key : path.split("\\.")) {
+                node = getEntryIfIsMap(key, node);
+            }
+            return node;
+        }
+
+        Object node = root;
+        int start = 0;
+        int dotIndex;
+        while ((dotIndex = path.indexOf('.', start)) >= 0) {
+            node = getEntryIfIsMap(path.substring(start, dotIndex), node);
+            if (node == null) {
+                return null;
+            }
+            start = dotIndex + 1;
+        }
+        return getEntryIfIsMap(start == 0 ? path : path.substring(start), node);
+    }
+
+    @Override
+    public @Nullable Object getObject(@NotNull PropertyPath path) {
+        Object node = root;
+        for (String key : path.getSegments()) {
+            node = getEntryIfIsMap(key, node);
+            if (node == null) {
+                return null;
+            }
+        }
+        return node;
+    }
+
+    @Override
+    public @Nullable String getString(@NotNull String path) {
+        return ReaderUtils.castOrNull(getObject(path), String.class);
+    }
+
+    @Override
+    public @Nullable Integer getInt(@NotNull String path) {
+        return ReaderUtils.toInteger(getObject(path));
+    }
+
+    @Override
+    public @Nullable Double getDouble(@NotNull String path) {
+        return ReaderUtils.toDouble(getObject(path));
+    }
+
+    @Override
+    public @Nullable Boolean getBoolean(@NotNull String path) {
+        return ReaderUtils.castOrNull(getObject(path), Boolean.class);
+    }
+
+    @Override
+    public @Nullable List<?> getList(@NotNull String path) {
+        return ReaderUtils.castOrNull(getObject(path), List.class);
+    }
+
+    @Override
+    public boolean contains(@NotNull String path) {
+        return getObject(path) != null;
+    }
+
+    @Override
+    public @NotNull Set<String> getKeys(boolean onlyLeafNodes) {
+        return getKeyIndex().getKeys(onlyLeafNodes);
+    }
+
+    @Override
+    public @NotNull Set<String> getChildKeys(@NotNull String path) {
+        Set<String> childKeys = getKeyIndex().getChildKeys(path);
+        if (childKeys != null) {
+            return childKeys;
+        }
+
+        return ReaderUtils.getChildPaths(path, getObject(path));
+    }
+
+    @Override
+    public @NotNull List<String> getKeysWithPrefix(@NotNull String prefix) {
+        return getKeyIndex().getKeysWithPrefix(prefix);
+    }
+
+    @Override
+    public int countUnder(@NotNull String path) {
+        return getKeyIndex().countUnder(path);
+    }
+
+    @Override
+    public @NotNull List<String> getKeysInRange(@NotNull String fromKey, @NotNull String toKey) {
+        return getKeyIndex().getKeysInRange(fromKey, toKey);
+    }
+
+    private @NotNull KeyIndex getKeyIndex() {
+        KeyIndex index = keyIndex;
+        if (index == null) {
+            index = KeyIndex.create(root);
+            keyIndex = index;
+        }
+        return index;
+    }
+
+    private static @Nullable Object getEntryIfIsMap(@NotNull String key, @Nullable Object value) {
+        if (value instanceof Map<?, ?>) {
+            return ((Map<?, ?>) value).get(key);
+        }
+        return null;
+    }
+}
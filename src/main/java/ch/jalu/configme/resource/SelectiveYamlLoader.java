@@ -0,0 +1,322 @@
+package ch.jalu.configme.resource;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.yaml.snakeyaml.Yaml;
+import org.yaml.snakeyaml.events.AliasEvent;
+import org.yaml.snakeyaml.events.CollectionStartEvent;
+import org.yaml.snakeyaml.events.Event;
+import org.yaml.snakeyaml.events.MappingStartEvent;
+import org.yaml.snakeyaml.events.NodeEvent;
+import org.yaml.snakeyaml.events.ScalarEvent;
+import org.yaml.snakeyaml.events.SequenceStartEvent;
+import org.yaml.snakeyaml.nodes.MappingNode;
+import org.yaml.snakeyaml.nodes.Node;
+import org.yaml.snakeyaml.nodes.NodeId;
+import org.yaml.snakeyaml.nodes.NodeTuple;
+import org.yaml.snakeyaml.nodes.ScalarNode;
+import org.yaml.snakeyaml.nodes.SequenceNode;
+import org.yaml.snakeyaml.nodes.Tag;
+import org.yaml.snakeyaml.resolver.Resolver;
+
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Loads YAML documents like {@code new Yaml().load}, but only constructs the parts of the document that are
+ * relevant for a given set of paths. The document is processed with SnakeYAML's event API: the subtrees of the
+ * given paths are constructed as usual, sections leading to them are constructed with only the relevant entries,
+ * and all other entries are skipped without creating any nodes or objects for them.
+ * <p>
+ * Documents with constructs that cannot be processed selectively are loaded in full instead. This is the case if
+ * a merge key ({@code <<}) appears in a partially loaded section, if an alias refers to an anchor in a skipped
+ * entry, or if an explicit tag outside of the standard YAML tags is used.
+ */
+public class SelectiveYamlLoader {
+
+    private static final String YAML_TAG_PREFIX = "tag:yaml.org,2002:";
+
+    private final Set<String> paths;
+    private final Set<String> parentPaths = new HashSet<>();
+    private final boolean loadsFullDocument;
+
+    /**
+     * Constructor.
+     *
+     * @param paths the paths whose values should be loaded
+     */
+    public SelectiveYamlLoader(@NotNull Collection<String> paths) {
+        this.paths = new HashSet<>(paths);
+        this.loadsFullDocument = this.paths.contains("");
+        for (String path : this.paths) {
+            int dotIndex = path.indexOf('.');
+            while (dotIndex >= 0) {
+                parentPaths.add(path.substring(0, dotIndex));
+                dotIndex = path.indexOf('.', dotIndex + 1);
+            }
+        }
+    }
+
+    /**
+     * Loads the given YAML document. The returned object is the same as the one returned by SnakeYAML, except
+     * that entries of maps which are irrelevant for the configured paths may be absent.
+     *
+     * @param yaml the document to load
+     * @return the loaded document
+     */
+    public @Nullable Object load(@NotNull String yaml) {
+        return load(yaml, new DeduplicatingConstructor());
+    }
+
+    /**
+     * Loads the given YAML document like {@link #load(String)}, constructing the objects with the given constructor.
+     *
+     * @param yaml the document to load
+     * @param constructor the constructor to create the objects with
+     * @return the loaded document
+     */
+    @Nullable Object load(@NotNull String yaml, @NotNull DeduplicatingConstructor constructor) {
+        if (!loadsFullDocument) {
+            try {
+                Node root = new SelectiveComposer(new Yaml().parse(new StringReader(yaml)).iterator())
+                    .composeDocument();
+                return root == null ? null : constructor.construct(root);
+            } catch (SelectiveLoadingNotPossibleException e) {
+                // Load document in full below
+            }
+        }
+        return new Yaml(constructor).load(yaml);
+    }
+
+    private @NotNull Relevance getRelevance(@NotNull String path) {
+        if (paths.contains(path)) {
+            return Relevance.LOAD;
+        }
+        // Keys with a dot (e.g. "a.b" under "a") might be a child of a configured path
+        int dotIndex = path.indexOf('.');
+        while (dotIndex >= 0) {
+            if (paths.contains(path.substring(0, dotIndex))) {
+                return Relevance.LOAD;
+            }
+            dotIndex = path.indexOf('.', dotIndex + 1);
+        }
+        return parentPaths.contains(path) ? Relevance.LOAD_RELEVANT_ENTRIES : Relevance.SKIP;
+    }
+
+    /**
+     * Relevance of an entry in the YAML document.
+     */
+    private enum Relevance {
+
+        /** The entry is loaded in full. */
+        LOAD,
+
+        /** The entry is a section containing relevant paths: only relevant entries are loaded. */
+        LOAD_RELEVANT_ENTRIES,
+
+        /** The entry is not relevant. */
+        SKIP
+
+    }
+
+    /**
+     * Creates nodes from parser events for the relevant parts of a document, similarly to SnakeYAML's composer.
+     */
+    private final class SelectiveComposer {
+
+        private final Iterator<Event> events;
+        private final Resolver resolver = new Resolver();
+        private final Map<String, Node> anchors = new HashMap<>();
+
+        SelectiveComposer(@NotNull Iterator<Event> events) {
+            this.events = events;
+        }
+
+        @Nullable Node composeDocument() {
+            nextEvent(Event.ID.StreamStart);
+            Event event = events.next();
+            if (event.is(Event.ID.StreamEnd)) {
+                return null;
+            } else if (!event.is(Event.ID.DocumentStart)) {
+                throw new SelectiveLoadingNotPossibleException();
+            }
+
+            Event rootEvent = events.next();
+            if (!rootEvent.is(Event.ID.MappingStart) || ((MappingStartEvent) rootEvent).getAnchor() != null) {
+                // SnakeYAML will return something that is not a map, or null, which is handled by the caller
+                throw new SelectiveLoadingNotPossibleException();
+            }
+            Node root = composeMapping((MappingStartEvent) rootEvent, "");
+            nextEvent(Event.ID.DocumentEnd);
+            // Multiple documents: let SnakeYAML produce the appropriate error
+            nextEvent(Event.ID.StreamEnd);
+            return root;
+        }
+
+        private @NotNull MappingNode composeMapping(@NotNull MappingStartEvent startEvent, @NotNull String prefix) {
+            List<NodeTuple> entries = new ArrayList<>();
+            MappingNode node = new MappingNode(resolveTag(startEvent, NodeId.mapping), isTagResolved(startEvent),
+                entries, startEvent.getStartMark(), null, startEvent.getFlowStyle());
+
+            Event event;
+            while (!(event = events.next()).is(Event.ID.MappingEnd)) {
+                if (!(event instanceof ScalarEvent)) {
+                    throw new SelectiveLoadingNotPossibleException();
+                }
+                ScalarNode keyNode = composeScalar((ScalarEvent) event);
+                if (Tag.MERGE.equals(keyNode.getTag())) {
+                    throw new SelectiveLoadingNotPossibleException();
+                }
+
+                Relevance relevance = Tag.STR.equals(keyNode.getTag())
+                    ? getRelevance(prefix + keyNode.getValue())
+                    : Relevance.LOAD;
+                Event valueEvent = events.next();
+                if (relevance == Relevance.SKIP) {
+                    skipNode(valueEvent);
+                } else if (relevance == Relevance.LOAD_RELEVANT_ENTRIES && valueEvent instanceof MappingStartEvent
+                    && ((MappingStartEvent) valueEvent).getAnchor() == null) {
+                    MappingStartEvent mappingStart = (MappingStartEvent) valueEvent;
+                    String childPrefix = prefix + keyNode.getValue() + ".";
+                    entries.add(new NodeTuple(keyNode, composeMapping(mappingStart, childPrefix)));
+                } else {
+                    entries.add(new NodeTuple(keyNode, composeNode(valueEvent)));
+                }
+            }
+            node.setEndMark(event.getEndMark());
+            return node;
+        }
+
+        private @NotNull Node composeNode(@NotNull Event event) {
+            if (event instanceof AliasEvent) {
+                Node node = anchors.get(((AliasEvent) event).getAnchor());
+                if (node == null) {
+                    throw new SelectiveLoadingNotPossibleException();
+                }
+                return node;
+            } else if (event instanceof ScalarEvent) {
+                return composeScalar((ScalarEvent) event);
+            } else if (event instanceof SequenceStartEvent) {
+                SequenceStartEvent startEvent = (SequenceStartEvent) event;
+                List<Node> children = new ArrayList<>();
+                SequenceNode node = new SequenceNode(resolveTag(startEvent, NodeId.sequence),
+                    isTagResolved(startEvent), children, startEvent.getStartMark(), null, startEvent.getFlowStyle());
+                registerAnchor(startEvent, node);
+                Event childEvent;
+                while (!(childEvent = events.next()).is(Event.ID.SequenceEnd)) {
+                    children.add(composeNode(childEvent));
+                }
+                node.setEndMark(childEvent.getEndMark());
+                return node;
+            } else if (event instanceof MappingStartEvent) {
+                MappingStartEvent startEvent = (MappingStartEvent) event;
+                List<NodeTuple> entries = new ArrayList<>();
+                MappingNode node = new MappingNode(resolveTag(startEvent, NodeId.mapping),
+                    isTagResolved(startEvent), entries, startEvent.getStartMark(), null, startEvent.getFlowStyle());
+                registerAnchor(startEvent, node);
+                Event keyEvent;
+                while (!(keyEvent = events.next()).is(Event.ID.MappingEnd)) {
+                    Node key = composeNode(keyEvent);
+                    entries.add(new NodeTuple(key, composeNode(events.next())));
+                }
+                node.setEndMark(keyEvent.getEndMark());
+                return node;
+            }
+            throw new SelectiveLoadingNotPossibleException();
+        }
+
+        private @NotNull ScalarNode composeScalar(@NotNull ScalarEvent event) {
+            Tag tag;
+            boolean resolved;
+            if (event.getTag() == null || "!".equals(event.getTag())) {
+                tag = resolver.resolve(NodeId.scalar, event.getValue(), event.getImplicit().canOmitTagInPlainScalar());
+                resolved = true;
+            } else {
+                tag = createExplicitTag(event.getTag());
+                resolved = false;
+            }
+            ScalarNode node = new ScalarNode(tag, resolved, event.getValue(), event.getStartMark(),
+                event.getEndMark(), event.getScalarStyle());
+            registerAnchor(event, node);
+            return node;
+        }
+
+        private void skipNode(@NotNull Event event) {
+            if (event instanceof NodeEvent) {
+                // An alias to an anchor of a skipped entry must not resolve to a previous node with the same anchor
+                invalidateAnchor((NodeEvent) event);
+            }
+            if (event instanceof CollectionStartEvent) {
+                int depth = 1;
+                while (depth > 0) {
+                    Event nestedEvent = events.next();
+                    if (nestedEvent instanceof CollectionStartEvent) {
+                        ++depth;
+                    } else if (nestedEvent.is(Event.ID.MappingEnd) || nestedEvent.is(Event.ID.SequenceEnd)) {
+                        --depth;
+                    }
+                    if (nestedEvent instanceof NodeEvent) {
+                        invalidateAnchor((NodeEvent) nestedEvent);
+                    }
+                }
+            }
+        }
+
+        private void registerAnchor(@NotNull NodeEvent event, @NotNull Node node) {
+            if (event.getAnchor() != null) {
+                node.setAnchor(event.getAnchor());
+                anchors.put(event.getAnchor(), node);
+            }
+        }
+
+        private void invalidateAnchor(@NotNull NodeEvent event) {
+            if (event.getAnchor() != null && !(event instanceof AliasEvent)) {
+                anchors.remove(event.getAnchor());
+            }
+        }
+
+        private @NotNull Tag resolveTag(@NotNull CollectionStartEvent event, @NotNull NodeId nodeId) {
+            if (isTagResolved(event)) {
+                return resolver.resolve(nodeId, null, event.getImplicit());
+            }
+            return createExplicitTag(event.getTag());
+        }
+
+        private boolean isTagResolved(@NotNull CollectionStartEvent event) {
+            return event.getTag() == null || "!".equals(event.getTag());
+        }
+
+        private @NotNull Tag createExplicitTag(@NotNull String tag) {
+            if (!tag.startsWith(YAML_TAG_PREFIX)) {
+                // Let SnakeYAML decide whether the tag is allowed
+                throw new SelectiveLoadingNotPossibleException();
+            }
+            return new Tag(tag);
+        }
+
+        private void nextEvent(@NotNull Event.ID expectedId) {
+            if (!events.next().is(expectedId)) {
+                throw new SelectiveLoadingNotPossibleException();
+            }
+        }
+    }
+
+    /**
+     * Thrown when a document contains constructs that prevent it from being loaded selectively.
+     */
+    private static final class SelectiveLoadingNotPossibleException extends RuntimeException {
+
+        private static final long serialVersionUID = 1L;
+
+        SelectiveLoadingNotPossibleException() {
+            super(null, null, false, false);
+        }
+    }
+}
@@ -0,0 +1,406 @@
+package ch.jalu.configme.resource;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Binary snapshot of the values loaded from a YAML file, saved in a sidecar file next to it. A snapshot can be
+ * read much faster than the YAML file can be parsed. It is keyed by the size and CRC32 checksum of the YAML file's
+ * contents (and the options influencing the loaded values) and is only used if they still match; the YAML file
+ * always remains the source of truth.
+ * <p>
+ * Note that the modification time is not part of the key, and that CRC32 is no cryptographic hash: a file edited
+ * to different contents of the same size and checksum would be loaded from the outdated snapshot. This is
+ * practically impossible for accidental changes, but snapshots should not be used for files whose contents may be
+ * crafted deliberately.
+ * <p>
+ * The snapshot is a length-prefixed encoding of the normalized tree of values. Strings are written once and
+ * referenced by index afterwards, so repeated keys and values are stored once and share one instance when read.
+ * Only maps, lists, strings, integers, longs, big integers, doubles, booleans and null can be written; no snapshot
+ * is created for files with other values (e.g. timestamps).
+ */
+final class SnapshotCache {
+
+    /** Suffix appended to the name of the YAML file to get the snapshot file. */
+    static final String FILE_SUFFIX = ".snapshot";
+
+    private static final int MAGIC = 0x434D534E; // "CMSN"
+    private static final byte VERSION = 1;
+
+    private static final byte NULL = 0;
+    private static final byte STRING = 1;
+    private static final byte INTEGER = 2;
+    private static final byte LONG = 3;
+    private static final byte BIG_INTEGER = 4;
+    private static final byte DOUBLE = 5;
+    private static final byte TRUE = 6;
+    private static final byte FALSE = 7;
+    private static final byte MAP = 8;
+    private static final byte LIST = 9;
+
+    private SnapshotCache() {
+    }
+
+    /**
+     * Returns the path of the snapshot file for the given YAML file.
+     *
+     * @param yamlFile the YAML file
+     * @return path of the snapshot file
+     */
+    static @NotNull Path getSnapshotPath(@NotNull Path yamlFile) {
+        return yamlFile.resolveSibling(yamlFile.getFileName() + FILE_SUFFIX);
+    }
+
+    /**
+     * Returns the signature of the options which influence the values loaded from a file. A snapshot is only used
+     * by readers whose options have the same signature as the options it was written with.
+     *
+     * @param options the options to process
+     * @return the signature of the options
+     */
+    static int createSignature(@NotNull YamlFileResourceOptions options) {
+        return Objects.hash(options.splitDotPaths(), options.getPathsToLoad(), options.getCharset().name());
+    }
+
+    /**
+     * Reads the snapshot of the given YAML file. Returns null if there is no snapshot, if it does not match the
+     * given fingerprint and options signature, or if it cannot be read.
+     *
+     * @param yamlFile the YAML file whose snapshot should be read
+     * @param fingerprint fingerprint of the YAML file's current contents
+     * @param signature signature of the options which influence the loaded values
+     * @return the values of the snapshot, or null if no valid snapshot is available
+     */
+    static @Nullable Map<String, Object> read(@NotNull Path yamlFile, @NotNull FileFingerprint fingerprint,
+                                              int signature) {
+        Path snapshotFile = getSnapshotPath(yamlFile);
+        if (!Files.isRegularFile(snapshotFile)) {
+            return null;
+        }
+        try {
+            byte[] bytes = Files.readAllBytes(snapshotFile);
+            DataInputStream input = new DataInputStream(new ByteArrayInputStream(bytes));
+            if (input.readInt() != MAGIC || input.readByte() != VERSION || input.readLong() != fingerprint.getSize()
+                || input.readLong() != fingerprint.getChecksum() || input.readInt() != signature) {
+                return null;
+            }
+            Object root = new Reader(input).readValue();
+            return root instanceof Map<?, ?> ? (Map<String, Object>) root : null;
+        } catch (IOException | RuntimeException e) {
+            // The snapshot is only a cache: ignore it if it cannot be read
+            return null;
+        }
+    }
+
+    /**
+     * Writes a snapshot of the given values. Nothing is written if the values contain a type that is not
+     * supported; a snapshot which cannot be written is deleted.
+     *
+     * @param yamlFile the YAML file the values were loaded from
+     * @param fingerprint fingerprint of the YAML file's contents the values were loaded from
+     * @param signature signature of the options which influenced the loaded values
+     * @param root the values to save
+     * @return true if the snapshot was written, false otherwise
+     */
+    static boolean write(@NotNull Path yamlFile, @NotNull FileFingerprint fingerprint, int signature,
+                         @NotNull Map<String, Object> root) {
+        Path snapshotFile = getSnapshotPath(yamlFile);
+        try {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream((int) Math.min(fingerprint.getSize(), 1 << 20));
+            DataOutputStream output = new DataOutputStream(bytes);
+            output.writeInt(MAGIC);
+            output.writeByte(VERSION);
+            output.writeLong(fingerprint.getSize());
+            output.writeLong(fingerprint.getChecksum());
+            output.writeInt(signature);
+            if (!new Writer(output).writeValue(root)) {
+                Files.deleteIfExists(snapshotFile);
+                return false;
+            }
+
+            Path tempFile = snapshotFile.resolveSibling(snapshotFile.getFileName() + ".tmp");
+            Files.write(tempFile, bytes.toByteArray());
+            try {
+                Files.move(tempFile, snapshotFile, StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tempFile, snapshotFile, StandardCopyOption.REPLACE_EXISTING);
+            }
+            return true;
+        } catch (IOException e) {
+            // The snapshot is only a cache: try to get rid of a possibly broken snapshot and carry on
+            try {
+                Files.deleteIfExists(snapshotFile);
+            } catch (IOException ignored) {
+                // Nothing else we can do
+            }
+            return false;
+        }
+    }
+
+    /**
+     * Collects the export values of properties into the tree of values a reader loads from the exported file, so
+     * that a snapshot can be written after saving a file without parsing it again. Only values which are loaded
+     * back from YAML as equal values of the same type are accepted (e.g. strings, integers and lists thereof);
+     * for all other values, the file has to be parsed in order to know what a reader will load.
+     */
+    static final class ExportedValues {
+
+        private final Map<String, Object> root = new LinkedHashMap<>();
+        /** Sections created by this object, which may receive further entries. */
+        private final Set<Map<String, Object>> sections = Collections.newSetFromMap(new IdentityHashMap<>());
+
+        /**
+         * Adds the export value of a property.
+         *
+         * @param segments the segments of the property's path
+         * @param value the export value of the property (null if it is not exported)
+         * @return true if the value was added, false if it cannot be added to the snapshot
+         */
+        boolean add(@NotNull List<String> segments, @Nullable Object value) {
+            if (value == null) {
+                return true;
+            }
+            // Collections and arrays of a property are exported as YAML list (see YamlFileResource#toYaml)
+            Object loadedValue = value;
+            if (value instanceof Collection<?> && !(value instanceof List<?>)) {
+                loadedValue = new ArrayList<>((Collection<?>) value);
+            } else if (value instanceof Object[]) {
+                loadedValue = Arrays.asList((Object[]) value);
+            }
+            if (segments.isEmpty() || !isLoadedAsExported(loadedValue)) {
+                return false;
+            }
+
+            Map<String, Object> section = root;
+            for (int i = 0; i < segments.size() - 1; ++i) {
+                Object child = section.get(segments.get(i));
+                if (segments.get(i).isEmpty()) {
+                    return false;
+                } else if (child == null) {
+                    Map<String, Object> newSection = new LinkedHashMap<>();
+                    section.put(segments.get(i), newSection);
+                    sections.add(newSection);
+                    section = newSection;
+                } else if (sections.contains(child)) {
+                    section = (Map<String, Object>) child;
+                } else {
+                    return false;
+                }
+            }
+            String key = segments.get(segments.size() - 1);
+            return !key.isEmpty() && section.putIfAbsent(key, loadedValue) == null;
+        }
+
+        /**
+         * @return the values as a reader loads them from the exported file
+         */
+        @NotNull Map<String, Object> getRoot() {
+            return root;
+        }
+
+        private static boolean isLoadedAsExported(@Nullable Object value) {
+            if (value instanceof String || value instanceof Integer || value instanceof Double
+                || value instanceof Boolean) {
+                return true;
+            } else if (value instanceof Long) {
+                // Smaller numbers are loaded as Integer
+                long number = (Long) value;
+                return number < Integer.MIN_VALUE || number > Integer.MAX_VALUE;
+            } else if (value instanceof List<?>) {
+                for (Object element : (List<?>) value) {
+                    if (element != null && !isLoadedAsExported(element)) {
+                        return false;
+                    }
+                }
+                return true;
+            } else if (value instanceof Map<?, ?>) {
+                for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                    // Null values are not exported, and keys with dots may be split into multiple sections
+                    if (!(entry.getKey() instanceof String) || ((String) entry.getKey()).isEmpty()
+                        || ((String) entry.getKey()).indexOf('.') >= 0 || entry.getValue() == null
+                        || !isLoadedAsExported(entry.getValue())) {
+                        return false;
+                    }
+                }
+                return true;
+            }
+            return false;
+        }
+    }
+
+    private static final class Writer {
+
+        private final DataOutputStream output;
+        private final Map<String, Integer> stringIndices = new HashMap<>();
+
+        Writer(@NotNull DataOutputStream output) {
+            this.output = output;
+        }
+
+        /**
+         * Writes the given value.
+         *
+         * @param value the value to write
+         * @return true if the value was written, false if it contains an unsupported type
+         * @throws IOException if the value cannot be written
+         */
+        boolean writeValue(@Nullable Object value) throws IOException {
+            if (value == null) {
+                output.writeByte(NULL);
+            } else if (value instanceof String) {
+                output.writeByte(STRING);
+                writeString((String) value);
+            } else if (value instanceof Integer) {
+                output.writeByte(INTEGER);
+                output.writeInt((Integer) value);
+            } else if (value instanceof Long) {
+                output.writeByte(LONG);
+                output.writeLong((Long) value);
+            } else if (value instanceof BigInteger) {
+                output.writeByte(BIG_INTEGER);
+                writeString(value.toString());
+            } else if (value instanceof Double) {
+                output.writeByte(DOUBLE);
+                output.writeDouble((Double) value);
+            } else if (value instanceof Boolean) {
+                output.writeByte((Boolean) value ? TRUE : FALSE);
+            } else if (value instanceof Map<?, ?>) {
+                Map<?, ?> map = (Map<?, ?>) value;
+                output.writeByte(MAP);
+                output.writeInt(map.size());
+                for (Map.Entry<?, ?> entry : map.entrySet()) {
+                    if (!(entry.getKey() instanceof String)) {
+                        return false;
+                    }
+                    writeString((String) entry.getKey());
+                    if (!writeValue(entry.getValue())) {
+                        return false;
+                    }
+                }
+            } else if (value instanceof List<?>) {
+                List<?> list = (List<?>) value;
+                output.writeByte(LIST);
+                output.writeInt(list.size());
+                for (Object element : list) {
+                    if (!writeValue(element)) {
+                        return false;
+                    }
+                }
+            } else {
+                return false;
+            }
+            return true;
+        }
+
+        /**
+         * Writes a string: the first occurrence as its byte length and UTF-8 bytes, later occurrences as the
+         * negative index of the first occurrence.
+         */
+        private void writeString(@NotNull String str) throws IOException {
+            Integer index = stringIndices.get(str);
+            if (index != null) {
+                output.writeInt(-index - 1);
+            } else {
+                stringIndices.put(str, stringIndices.size());
+                byte[] bytes = str.getBytes(StandardCharsets.UTF_8);
+                output.writeInt(bytes.length);
+                output.write(bytes);
+            }
+        }
+    }
+
+    private static final class Reader {
+
+        private final DataInputStream input;
+        private final List<String> strings = new ArrayList<>();
+
+        Reader(@NotNull DataInputStream input) {
+            this.input = input;
+        }
+
+        @Nullable Object readValue() throws IOException {
+            byte type = input.readByte();
+            switch (type) {
+                case NULL:
+                    return null;
+                case STRING:
+                    return readString();
+                case INTEGER:
+                    return input.readInt();
+                case LONG:
+                    return input.readLong();
+                case BIG_INTEGER:
+                    return new BigInteger(readString());
+                case DOUBLE:
+                    return input.readDouble();
+                case TRUE:
+                    return true;
+                case FALSE:
+                    return false;
+                case MAP:
+                    int mapSize = input.readInt();
+                    Map<String, Object> map = new LinkedHashMap<>(capacityFor(mapSize));
+                    for (int i = 0; i < mapSize; ++i) {
+                        String key = readString();
+                        map.put(key, readValue());
+                    }
+                    return map;
+                case LIST:
+                    int listSize = input.readInt();
+                    List<Object> list = new ArrayList<>(Math.min(listSize, input.available()));
+                    for (int i = 0; i < listSize; ++i) {
+                        list.add(readValue());
+                    }
+                    return list;
+                default:
+                    throw new IOException("Unknown type " + type);
+            }
+        }
+
+        private @NotNull String readString() throws IOException {
+            int length = input.readInt();
+            if (length < 0) {
+                return strings.get(-length - 1);
+            }
+            if (length > input.available()) {
+                throw new IOException("Invalid string length " + length);
+            }
+            byte[] bytes = new byte[length];
+            input.readFully(bytes);
+            String str = new String(bytes, StandardCharsets.UTF_8);
+            strings.add(str);
+            return str;
+        }
+
+        private int capacityFor(int size) throws IOException {
+            if (size < 0 || size > input.available()) {
+                throw new IOException("Invalid size " + size);
+            }
+            return (int) (size / 0.75f) + 1;
+        }
+    }
+}
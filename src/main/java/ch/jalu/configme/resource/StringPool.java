@@ -0,0 +1,56 @@
+package ch.jalu.configme.resource;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Bounded pool of canonical String instances, used while loading a file so that equal keys (and optionally short
+ * scalar values) share one instance instead of each occurrence keeping its own copy. Unlike {@link String#intern()},
+ * a pool is not global: it is created for one load and discarded afterwards. Once the pool has reached its maximum
+ * size, new strings are no longer added and are returned as-is.
+ * <p>
+ * Instances are not thread-safe.
+ */
+public final class StringPool {
+
+    /** Default maximum number of strings kept in a pool. */
+    public static final int DEFAULT_MAX_SIZE = 8192;
+
+    private final Map<String, String> strings = new HashMap<>();
+    private final int maxSize;
+
+    /**
+     * Constructor.
+     *
+     * @param maxSize the maximum number of strings to keep in the pool
+     */
+    public StringPool(int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Returns the pool's instance that is equal to the given string. If the pool has no such string yet, the given
+     * string is added to the pool (if it is not full) and returned.
+     *
+     * @param str the string to canonicalize
+     * @return the pooled instance equal to the string, or the string itself
+     */
+    public @NotNull String canonicalize(@NotNull String str) {
+        String pooled = strings.get(str);
+        if (pooled != null) {
+            return pooled;
+        } else if (strings.size() < maxSize) {
+            strings.put(str, str);
+        }
+        return str;
+    }
+
+    /**
+     * @return the number of strings in the pool
+     */
+    public int size() {
+        return strings.size();
+    }
+}
@@ -0,0 +1,583 @@
+package ch.jalu.configme.resource;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.yaml.snakeyaml.DumperOptions;
+import org.yaml.snakeyaml.nodes.NodeId;
+import org.yaml.snakeyaml.nodes.ScalarNode;
+import org.yaml.snakeyaml.nodes.Tag;
+import org.yaml.snakeyaml.resolver.Resolver;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Single-pass parser for the subset of YAML which {@link YamlFileResource} writes: block mappings and block
+ * sequences (including mappings in sequence entries), single-line plain and quoted scalars, empty flow collections
+ * ({@code []} and <code>{}</code>) and comments. The result is the same as the one of SnakeYAML's
+ * {@code new Yaml().load}: plain scalars are resolved with SnakeYAML's {@link Resolver}, and values which are not
+ * simple numbers, booleans or nulls are constructed by SnakeYAML.
+ * <p>
+ * Whenever the document uses any other construct (e.g. anchors, tags, flow collections, multi-line scalars or
+ * document markers), or if the document is not well-formed, parsing is aborted with an
+ * {@link UnsupportedSyntaxException} so that the document can be loaded with SnakeYAML instead. Documents whose
+ * root is not a mapping are also rejected.
+ * <p>
+ * Instances are not thread-safe and can only parse one document.
+ */
+final class SubsetYamlParser {
+
+    /** Nesting depth above which documents are left to SnakeYAML, which has a nesting limit of 50. */
+    private static final int MAX_DEPTH = 40;
+    /** Maximum length of an implicit key, as enforced by SnakeYAML. */
+    private static final int MAX_KEY_LENGTH = 1024;
+    /** Document size above which documents are left to SnakeYAML, which has a limit of 3 MB by default. */
+    private static final int MAX_DOCUMENT_LENGTH = 3 * 1024 * 1024;
+
+    private static final Resolver RESOLVER = new Resolver();
+
+    private final String yaml;
+    private final @Nullable StringPool pool;
+    private final boolean deduplicateKeys;
+    private final int maxScalarLength;
+    private @Nullable DeduplicatingConstructor constructor;
+
+    // Significant lines (not blank and not only a comment): start of content, end of line and column of the content
+    private int[] starts;
+    private int[] ends;
+    private int[] indents;
+    private int lineCount;
+    /** Index of the current line. */
+    private int line;
+    /** Value of the last scanned quoted scalar. */
+    private String quotedScalar;
+
+    /**
+     * Constructor.
+     *
+     * @param yaml the document to parse
+     * @param pool the pool to canonicalize strings with, or null to not deduplicate any strings
+     * @param deduplicateKeys whether mapping keys should be canonicalized
+     * @param maxScalarLength maximum length of string values to canonicalize (0 to not canonicalize values)
+     */
+    SubsetYamlParser(@NotNull String yaml, @Nullable StringPool pool, boolean deduplicateKeys, int maxScalarLength) {
+        this.yaml = yaml;
+        this.pool = pool;
+        this.deduplicateKeys = deduplicateKeys;
+        this.maxScalarLength = maxScalarLength;
+    }
+
+    /**
+     * Parses the document.
+     *
+     * @return the root map, or null if the document is empty
+     * @throws UnsupportedSyntaxException if the document cannot be parsed by this parser
+     */
+    @Nullable Map<Object, Object> parse() throws UnsupportedSyntaxException {
+        if (yaml.length() > MAX_DOCUMENT_LENGTH) {
+            throw new UnsupportedSyntaxException();
+        }
+        validateCharacters();
+        splitLines();
+        if (lineCount == 0) {
+            return null;
+        }
+
+        int rootIndent = indents[0];
+        if (isSequenceEntry(starts[0], ends[0])) {
+            throw new UnsupportedSyntaxException();
+        }
+        Map<Object, Object> root = parseMapping(rootIndent, 1);
+        if (line < lineCount) { // line with less indentation than the first line
+            throw new UnsupportedSyntaxException();
+        }
+        return root;
+    }
+
+    /**
+     * Rejects characters that are not printable in YAML or that this parser does not handle (tabs, byte order
+     * marks and special line breaks).
+     */
+    private void validateCharacters() throws UnsupportedSyntaxException {
+        int length = yaml.length();
+        for (int i = 0; i < length; ++i) {
+            char c = yaml.charAt(i);
+            if (c < 0x20) {
+                if (c != '\n' && (c != '\r' || i + 1 == length || yaml.charAt(i + 1) != '\n')) {
+                    throw new UnsupportedSyntaxException();
+                }
+            } else if (c >= 0x7F && c <= 0x9F || c == 0x2028 || c == 0x2029 || c == 0xFEFF || c >= 0xFFFE) {
+                throw new UnsupportedSyntaxException();
+            } else if (Character.isHighSurrogate(c)) {
+                if (i + 1 >= length || !Character.isLowSurrogate(yaml.charAt(i + 1))) {
+                    throw new UnsupportedSyntaxException();
+                }
+                ++i;
+            } else if (Character.isLowSurrogate(c)) {
+                throw new UnsupportedSyntaxException();
+            }
+        }
+    }
+
+    /**
+     * Determines the significant lines of the document.
+     */
+    private void splitLines() throws UnsupportedSyntaxException {
+        int capacity = 16;
+        starts = new int[capacity];
+        ends = new int[capacity];
+        indents = new int[capacity];
+
+        int length = yaml.length();
+        int lineStart = 0;
+        while (lineStart < length) {
+            int lineBreak = yaml.indexOf('\n', lineStart);
+            int next = lineBreak < 0 ? length : lineBreak + 1;
+            int end = lineBreak < 0 ? length : lineBreak;
+            if (end > lineStart && yaml.charAt(end - 1) == '\r') {
+                --end;
+            }
+
+            int contentStart = lineStart;
+            while (contentStart < end && yaml.charAt(contentStart) == ' ') {
+                ++contentStart;
+            }
+            if (contentStart < end && yaml.charAt(contentStart) != '#') {
+                if (contentStart == lineStart && (startsWithMarker("---", lineStart, end)
+                    || startsWithMarker("...", lineStart, end))) {
+                    throw new UnsupportedSyntaxException();
+                }
+                if (lineCount == capacity) {
+                    capacity *= 2;
+                    starts = Arrays.copyOf(starts, capacity);
+                    ends = Arrays.copyOf(ends, capacity);
+                    indents = Arrays.copyOf(indents, capacity);
+                }
+                starts[lineCount] = contentStart;
+                ends[lineCount] = end;
+                indents[lineCount] = contentStart - lineStart;
+                ++lineCount;
+            }
+            lineStart = next;
+        }
+    }
+
+    private boolean startsWithMarker(@NotNull String marker, int start, int end) {
+        return yaml.startsWith(marker, start)
+            && (start + marker.length() == end || yaml.charAt(start + marker.length()) == ' ');
+    }
+
+    /**
+     * Parses the block node which starts on the current line, whose content is at the given column.
+     *
+     * @param indent the column of the node
+     * @param depth the nesting depth of the node
+     * @return the mapping or sequence
+     */
+    private @NotNull Object parseBlock(int indent, int depth) throws UnsupportedSyntaxException {
+        return isSequenceEntry(starts[line], ends[line])
+            ? parseSequence(indent, depth)
+            : parseMapping(indent, depth);
+    }
+
+    private @NotNull Map<Object, Object> parseMapping(int indent, int depth) throws UnsupportedSyntaxException {
+        if (depth > MAX_DEPTH) {
+            throw new UnsupportedSyntaxException();
+        }
+        Map<Object, Object> map = new LinkedHashMap<>();
+        while (line < lineCount && indents[line] >= indent) {
+            int start = starts[line];
+            int end = ends[line];
+            if (indents[line] > indent || isSequenceEntry(start, end)) {
+                throw new UnsupportedSyntaxException();
+            }
+
+            Object key;
+            int colon;
+            char first = yaml.charAt(start);
+            if (first == '"' || first == '\'') {
+                int afterQuote = scanQuotedScalar(start, end);
+                colon = skipSpaces(afterQuote, end);
+                if (colon == end || yaml.charAt(colon) != ':') {
+                    throw new UnsupportedSyntaxException();
+                }
+                key = pool(quotedScalar, true);
+            } else {
+                checkPlainScalarStart(start, end);
+                colon = findMappingColon(start, end);
+                if (colon < 0) {
+                    throw new UnsupportedSyntaxException();
+                }
+                key = constructPlainScalar(yaml.substring(start, trimTrailingSpaces(start, colon)), true);
+            }
+            if (colon - start > MAX_KEY_LENGTH) {
+                throw new UnsupportedSyntaxException();
+            }
+            map.put(key, parseMappingValue(colon + 1, end, indent, depth));
+        }
+        return map;
+    }
+
+    private @Nullable Object parseMappingValue(int afterColon, int end, int indent,
+                                               int depth) throws UnsupportedSyntaxException {
+        int valueStart = skipSpaces(afterColon, end);
+        if (valueStart < end && valueStart == afterColon) {
+            // Value or comment directly after the colon, e.g. after a quoted key
+            throw new UnsupportedSyntaxException();
+        }
+        ++line;
+        if (valueStart < end && yaml.charAt(valueStart) != '#') {
+            return parseInlineValue(valueStart, end);
+        }
+
+        if (line < lineCount) {
+            if (indents[line] > indent) {
+                return parseBlock(indents[line], depth + 1);
+            } else if (indents[line] == indent && isSequenceEntry(starts[line], ends[line])) {
+                return parseSequence(indent, depth + 1);
+            }
+        }
+        return null;
+    }
+
+    private @NotNull List<Object> parseSequence(int indent, int depth) throws UnsupportedSyntaxException {
+        if (depth > MAX_DEPTH) {
+            throw new UnsupportedSyntaxException();
+        }
+        List<Object> list = new ArrayList<>();
+        while (line < lineCount && indents[line] >= indent) {
+            int start = starts[line];
+            int end = ends[line];
+            if (indents[line] > indent) {
+                throw new UnsupportedSyntaxException();
+            } else if (!isSequenceEntry(start, end)) {
+                break; // next entry of the mapping this sequence belongs to
+            }
+
+            int valueStart = skipSpaces(start + 1, end);
+            if (valueStart == end || yaml.charAt(valueStart) == '#') {
+                ++line;
+                if (line < lineCount && indents[line] > indent) {
+                    list.add(parseBlock(indents[line], depth + 1));
+                } else {
+                    list.add(null);
+                }
+            } else if (isSequenceEntry(valueStart, end) || isMappingEntry(valueStart, end)) {
+                // Compact nested node like "- key: value": handle the rest of the line like a line of its own
+                indents[line] += valueStart - start;
+                starts[line] = valueStart;
+                list.add(parseBlock(indents[line], depth + 1));
+            } else {
+                ++line;
+                list.add(parseInlineValue(valueStart, end));
+            }
+        }
+        return list;
+    }
+
+    /**
+     * Parses the scalar (or empty flow collection) that starts at the given position, which is the rest of a line.
+     *
+     * @param start the position of the value
+     * @param end the end of the line
+     * @return the value
+     */
+    private @Nullable Object parseInlineValue(int start, int end) throws UnsupportedSyntaxException {
+        char first = yaml.charAt(start);
+        if (first == '"' || first == '\'') {
+            int afterQuote = scanQuotedScalar(start, end);
+            int rest = skipSpaces(afterQuote, end);
+            if (rest < end && (rest == afterQuote || yaml.charAt(rest) != '#')) {
+                throw new UnsupportedSyntaxException();
+            }
+            return pool(quotedScalar, false);
+        } else if (first == '[' || first == '{') {
+            int closing = start + 1;
+            int rest = skipSpaces(closing + 1, end);
+            if (closing < end && yaml.charAt(closing) == (first == '[' ? ']' : '}')
+                && (rest == end || rest > closing + 1 && yaml.charAt(rest) == '#')) {
+                return first == '[' ? new ArrayList<>() : new LinkedHashMap<>();
+            }
+            throw new UnsupportedSyntaxException();
+        }
+
+        checkPlainScalarStart(start, end);
+        int valueEnd = end;
+        for (int i = start; i < end; ++i) {
+            char c = yaml.charAt(i);
+            if (c == ':' && (i + 1 == end || yaml.charAt(i + 1) == ' ')) {
+                throw new UnsupportedSyntaxException(); // mapping in a place where none is allowed
+            } else if (c == '#' && yaml.charAt(i - 1) == ' ') {
+                valueEnd = i;
+                break;
+            }
+        }
+        return constructPlainScalar(yaml.substring(start, trimTrailingSpaces(start, valueEnd)), false);
+    }
+
+    /**
+     * Returns the position of the colon that ends the implicit key at the given position, or -1 if the
+     * content does not start with a plain key.
+     *
+     * @param start the start of the key
+     * @param end the end of the line
+     * @return position of the colon, or -1 if not applicable
+     */
+    private int findMappingColon(int start, int end) {
+        for (int i = start; i < end; ++i) {
+            char c = yaml.charAt(i);
+            if (c == ':' && (i + 1 == end || yaml.charAt(i + 1) == ' ')) {
+                return i;
+            } else if (c == '#' && i > start && yaml.charAt(i - 1) == ' ') {
+                return -1;
+            }
+        }
+        return -1;
+    }
+
+    private boolean isMappingEntry(int start, int end) throws UnsupportedSyntaxException {
+        char first = yaml.charAt(start);
+        if (first == '"' || first == '\'') {
+            int colon = skipSpaces(scanQuotedScalar(start, end), end);
+            return colon < end && yaml.charAt(colon) == ':';
+        }
+        return findMappingColon(start, end) >= 0;
+    }
+
+    private boolean isSequenceEntry(int start, int end) {
+        return yaml.charAt(start) == '-' && (start + 1 == end || yaml.charAt(start + 1) == ' ');
+    }
+
+    /**
+     * Rejects plain scalars which start with an indicator character.
+     */
+    private void checkPlainScalarStart(int start, int end) throws UnsupportedSyntaxException {
+        char first = yaml.charAt(start);
+        switch (first) {
+            case '[': case ']': case '{': case '}': case ',': case '#': case '&': case '*': case '!':
+            case '|': case '>': case '%': case '@': case '`': case '"': case '\'':
+                throw new UnsupportedSyntaxException();
+            case '-': case '?': case ':':
+                if (start + 1 == end || yaml.charAt(start + 1) == ' ') {
+                    throw new UnsupportedSyntaxException();
+                }
+                break;
+            default:
+                break;
+        }
+    }
+
+    /**
+     * Scans the single-line quoted scalar at the given position and saves its value to {@link #quotedScalar}.
+     *
+     * @param start the position of the opening quote
+     * @param end the end of the line
+     * @return the position after the closing quote
+     */
+    private int scanQuotedScalar(int start, int end) throws UnsupportedSyntaxException {
+        char quote = yaml.charAt(start);
+        StringBuilder sb = null;
+        int segmentStart = start + 1;
+        int i = start + 1;
+        while (i < end) {
+            char c = yaml.charAt(i);
+            if (c == quote) {
+                if (quote == '\'' && i + 1 < end && yaml.charAt(i + 1) == '\'') {
+                    sb = appendSegment(sb, segmentStart, i + 1);
+                    i += 2;
+                    segmentStart = i;
+                    continue;
+                }
+                quotedScalar = sb == null
+                    ? yaml.substring(segmentStart, i)
+                    : appendSegment(sb, segmentStart, i).toString();
+                return i + 1;
+            } else if (c == '\\' && quote == '"') {
+                sb = appendSegment(sb, segmentStart, i);
+                i = appendEscapeSequence(sb, i + 1, end);
+                segmentStart = i;
+                continue;
+            }
+            ++i;
+        }
+        throw new UnsupportedSyntaxException(); // no closing quote on this line
+    }
+
+    private @NotNull StringBuilder appendSegment(@Nullable StringBuilder sb, int start, int end) {
+        StringBuilder builder = sb == null ? new StringBuilder() : sb;
+        return builder.append(yaml, start, end);
+    }
+
+    /**
+     * Appends the character of the escape sequence at the given position (after the backslash).
+     *
+     * @param sb the builder to append to
+     * @param pos the position of the escape character
+     * @param end the end of the line
+     * @return the position after the escape sequence
+     */
+    private int appendEscapeSequence(@NotNull StringBuilder sb, int pos, int end) throws UnsupportedSyntaxException {
+        if (pos >= end) {
+            throw new UnsupportedSyntaxException(); // escaped line break
+        }
+        char c = yaml.charAt(pos);
+        switch (c) {
+            case '0': sb.append('\0'); break;
+            case 'a': sb.append('\u0007'); break;
+            case 'b': sb.append('\b'); break;
+            case 't': sb.append('\t'); break;
+            case 'n': sb.append('\n'); break;
+            case 'v': sb.append('\u000B'); break;
+            case 'f': sb.append('\f'); break;
+            case 'r': sb.append('\r'); break;
+            case 'e': sb.append('\u001B'); break;
+            case ' ': sb.append(' '); break;
+            case '"': sb.append('"'); break;
+            case '\\': sb.append('\\'); break;
+            case 'N': sb.append('\u0085'); break;
+            case '_': sb.append('\u00A0'); break;
+            case 'L': sb.append('\u2028'); break;
+            case 'P': sb.append('\u2029'); break;
+            case 'x': return appendCodePoint(sb, pos + 1, 2, end);
+            case 'u': return appendCodePoint(sb, pos + 1, 4, end);
+            case 'U': return appendCodePoint(sb, pos + 1, 8, end);
+            default:
+                throw new UnsupportedSyntaxException();
+        }
+        return pos + 1;
+    }
+
+    private int appendCodePoint(@NotNull StringBuilder sb, int start, int length,
+                                int end) throws UnsupportedSyntaxException {
+        if (start + length > end) {
+            throw new UnsupportedSyntaxException();
+        }
+        int codePoint = 0;
+        for (int i = start; i < start + length; ++i) {
+            int digit = Character.digit(yaml.charAt(i), 16);
+            if (digit < 0) {
+                throw new UnsupportedSyntaxException();
+            }
+            codePoint = codePoint * 16 + digit;
+        }
+        if (!Character.isValidCodePoint(codePoint)) {
+            throw new UnsupportedSyntaxException();
+        }
+        sb.appendCodePoint(codePoint);
+        return start + length;
+    }
+
+    /**
+     * Constructs the value of the given plain scalar. Strings, nulls, booleans, and decimal numbers are created
+     * directly; other types resolved by SnakeYAML (e.g. hexadecimal numbers or timestamps) are constructed with
+     * SnakeYAML.
+     *
+     * @param text the scalar
+     * @param isKey whether the scalar is a mapping key
+     * @return the value
+     */
+    private @Nullable Object constructPlainScalar(@NotNull String text,
+                                                  boolean isKey) throws UnsupportedSyntaxException {
+        Tag tag = RESOLVER.resolve(NodeId.scalar, text, true);
+        if (Tag.STR.equals(tag)) {
+            return pool(text, isKey);
+        } else if (Tag.NULL.equals(tag)) {
+            return null;
+        } else if (Tag.BOOL.equals(tag)) {
+            char first = Character.toLowerCase(text.charAt(0));
+            return first == 't' || first == 'y' || first == 'o' && text.length() == 2;
+        } else if (Tag.INT.equals(tag)) {
+            if (isSimpleInteger(text)) {
+                return Integer.valueOf(text);
+            }
+        } else if (Tag.FLOAT.equals(tag)) {
+            if (isSimpleFloat(text)) {
+                return Double.valueOf(text);
+            }
+        } else if (!Tag.TIMESTAMP.equals(tag)) {
+            throw new UnsupportedSyntaxException(); // e.g. merge key
+        }
+        return getConstructor().construct(new ScalarNode(tag, text, null, null, DumperOptions.ScalarStyle.PLAIN));
+    }
+
+    /**
+     * Returns whether the given integer scalar is a decimal number that is small enough to always be an Integer.
+     */
+    private static boolean isSimpleInteger(@NotNull String text) {
+        int digitsStart = text.charAt(0) == '-' || text.charAt(0) == '+' ? 1 : 0;
+        int digits = text.length() - digitsStart;
+        if (digits == 0 || digits > 9 || digits > 1 && text.charAt(digitsStart) == '0') {
+            return false; // too long, or octal
+        }
+        for (int i = digitsStart; i < text.length(); ++i) {
+            char c = text.charAt(i);
+            if (c < '0' || c > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns whether the given float scalar is a number that can be parsed with {@link Double#valueOf(String)}
+     * (i.e. is not infinity, not NaN, and has no underscores or base 60 notation).
+     */
+    private static boolean isSimpleFloat(@NotNull String text) {
+        boolean hasDigit = false;
+        for (int i = 0; i < text.length(); ++i) {
+            char c = text.charAt(i);
+            if (c >= '0' && c <= '9') {
+                hasDigit = true;
+            } else if (c != '.' && c != '-' && c != '+' && c != 'e' && c != 'E') {
+                return false;
+            }
+        }
+        return hasDigit;
+    }
+
+    private @NotNull String pool(@NotNull String value, boolean isKey) {
+        if (pool != null && (isKey ? deduplicateKeys : value.length() <= maxScalarLength)) {
+            return pool.canonicalize(value);
+        }
+        return value;
+    }
+
+    private @NotNull DeduplicatingConstructor getConstructor() {
+        if (constructor == null) {
+            constructor = new DeduplicatingConstructor();
+        }
+        return constructor;
+    }
+
+    private int skipSpaces(int pos, int end) {
+        int i = pos;
+        while (i < end && yaml.charAt(i) == ' ') {
+            ++i;
+        }
+        return i;
+    }
+
+    private int trimTrailingSpaces(int start, int end) {
+        int i = end;
+        while (i > start && yaml.charAt(i - 1) == ' ') {
+            --i;
+        }
+        return i;
+    }
+
+    /**
+     * Thrown when a document cannot be parsed by this parser and should be loaded with SnakeYAML instead.
+     */
+    static final class UnsupportedSyntaxException extends Exception {
+
+        private static final long serialVersionUID = 1L;
+
+        UnsupportedSyntaxException() {
+            // No message or stack trace: the exception only signals that a fallback is needed
+            super(null, null, false, false);
+        }
+    }
+}
@@ -1,6 +1,9 @@
 package ch.jalu.configme.resource;
 
 import ch.jalu.configme.exception.ConfigMeException;
+import ch.jalu.configme.instrumentation.FlightRecorderEvents;
+import ch.jalu.configme.instrumentation.LifecycleListener;
+import ch.jalu.configme.properties.PropertyPath;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import org.yaml.snakeyaml.Yaml;
@@ -8,18 +11,15 @@ import org.yaml.snakeyaml.error.YAMLException;
 
 import java.io.File;
 import java.io.IOException;
-import java.io.InputStream;
-import java.io.InputStreamReader;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.util.Collections;
-import java.util.LinkedHashSet;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.stream.Collectors;
 
 /**
  * YAML file reader.
@@ -28,8 +28,33 @@ public class YamlFileReader implements PropertyReader {
 
     private final Path path;
     private final Charset charset;
+    private final @Nullable LifecycleListener listener;
+    /** Loader which only loads the relevant paths of the file, or null to load the entire file. */
+    private final @Nullable SelectiveYamlLoader selectiveLoader;
+    /** Whether maps are normalized when they are first accessed, rather than when the file is loaded. */
+    private final boolean lazyNormalization;
+    /** Whether the normalized values are converted to a compact, read-only representation. */
+    private final boolean compactValues;
+    private final boolean deduplicateKeys;
+    private final int maxDeduplicatedScalarLength;
+    /** Pool to deduplicate strings with while the file is loaded, or null if no strings are deduplicated. */
+    private @Nullable StringPool stringPool;
+    /** Whether the file is parsed with {@link SubsetYamlParser} if possible. */
+    private final boolean useFastParser;
+    /** Whether a snapshot of the values may be read instead of parsing the file. */
+    private final boolean useSnapshotCache;
+    /** Signature of the options which influence the loaded values, to verify that a snapshot is applicable. */
+    private final int snapshotSignature;
+    /** Whether the values were read from a snapshot. */
+    private boolean loadedFromSnapshot;
     @Nullable
     private final Map<String, Object> root;
+    /** Value of each path in the file, or null if paths are not indexed. */
+    private final @Nullable Map<String, Object> pathIndex;
+    /** Fingerprint of the loaded file, or null if it was not determined. */
+    private @Nullable FileFingerprint fingerprint;
+    /** Index of the keys, created on first use (immutable, so it may safely be created more than once). */
+    private volatile @Nullable KeyIndex keyIndex;
 
     /**
      * Constructor.
@@ -58,9 +83,88 @@ public class YamlFileReader implements PropertyReader {
      * @param splitDotPaths whether dots in yaml paths should be split into nested paths
      */
     public YamlFileReader(@NotNull Path path, @NotNull Charset charset, boolean splitDotPaths) {
+        this(path, charset, splitDotPaths, null);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param path the file to load
+     * @param charset the charset to read the data as
+     * @param splitDotPaths whether dots in yaml paths should be split into nested paths
+     * @param listener listener to report the timings of reading, parsing and normalizing the file to (nullable)
+     */
+    public YamlFileReader(@NotNull Path path, @NotNull Charset charset, boolean splitDotPaths,
+                          @Nullable LifecycleListener listener) {
+        this(path, charset, splitDotPaths, false, listener);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param path the file to load
+     * @param charset the charset to read the data as
+     * @param splitDotPaths whether dots in yaml paths should be split into nested paths
+     * @param indexPaths whether all paths should be indexed after loading, making lookups a single hash lookup
+     * @param listener listener to report the timings of reading, parsing and normalizing the file to (nullable)
+     */
+    public YamlFileReader(@NotNull Path path, @NotNull Charset charset, boolean splitDotPaths, boolean indexPaths,
+                          @Nullable LifecycleListener listener) {
+        this(path, charset, splitDotPaths, indexPaths, null, listener);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param path the file to load
+     * @param charset the charset to read the data as
+     * @param splitDotPaths whether dots in yaml paths should be split into nested paths
+     * @param indexPaths whether all paths should be indexed after loading, making lookups a single hash lookup
+     * @param pathsToLoad the paths whose values should be loaded (including their children), or null to load all
+     *                    values of the file. See {@link SelectiveYamlLoader}
+     * @param listener listener to report the timings of reading, parsing and normalizing the file to (nullable)
+     */
+    public YamlFileReader(@NotNull Path path, @NotNull Charset charset, boolean splitDotPaths, boolean indexPaths,
+                          @Nullable Collection<String> pathsToLoad, @Nullable LifecycleListener listener) {
+        this(path, YamlFileResourceOptions.builder()
+            .charset(charset)
+            .splitDotPaths(splitDotPaths)
+            .indexPaths(indexPaths)
+            .loadOnlyPaths(pathsToLoad)
+            .build(), listener);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param path the file to load
+     * @param options the options to load the file with (the options relating to the export are not used)
+     * @param listener listener to report the timings of reading, parsing and normalizing the file to (nullable)
+     */
+    public YamlFileReader(@NotNull Path path, @NotNull YamlFileResourceOptions options,
+                          @Nullable LifecycleListener listener) {
         this.path = path;
-        this.charset = charset;
-        this.root = loadFile(splitDotPaths);
+        this.charset = options.getCharset();
+        this.listener = listener;
+        this.selectiveLoader = options.getPathsToLoad() == null
+            ? null
+            : new SelectiveYamlLoader(options.getPathsToLoad());
+        this.lazyNormalization = options.normalizeLazily();
+        this.compactValues = options.compactValues() && !lazyNormalization;
+        this.deduplicateKeys = options.deduplicateKeys();
+        this.maxDeduplicatedScalarLength = options.getMaxDeduplicatedScalarLength();
+        this.stringPool = deduplicateKeys || maxDeduplicatedScalarLength > 0
+            ? new StringPool(StringPool.DEFAULT_MAX_SIZE)
+            : null;
+        // The fast parser always loads the whole document
+        this.useFastParser = options.useFastParser() && selectiveLoader == null;
+        this.useSnapshotCache = options.useSnapshotCache();
+        this.snapshotSignature = SnapshotCache.createSignature(options);
+        this.root = loadFile(options.splitDotPaths());
+        // The pool is only needed while loading
+        this.stringPool = null;
+        // Indexing all paths would normalize all maps right away
+        this.pathIndex = options.indexPaths() && !lazyNormalization ? createPathIndex(root) : null;
     }
 
     /**
@@ -79,6 +183,12 @@ public class YamlFileReader implements PropertyReader {
         if (path.isEmpty()) {
             return root;
         }
+        if (pathIndex != null) {
+            Object value = pathIndex.get(path);
+            if (value != null || !ReaderUtils.hasEmptySegment(path)) {
+                return value;
+            }
+        }
 
         Object node = root;
         String[] keys = path.split("\\.");
@@ -91,6 +201,29 @@ public class YamlFileReader implements PropertyReader {
         return node;
     }
 
+    @Override
+    public @Nullable Object getObject(@NotNull PropertyPath path) {
+        String pathString = path.getPath();
+        if (pathString.isEmpty()) {
+            return root;
+        }
+        if (pathIndex != null) {
+            Object value = pathIndex.get(pathString);
+            if (value != null || !ReaderUtils.hasEmptySegment(pathString)) {
+                return value;
+            }
+        }
+
+        Object node = root;
+        for (String key : path.getSegments()) {
+            node = getEntryIfIsMap(key, node);
+            if (node == null) {
+                return null;
+            }
+        }
+        return node;
+    }
+
     @Override
     public @Nullable String getString(@NotNull String path) {
         return getTypedObject(path, String.class);
@@ -98,23 +231,52 @@ public class YamlFileReader implements PropertyReader {
 
     @Override
     public @Nullable Integer getInt(@NotNull String path) {
-        Number n = getTypedObject(path, Number.class);
-        return (n == null)
-            ? null
-            : n.intValue();
+        return ReaderUtils.toInteger(getObject(path));
+    }
+
+    @Override
+    public @Nullable Long getLong(@NotNull String path) {
+        return ReaderUtils.toLong(getObject(path));
     }
 
     @Override
     public @Nullable Double getDouble(@NotNull String path) {
-        Number n = getTypedObject(path, Number.class);
-        return (n == null)
-            ? null
-            : n.doubleValue();
+        return ReaderUtils.toDouble(getObject(path));
+    }
+
+    @Override
+    public int getInt(@NotNull String path, int absentValue) {
+        CompactMap parent = getCompactParent(path);
+        if (parent != null) {
+            return parent.getInt(path.substring(path.lastIndexOf('.') + 1), absentValue);
+        }
+        Object value = getObject(path);
+        return value instanceof Number ? ((Number) value).intValue() : absentValue;
+    }
+
+    @Override
+    public long getLong(@NotNull String path, long absentValue) {
+        CompactMap parent = getCompactParent(path);
+        if (parent != null) {
+            return parent.getLong(path.substring(path.lastIndexOf('.') + 1), absentValue);
+        }
+        Object value = getObject(path);
+        return value instanceof Number ? ((Number) value).longValue() : absentValue;
+    }
+
+    @Override
+    public double getDouble(@NotNull String path, double absentValue) {
+        CompactMap parent = getCompactParent(path);
+        if (parent != null) {
+            return parent.getDouble(path.substring(path.lastIndexOf('.') + 1), absentValue);
+        }
+        Object value = getObject(path);
+        return value instanceof Number ? ((Number) value).doubleValue() : absentValue;
     }
 
     @Override
     public @Nullable Boolean getBoolean(@NotNull String path) {
-        return getTypedObject(path, Boolean.class);
+        return ReaderUtils.castOrNull(getObject(path), Boolean.class);
     }
 
     @Override
@@ -129,49 +291,62 @@ public class YamlFileReader implements PropertyReader {
 
     @Override
     public @NotNull Set<String> getKeys(boolean onlyLeafNodes) {
-        if (root == null) {
-            return Collections.emptySet();
-        }
-        Set<String> allKeys = new LinkedHashSet<>();
-        collectKeysIntoSet("", root, allKeys, onlyLeafNodes);
-        return allKeys;
+        return getKeyIndex().getKeys(onlyLeafNodes);
     }
 
     @Override
     public @NotNull Set<String> getChildKeys(@NotNull String path) {
-        Object object = getObject(path);
-        if (object instanceof Map) {
-            String pathPrefix = path.isEmpty() ? "" : path + ".";
-            return ((Map<String, Object>) object).keySet().stream()
-                .map(childPath -> pathPrefix + childPath)
-                .collect(Collectors.toCollection(LinkedHashSet::new));
+        Set<String> childKeys = getKeyIndex().getChildKeys(path);
+        if (childKeys != null) {
+            return childKeys;
         }
-        return Collections.emptySet();
+
+        return ReaderUtils.getChildPaths(path, getObject(path));
+    }
+
+    @Override
+    public @NotNull List<String> getKeysWithPrefix(@NotNull String prefix) {
+        return getKeyIndex().getKeysWithPrefix(prefix);
+    }
+
+    @Override
+    public int countUnder(@NotNull String path) {
+        return getKeyIndex().countUnder(path);
+    }
+
+    @Override
+    public @NotNull List<String> getKeysInRange(@NotNull String fromKey, @NotNull String toKey) {
+        return getKeyIndex().getKeysInRange(fromKey, toKey);
     }
 
     /**
-     * Recursively collects keys from maps into the given set.
+     * Returns the compact map which holds the value of the given path, so that numbers can be read from it
+     * without boxing them. Returns null if values are not compact or if the path's parent is not a compact map.
      *
-     * @param path the path of the given map
-     * @param map the map to process recursively
-     * @param result set to save keys to
-     * @param onlyLeafNodes whether only leaf nodes should be added to the result set
+     * @param path the path whose parent should be returned
+     * @return the compact map with the path's value, or null
      */
-    private void collectKeysIntoSet(@NotNull String path, @NotNull Map<String, Object> map, @NotNull Set<String> result, boolean onlyLeafNodes) {
-        for (Map.Entry<String, Object> entry : map.entrySet()) {
-            String childPath = path.isEmpty() ? entry.getKey() : path + "." + entry.getKey();
-            if (!onlyLeafNodes || isLeafValue(entry.getValue())) {
-                result.add(childPath);
-            }
-
-            if (entry.getValue() instanceof Map) {
-                collectKeysIntoSet(childPath, (Map) entry.getValue(), result, onlyLeafNodes);
-            }
+    private @Nullable CompactMap getCompactParent(@NotNull String path) {
+        if (!compactValues || path.isEmpty() || ReaderUtils.hasEmptySegment(path)) {
+            return null;
         }
+        int lastDotIndex = path.lastIndexOf('.');
+        Object parent = lastDotIndex < 0 ? root : getObject(path.substring(0, lastDotIndex));
+        return parent instanceof CompactMap ? (CompactMap) parent : null;
     }
 
-    private static boolean isLeafValue(@Nullable Object o) {
-        return !(o instanceof Map) || ((Map) o).isEmpty();
+    /**
+     * Returns the index of the keys of this reader's values, creating it on first use.
+     *
+     * @return the key index
+     */
+    private @NotNull KeyIndex getKeyIndex() {
+        KeyIndex index = keyIndex;
+        if (index == null) {
+            index = KeyIndex.create(root);
+            keyIndex = index;
+        }
+        return index;
     }
 
     /**
@@ -181,10 +356,20 @@ public class YamlFileReader implements PropertyReader {
      * @return map with the values from the file
      */
     protected @Nullable Map<String, Object> loadFile(boolean splitDotPaths) {
-        try (InputStream is = Files.newInputStream(path);
-             InputStreamReader isr = new InputStreamReader(is, charset)) {
-            Map<Object, Object> rootMap = new Yaml().load(isr);
-            return normalizeMap(rootMap, splitDotPaths);
+        final Object event = FlightRecorderEvents.beginFileRead();
+        try {
+            Map<String, Object> normalizedMap;
+            if (listener != null) {
+                normalizedMap = loadFileAndReportPhases(splitDotPaths, listener);
+            } else {
+                byte[] bytes = readFile();
+                normalizedMap = readSnapshot();
+                if (normalizedMap == null) {
+                    normalizedMap = normalizeMap(parseYaml(bytes), splitDotPaths);
+                }
+            }
+            FlightRecorderEvents.commitFileRead(event, path, fingerprint == null ? -1 : fingerprint.getSize());
+            return normalizedMap;
         } catch (IOException e) {
             throw new ConfigMeException("Could not read file '" + path + "'", e);
         } catch (ClassCastException e) {
@@ -195,7 +380,150 @@ public class YamlFileReader implements PropertyReader {
     }
 
     /**
-     * Processes the map as read from SnakeYAML and may return a new, adjusted one.
+     * Reads the contents of the file and saves its fingerprint.
+     *
+     * @return the file's contents
+     * @throws IOException if the file cannot be read
+     */
+    private byte @NotNull [] readFile() throws IOException {
+        // Get the modification time first so that changes made while reading are detected as modifications later
+        long lastModified = Files.getLastModifiedTime(path).toMillis();
+        byte[] bytes = Files.readAllBytes(path);
+        fingerprint = FileFingerprint.of(lastModified, bytes);
+        return bytes;
+    }
+
+    /**
+     * Reads the values from the snapshot of the file if snapshots are enabled and the snapshot matches the file's
+     * contents (see {@link SnapshotCache}).
+     *
+     * @return the values of the snapshot, or null if no snapshot can be used
+     */
+    private @Nullable Map<String, Object> readSnapshot() {
+        if (!useSnapshotCache || fingerprint == null) {
+            return null;
+        }
+        Map<String, Object> snapshot = SnapshotCache.read(path, fingerprint, snapshotSignature);
+        if (snapshot == null) {
+            return null;
+        }
+        loadedFromSnapshot = true;
+        return compactValues ? CompactMap.of(snapshot) : snapshot;
+    }
+
+    /**
+     * Writes a snapshot of the loaded values, unless they were read from a snapshot. Used by
+     * {@link YamlFileResource} if snapshots are enabled.
+     *
+     * @return true if a snapshot was written, false otherwise
+     */
+    boolean writeSnapshot() {
+        if (loadedFromSnapshot || fingerprint == null || root == null) {
+            return false;
+        }
+        return SnapshotCache.write(path, fingerprint, snapshotSignature, root);
+    }
+
+    /**
+     * @return true if the values were read from a snapshot instead of parsing the file
+     */
+    public boolean isLoadedFromSnapshot() {
+        return loadedFromSnapshot;
+    }
+
+    /**
+     * Parses the contents of the file. The file is read with one bulk read and decoded into a single String
+     * beforehand, which is faster than having SnakeYAML pull characters through a stream reader. If enabled, the
+     * document is parsed with {@link SubsetYamlParser} first, and only with SnakeYAML if that parser does not
+     * support the document.
+     *
+     * @param content the file's contents
+     * @return the parsed YAML document
+     */
+    private @Nullable Map<Object, Object> parseYaml(byte @NotNull [] content) {
+        String yaml = new String(content, charset);
+        if (useFastParser) {
+            try {
+                return new SubsetYamlParser(yaml, stringPool, deduplicateKeys, maxDeduplicatedScalarLength).parse();
+            } catch (SubsetYamlParser.UnsupportedSyntaxException e) {
+                // Document uses YAML features outside of the supported subset: parse it with SnakeYAML
+            }
+        }
+        DeduplicatingConstructor constructor =
+            new DeduplicatingConstructor(stringPool, deduplicateKeys, maxDeduplicatedScalarLength);
+        if (selectiveLoader != null) {
+            return (Map<Object, Object>) selectiveLoader.load(yaml, constructor);
+        }
+        return new Yaml(constructor).load(yaml);
+    }
+
+    /**
+     * Loads the file like {@link #loadFile}, reporting the timings of reading, parsing and normalizing
+     * separately to the given listener.
+     *
+     * @param splitDotPaths whether compound keys (keys with ".") should be split into nested paths
+     * @param listener the listener to report to
+     * @return map with the values from the file
+     * @throws IOException if the file cannot be read
+     */
+    private @Nullable Map<String, Object> loadFileAndReportPhases(boolean splitDotPaths,
+                                                                  @NotNull LifecycleListener listener)
+        throws IOException {
+        long start = System.nanoTime();
+        byte[] bytes = readFile();
+        long readEnd = System.nanoTime();
+        listener.onFileRead(path, bytes.length, readEnd - start);
+
+        Map<String, Object> snapshot = readSnapshot();
+        if (snapshot != null) {
+            // Reading the snapshot replaces parsing and normalizing
+            listener.onYamlParsed(path, System.nanoTime() - readEnd);
+            listener.onMapNormalized(path, 0);
+            return snapshot;
+        }
+
+        Map<Object, Object> rootMap = parseYaml(bytes);
+        long parseEnd = System.nanoTime();
+        listener.onYamlParsed(path, parseEnd - readEnd);
+
+        Map<String, Object> normalizedMap = normalizeMap(rootMap, splitDotPaths);
+        listener.onMapNormalized(path, System.nanoTime() - parseEnd);
+        return normalizedMap;
+    }
+
+    /**
+     * Creates an index with the value of each path of the given root map, including paths of sections.
+     * Keys which cannot be addressed with a path (empty keys and keys with a dot) are skipped.
+     *
+     * @param root the root map (may be null)
+     * @return map with the value of every path
+     */
+    private static @NotNull Map<String, Object> createPathIndex(@Nullable Map<String, Object> root) {
+        Map<String, Object> index = new HashMap<>();
+        if (root != null) {
+            addToPathIndex("", root, index);
+        }
+        return index;
+    }
+
+    private static void addToPathIndex(@NotNull String prefix, @NotNull Map<?, ?> map,
+                                       @NotNull Map<String, Object> index) {
+        for (Map.Entry<?, ?> entry : map.entrySet()) {
+            String key = String.valueOf(entry.getKey());
+            if (key.isEmpty() || key.indexOf('.') >= 0 || entry.getValue() == null) {
+                continue;
+            }
+            String path = prefix + key;
+            index.put(path, entry.getValue());
+            if (entry.getValue() instanceof Map<?, ?>) {
+                addToPathIndex(path + ".", (Map<?, ?>) entry.getValue(), index);
+            }
+        }
+    }
+
+    /**
+     * Processes the map as read from SnakeYAML and may return a new, adjusted one. If compact values are enabled,
+     * the normalized map is converted to a {@link CompactMap}.
      *
      * @param map the map to normalize
      * @param splitDotPaths whether compound keys (keys with ".") should be split into nested paths
@@ -203,7 +531,16 @@ public class YamlFileReader implements PropertyReader {
      */
     protected @Nullable Map<String, Object> normalizeMap(@Nullable Map<Object, Object> map,
                                                          boolean splitDotPaths) {
-        return new MapNormalizer(splitDotPaths).normalizeMap(map);
+        if (lazyNormalization) {
+            // Lazy maps may be normalized concurrently after loading, so the pool cannot be used
+            return new MapNormalizer(splitDotPaths).normalizeMapLazily(map);
+        }
+        StringPool keyPool = deduplicateKeys ? stringPool : null;
+        Map<String, Object> normalizedMap = new MapNormalizer(splitDotPaths, keyPool).normalizeMap(map);
+        if (compactValues && normalizedMap != null) {
+            return CompactMap.of(normalizedMap);
+        }
+        return normalizedMap;
     }
 
     // Scheduled for removal in favor of #getPath
@@ -216,6 +553,16 @@ public class YamlFileReader implements PropertyReader {
         return path;
     }
 
+    /**
+     * Returns the fingerprint of the file as it was loaded by this reader. Null if the file was not loaded by
+     * {@link #loadFile} (e.g. because a subclass overrides it).
+     *
+     * @return fingerprint of the loaded file, or null if unknown
+     */
+    public @Nullable FileFingerprint getFingerprint() {
+        return fingerprint;
+    }
+
     /**
      * @return the root value; may be null if the file was empty
      * @deprecated use {@code getObject("")} instead
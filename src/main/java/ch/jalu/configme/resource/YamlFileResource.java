@@ -2,7 +2,10 @@ package ch.jalu.configme.resource;
 
 import ch.jalu.configme.configurationdata.ConfigurationData;
 import ch.jalu.configme.exception.ConfigMeException;
+import ch.jalu.configme.instrumentation.FlightRecorderEvents;
+import ch.jalu.configme.instrumentation.LifecycleListener;
 import ch.jalu.configme.properties.Property;
+import ch.jalu.configme.properties.PropertyPath;
 import ch.jalu.configme.resource.PropertyPathTraverser.PathElement;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -11,13 +14,14 @@ import org.yaml.snakeyaml.Yaml;
 
 import java.io.File;
 import java.io.IOException;
-import java.io.OutputStream;
-import java.io.OutputStreamWriter;
+import java.io.StringWriter;
 import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
@@ -30,6 +34,12 @@ public class YamlFileResource implements PropertyResource {
     private final @NotNull YamlFileResourceOptions options;
     private final String indentationSpace;
     private @Nullable Yaml yamlObject;
+    /** Length of the previous export, used as initial capacity of the buffer for the next export. */
+    private int lastExportLength = 1024;
+    /** Number of bytes written to the file by the last export, or -1 if unknown. */
+    private long lastWrittenBytes = -1;
+    /** Last created reader, only kept if readers may be reused. */
+    private @Nullable YamlFileReader lastReader;
 
     public YamlFileResource(@NotNull Path path) {
         this(path, YamlFileResourceOptions.builder().build());
@@ -54,17 +64,80 @@ public class YamlFileResource implements PropertyResource {
 
     @Override
     public @NotNull PropertyReader createReader() {
-        return new YamlFileReader(path, options.getCharset(), options.splitDotPaths());
+        return createOrReuseReader(null);
+    }
+
+    @Override
+    public @NotNull PropertyReader createReader(@NotNull LifecycleListener listener) {
+        return createOrReuseReader(listener);
+    }
+
+    /**
+     * Creates a new reader, or returns the last reader if the options allow it and the file is unchanged.
+     *
+     * @param listener the listener to report the loading phases to (nullable)
+     * @return the reader to use
+     */
+    private @NotNull PropertyReader createOrReuseReader(@Nullable LifecycleListener listener) {
+        if (!options.reuseReaderIfUnchanged()) {
+            return createNewReader(listener);
+        }
+
+        YamlFileReader reader = lastReader;
+        if (reader != null && isFileUnchanged(reader.getFingerprint())) {
+            return reader;
+        }
+        reader = createNewReader(listener);
+        lastReader = reader;
+        return reader;
+    }
+
+    /**
+     * Creates a new reader for the file and writes a snapshot of its values if snapshots are enabled.
+     *
+     * @param listener the listener to report the loading phases to (nullable)
+     * @return the new reader
+     */
+    private @NotNull YamlFileReader createNewReader(@Nullable LifecycleListener listener) {
+        YamlFileReader reader = new YamlFileReader(path, options, listener);
+        if (options.useSnapshotCache()) {
+            reader.writeSnapshot();
+        }
+        return reader;
+    }
+
+    private boolean isFileUnchanged(@Nullable FileFingerprint fingerprint) {
+        try {
+            return fingerprint != null && fingerprint.matches(path);
+        } catch (IOException e) {
+            // Let the new reader throw the appropriate exception
+            return false;
+        }
+    }
+
+    @Override
+    public void exportProperties(@NotNull ConfigurationData configurationData, @NotNull LifecycleListener listener) {
+        lastWrittenBytes = -1;
+        long start = System.nanoTime();
+        exportProperties(configurationData);
+        long duration = System.nanoTime() - start;
+        listener.onPropertiesExported(path, configurationData.getProperties().size(), lastWrittenBytes, duration);
     }
 
     @Override
     public void exportProperties(@NotNull ConfigurationData configurationData) {
-        try (OutputStream os = Files.newOutputStream(path);
-             OutputStreamWriter writer = new OutputStreamWriter(os, options.getCharset())) {
+        final Object event = FlightRecorderEvents.beginFileWrite();
+        try {
+            StringWriter writer = new StringWriter(lastExportLength);
             PropertyPathTraverser pathTraverser = new PropertyPathTraverser(configurationData);
+            SnapshotCache.ExportedValues snapshotValues = createSnapshotValues();
             for (Property<?> property : configurationData.getProperties()) {
                 final Object exportValue = getExportValue(property, configurationData);
-                exportValue(writer, pathTraverser, Arrays.asList(property.getPath().split("\\.")), exportValue);
+                exportValue(writer, pathTraverser, property.getPropertyPath().getSegments(), exportValue);
+                if (snapshotValues != null
+                    && !snapshotValues.add(property.getPropertyPath().getSegments(), exportValue)) {
+                    snapshotValues = null;
+                }
             }
             for (String footerComment : configurationData.getFooterComments()) {
                 if (footerComment.startsWith("\n")) {
@@ -74,12 +147,72 @@ public class YamlFileResource implements PropertyResource {
                 }
             }
             writer.append("\n");
-            writer.flush();
+
+            String export = writer.toString();
+            lastExportLength = export.length();
+            byte[] content = export.getBytes(options.getCharset());
+            writeToFile(content);
+            lastWrittenBytes = content.length;
+            if (options.useSnapshotCache()) {
+                updateSnapshot(content, snapshotValues);
+            }
         } catch (IOException e) {
             throw new ConfigMeException("Could not save config to '" + path + "'", e);
         } finally {
             onWriteComplete();
         }
+        FlightRecorderEvents.commitFileWrite(event, path, configurationData, lastWrittenBytes);
+    }
+
+    /**
+     * Writes the given bytes to the file, replacing its previous contents. The export is rendered into memory
+     * beforehand so that the file is written with a single channel write instead of many small encoder flushes.
+     *
+     * @param content the content to write
+     * @throws IOException if the file cannot be written to
+     */
+    private void writeToFile(byte @NotNull [] content) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+            StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer buffer = ByteBuffer.wrap(content);
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        }
+    }
+
+    /**
+     * Returns an object to collect the export values with for the snapshot of the saved file, or null if no
+     * snapshot should be created from the export values. This is the case if snapshots are disabled, if readers
+     * only load some paths of the file, and for subclasses, which may change how values are written.
+     *
+     * @return object to collect the export values with, or null if not applicable
+     */
+    private @Nullable SnapshotCache.ExportedValues createSnapshotValues() {
+        if (options.useSnapshotCache() && options.getPathsToLoad() == null && getClass() == YamlFileResource.class) {
+            return new SnapshotCache.ExportedValues();
+        }
+        return null;
+    }
+
+    /**
+     * Updates the snapshot of the file after it has been saved. If the values which a reader will load are known
+     * from the export values, the snapshot is written from them without parsing the saved file. Otherwise, the
+     * outdated snapshot is deleted, and a new one is written the next time the file is loaded.
+     *
+     * @param content the content that was written to the file
+     * @param values the exported values, or null if they cannot be used for the snapshot
+     * @throws IOException if the modification time of the file cannot be determined
+     */
+    private void updateSnapshot(byte @NotNull [] content,
+                                @Nullable SnapshotCache.ExportedValues values) throws IOException {
+        if (values != null && !values.getRoot().isEmpty()) {
+            FileFingerprint fingerprint = FileFingerprint.of(Files.getLastModifiedTime(path).toMillis(), content);
+            if (SnapshotCache.write(path, fingerprint, SnapshotCache.createSignature(options), values.getRoot())) {
+                return;
+            }
+        }
+        Files.deleteIfExists(SnapshotCache.getSnapshotPath(path));
     }
 
     protected final @NotNull Path getPath() {
@@ -179,7 +312,7 @@ public class YamlFileResource implements PropertyResource {
             : parentPathElements.stream();
         // Split map by '.' if so configured, otherwise retain entire key as one additional path element
         Stream<String> pathElemsFromEntryKey = options.splitDotPaths()
-            ? Arrays.stream(mapEntryKey.split("\\."))
+            ? PropertyPath.of(mapEntryKey).getSegments().stream()
             : Stream.of(mapEntryKey);
         return Stream.concat(parentPathElems, pathElemsFromEntryKey)
             .collect(Collectors.toList());
@@ -291,7 +424,16 @@ public class YamlFileResource implements PropertyResource {
         return options;
     }
 
-    private <T> @Nullable Object getExportValue(@NotNull Property<T> property, @NotNull ConfigurationData configurationData) {
+    /**
+     * Returns the value to export for the given property. Properties with a null export value are not written.
+     *
+     * @param property the property to get the export value for
+     * @param configurationData the configuration data with the property's value
+     * @param <T> the property's type
+     * @return the export value of the property
+     */
+    protected <T> @Nullable Object getExportValue(@NotNull Property<T> property,
+                                                  @NotNull ConfigurationData configurationData) {
         return property.toExportValue(configurationData.getValue(property));
     }
 
@@ -1,11 +1,20 @@
 package ch.jalu.configme.resource;
 
+import ch.jalu.configme.configurationdata.ConfigurationData;
+import ch.jalu.configme.properties.Property;
 import ch.jalu.configme.resource.PropertyPathTraverser.PathElement;
 import org.jetbrains.annotations.NotNull;
 
 import org.jetbrains.annotations.Nullable;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
 import java.util.function.ToIntFunction;
 
 public class YamlFileResourceOptions {
@@ -14,6 +23,15 @@ public class YamlFileResourceOptions {
     private final @Nullable ToIntFunction<PathElement> numberOfLinesBeforeFunction;
     private final int indentationSize;
     private final boolean splitDotPaths;
+    private final boolean indexPaths;
+    private final @Nullable Set<String> pathsToLoad;
+    private final boolean reuseReaderIfUnchanged;
+    private final boolean normalizeLazily;
+    private final boolean compactValues;
+    private final boolean deduplicateKeys;
+    private final int maxDeduplicatedScalarLength;
+    private final boolean useSnapshotCache;
+    private final boolean useFastParser;
 
     /**
      * Constructor. Use {@link #builder()} to instantiate option objects.
@@ -27,16 +45,64 @@ public class YamlFileResourceOptions {
                                       @Nullable ToIntFunction<PathElement> numberOfLinesBeforeFunction,
                                       int indentationSize,
                                       boolean splitDotPaths) {
-        this.charset = charset == null ? StandardCharsets.UTF_8 : charset;
-        this.numberOfLinesBeforeFunction = numberOfLinesBeforeFunction;
-        this.indentationSize = indentationSize;
-        this.splitDotPaths = splitDotPaths;
+        this(builder()
+            .charset(charset)
+            .numberOfLinesBeforeFunction(numberOfLinesBeforeFunction)
+            .indentationSize(indentationSize)
+            .splitDotPaths(splitDotPaths));
+    }
+
+    /**
+     * Constructor. Use {@link #builder()} to instantiate option objects.
+     *
+     * @param builder the builder whose values should be used
+     */
+    protected YamlFileResourceOptions(@NotNull Builder builder) {
+        this.charset = builder.charset == null ? StandardCharsets.UTF_8 : builder.charset;
+        this.numberOfLinesBeforeFunction = builder.numberOfLinesBeforeFunction;
+        this.indentationSize = builder.indentationSize;
+        this.splitDotPaths = builder.splitDotPaths;
+        this.indexPaths = builder.indexPaths;
+        this.pathsToLoad = builder.pathsToLoad == null
+            ? null
+            : Collections.unmodifiableSet(new LinkedHashSet<>(builder.pathsToLoad));
+        this.reuseReaderIfUnchanged = builder.reuseReaderIfUnchanged;
+        this.normalizeLazily = builder.normalizeLazily;
+        this.compactValues = builder.compactValues;
+        this.deduplicateKeys = builder.deduplicateKeys;
+        this.maxDeduplicatedScalarLength = builder.maxDeduplicatedScalarLength;
+        this.useSnapshotCache = builder.useSnapshotCache;
+        this.useFastParser = builder.useFastParser;
     }
 
     public static @NotNull Builder builder() {
         return new Builder();
     }
 
+    /**
+     * Returns a builder initialized with the values of this object, e.g. to create options which only differ in
+     * some values.
+     *
+     * @return new builder with the values of these options
+     */
+    public @NotNull Builder toBuilder() {
+        Builder builder = new Builder();
+        builder.charset = charset;
+        builder.numberOfLinesBeforeFunction = numberOfLinesBeforeFunction;
+        builder.indentationSize = indentationSize;
+        builder.splitDotPaths = splitDotPaths;
+        builder.indexPaths = indexPaths;
+        builder.pathsToLoad = pathsToLoad;
+        builder.reuseReaderIfUnchanged = reuseReaderIfUnchanged;
+        builder.normalizeLazily = normalizeLazily;
+        builder.compactValues = compactValues;
+        builder.deduplicateKeys = deduplicateKeys;
+        builder.maxDeduplicatedScalarLength = maxDeduplicatedScalarLength;
+        builder.useSnapshotCache = useSnapshotCache;
+        builder.useFastParser = useFastParser;
+        return builder;
+    }
+
     public @NotNull Charset getCharset() {
         return charset;
     }
@@ -53,6 +119,71 @@ public class YamlFileResourceOptions {
         return splitDotPaths;
     }
 
+    /**
+     * @return true if the reader should index all paths of the file so that lookups are a single hash lookup
+     */
+    public boolean indexPaths() {
+        return indexPaths;
+    }
+
+    /**
+     * @return the paths readers should load from the file (including their children), or null to load all values
+     */
+    public @Nullable Set<String> getPathsToLoad() {
+        return pathsToLoad;
+    }
+
+    /**
+     * @return true if the resource should return its previous reader again if the file has not changed since
+     */
+    public boolean reuseReaderIfUnchanged() {
+        return reuseReaderIfUnchanged;
+    }
+
+    /**
+     * @return true if readers should normalize maps when they are first accessed instead of when the file is loaded
+     */
+    public boolean normalizeLazily() {
+        return normalizeLazily;
+    }
+
+    /**
+     * @return true if readers should keep the values of the file in a compact, read-only representation
+     */
+    public boolean compactValues() {
+        return compactValues;
+    }
+
+    /**
+     * @return true if equal keys should share one String instance when a file is loaded
+     */
+    public boolean deduplicateKeys() {
+        return deduplicateKeys;
+    }
+
+    /**
+     * @return maximum length of string values which should share one String instance when a file is loaded
+     *         (0 if values are not deduplicated)
+     */
+    public int getMaxDeduplicatedScalarLength() {
+        return maxDeduplicatedScalarLength;
+    }
+
+    /**
+     * @return true if a binary snapshot of the loaded values should be kept next to the file to speed up loading
+     */
+    public boolean useSnapshotCache() {
+        return useSnapshotCache;
+    }
+
+    /**
+     * @return true if files should be parsed with the fast parser for the YAML subset written by ConfigMe, falling
+     *         back to SnakeYAML for other documents
+     */
+    public boolean useFastParser() {
+        return useFastParser;
+    }
+
     /**
      * @return the indentation to use for one level
      */
@@ -77,13 +208,23 @@ public class YamlFileResourceOptions {
         private ToIntFunction<PathElement> numberOfLinesBeforeFunction;
         private int indentationSize = 4;
         private boolean splitDotPaths = true;
+        private boolean indexPaths;
+        private Collection<String> pathsToLoad;
+        private boolean reuseReaderIfUnchanged;
+        private boolean normalizeLazily;
+        private boolean compactValues;
+        private boolean deduplicateKeys = true;
+        private int maxDeduplicatedScalarLength;
+        private boolean useSnapshotCache;
+        private boolean useFastParser = true;
 
         public @NotNull Builder charset(Charset charset) {
             this.charset = charset;
             return this;
         }
 
-        public @NotNull Builder numberOfLinesBeforeFunction(@NotNull ToIntFunction<PathElement> numberOfLinesBeforeFunction) {
+        public @NotNull Builder numberOfLinesBeforeFunction(
+            @Nullable ToIntFunction<PathElement> numberOfLinesBeforeFunction) {
             this.numberOfLinesBeforeFunction = numberOfLinesBeforeFunction;
             return this;
         }
@@ -98,8 +239,165 @@ public class YamlFileResourceOptions {
             return this;
         }
 
+        /**
+         * Sets whether readers should build an index of all paths in the file after loading it (default: false).
+         * The index makes looking up a value a single hash lookup, at the cost of an additional map entry and
+         * path string for each node of the file, and of traversing the whole file once after loading it. As a
+         * configuration usually only looks up each path once, this is mostly useful for readers that are queried
+         * many times.
+         *
+         * @param indexPaths true to index all paths, false to look up values by traversing the nested maps
+         * @return this builder
+         */
+        public @NotNull Builder indexPaths(boolean indexPaths) {
+            this.indexPaths = indexPaths;
+            return this;
+        }
+
+        /**
+         * Makes readers only load the given paths and their children from the file, skipping all other entries
+         * without constructing any objects for them. This reduces the time and memory needed to load files which
+         * contain large sections that are not relevant to the configuration. Note that values which are not loaded
+         * are also not returned by {@link PropertyReader#getKeys} and similar methods.
+         *
+         * @param paths the paths to load, or null to load all values (default)
+         * @return this builder
+         * @see SelectiveYamlLoader
+         */
+        public @NotNull Builder loadOnlyPaths(@Nullable Collection<String> paths) {
+            this.pathsToLoad = paths;
+            return this;
+        }
+
+        /**
+         * Makes readers only load the paths of the given configuration data's properties, as well as the given
+         * additional paths (e.g. old paths read by a migration service). See {@link #loadOnlyPaths}.
+         *
+         * @param configurationData the configuration data whose properties should be loaded
+         * @param additionalPaths additional paths to load
+         * @return this builder
+         */
+        public @NotNull Builder loadOnlyPathsOf(@NotNull ConfigurationData configurationData,
+                                                @NotNull String... additionalPaths) {
+            List<String> paths = new ArrayList<>(configurationData.getProperties().size() + additionalPaths.length);
+            for (Property<?> property : configurationData.getProperties()) {
+                paths.add(property.getPath());
+            }
+            paths.addAll(Arrays.asList(additionalPaths));
+            return loadOnlyPaths(paths);
+        }
+
+        /**
+         * Sets whether the resource should keep the last reader it created and return it again if the file has not
+         * changed since (default: false). The file is considered unchanged if its size, its modification time and
+         * the checksum of its contents are the same. A settings manager does not reinitialize its values when it is
+         * reloaded with the same reader, unless a value was set in the meantime.
+         * <p>
+         * This makes reloads of unchanged files cheap, at the cost of keeping the reader's values in memory. Note
+         * that changes made directly to mutable values (e.g. beans) are not reverted by a reload that is skipped.
+         *
+         * @param reuseReaderIfUnchanged true to reuse the last reader if the file is unchanged
+         * @return this builder
+         */
+        public @NotNull Builder reuseReaderIfUnchanged(boolean reuseReaderIfUnchanged) {
+            this.reuseReaderIfUnchanged = reuseReaderIfUnchanged;
+            return this;
+        }
+
+        /**
+         * Sets whether readers should normalize the maps of the file lazily (default: false). If enabled, the keys
+         * of a map are only normalized (see {@link MapNormalizer}) when the map is accessed for the first time, and
+         * sections that are never accessed are never normalized. Maps returned by the reader are then unmodifiable.
+         * As indexing all paths would access all maps, {@link #indexPaths paths are not indexed} in this mode.
+         *
+         * @param normalizeLazily true to normalize maps on first access
+         * @return this builder
+         */
+        public @NotNull Builder normalizeLazily(boolean normalizeLazily) {
+            this.normalizeLazily = normalizeLazily;
+            return this;
+        }
+
+        /**
+         * Sets whether readers should keep the values of the file in a compact, read-only representation (default:
+         * false). Maps store their keys and values in arrays, and sections or lists consisting only of integers,
+         * longs or doubles are stored unboxed. This reduces the memory a reader needs, especially
+         * for large files, at the cost of converting all values once after loading. Maps and lists returned by the
+         * reader are then unmodifiable. This option has no effect if
+         * {@link #normalizeLazily maps are normalized lazily}.
+         *
+         * @param compactValues true to keep the values in a compact representation
+         * @return this builder
+         * @see CompactMap
+         */
+        public @NotNull Builder compactValues(boolean compactValues) {
+            this.compactValues = compactValues;
+            return this;
+        }
+
+        /**
+         * Sets whether equal keys should share one String instance when a file is loaded (default: true). Keys
+         * such as "enabled" which occur in many sections are otherwise kept as a separate String for every
+         * occurrence. The keys are deduplicated with a {@link StringPool} that only exists while loading the file.
+         *
+         * @param deduplicateKeys true to deduplicate keys
+         * @return this builder
+         */
+        public @NotNull Builder deduplicateKeys(boolean deduplicateKeys) {
+            this.deduplicateKeys = deduplicateKeys;
+            return this;
+        }
+
+        /**
+         * Makes string values up to the given length share one String instance when a file is loaded, like keys
+         * with {@link #deduplicateKeys} (default: 0, i.e. values are not deduplicated). This is useful for files
+         * in which the same short values (e.g. permissions or messages) occur many times.
+         *
+         * @param maxLength maximum length of string values to deduplicate, 0 to not deduplicate any values
+         * @return this builder
+         */
+        public @NotNull Builder deduplicateScalarsUpTo(int maxLength) {
+            this.maxDeduplicatedScalarLength = maxLength;
+            return this;
+        }
+
+        /**
+         * Sets whether a binary snapshot of the loaded values should be kept next to the YAML file (default: false).
+         * The snapshot is written to a sidecar file (the file name with {@code .snapshot} appended) after the file
+         * has been loaded or saved. As long as the size and checksum of the YAML file's contents are unchanged,
+         * later loads read the snapshot instead of parsing the YAML, which is considerably faster.
+         * <p>
+         * The YAML file remains the source of truth: the snapshot is ignored if it does not match the file, and it
+         * can be deleted at any time. Note that the snapshot is only matched by the size and the CRC32 checksum of
+         * the file's contents (see {@link SnapshotCache}). When the file is saved, the snapshot is created from
+         * the exported values if they are loaded back unchanged (e.g. strings, integers, booleans and lists of
+         * them); otherwise, it is written the next time the file is loaded.
+         *
+         * @param useSnapshotCache true to keep a snapshot of the loaded values
+         * @return this builder
+         */
+        public @NotNull Builder useSnapshotCache(boolean useSnapshotCache) {
+            this.useSnapshotCache = useSnapshotCache;
+            return this;
+        }
+
+        /**
+         * Sets whether files should be parsed with a fast, specialized parser for the YAML which ConfigMe writes
+         * (default: true). The parser handles block mappings and lists, single-line scalars and comments, and
+         * produces the same values as SnakeYAML. Documents with any other YAML construct (e.g. anchors, tags, flow
+         * collections or multi-line scalars) are parsed with SnakeYAML instead. The fast parser is not used if only
+         * some paths are loaded (see {@link #loadOnlyPaths}).
+         *
+         * @param useFastParser true to use the fast parser where possible, false to always use SnakeYAML
+         * @return this builder
+         */
+        public @NotNull Builder useFastParser(boolean useFastParser) {
+            this.useFastParser = useFastParser;
+            return this;
+        }
+
         public @NotNull YamlFileResourceOptions build() {
-            return new YamlFileResourceOptions(charset, numberOfLinesBeforeFunction, indentationSize, splitDotPaths);
+            return new YamlFileResourceOptions(this);
         }
     }
 }
@@ -0,0 +1,169 @@
+package ch.jalu.configme;
+
+import ch.jalu.configme.demo.beans.DemoSettings;
+import ch.jalu.configme.properties.Property;
+import ch.jalu.configme.samples.TestConfiguration;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Properties;
+
+import static ch.jalu.configme.TestUtils.copyFileFromResources;
+import static ch.jalu.configme.configurationdata.ConfigurationDataBuilder.createConfiguration;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Checks that the bytes allocated per operation by the load and save pipelines stay within the budgets defined in
+ * {@code /allocation-budgets.properties}. A failure means that an operation allocates more than before: either
+ * fix the regression or, if the additional allocations are justified, raise the budget in the properties file.
+ * <p>
+ * The measurement relies on {@link com.sun.management.ThreadMXBean#getThreadAllocatedBytes(long)}; the tests are
+ * skipped on JVMs which don't support it.
+ */
+class AllocationBudgetTest {
+
+    private static final String BUDGETS_FILE = "/allocation-budgets.properties";
+    private static final int WARMUP_ITERATIONS = 300;
+    private static final int MEASURED_ITERATIONS = 300;
+
+    private static Properties budgets;
+    private static com.sun.management.ThreadMXBean threadBean;
+
+    @TempDir
+    public Path temporaryFolder;
+
+    @BeforeAll
+    static void loadBudgetsAndCheckSupport() {
+        ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        assumeTrue(bean instanceof com.sun.management.ThreadMXBean, "Thread allocation measurement not available");
+        threadBean = (com.sun.management.ThreadMXBean) bean;
+        assumeTrue(threadBean.isThreadAllocatedMemorySupported(), "Thread allocation measurement not supported");
+        threadBean.setThreadAllocatedMemoryEnabled(true);
+
+        budgets = new Properties();
+        try (InputStream is = AllocationBudgetTest.class.getResourceAsStream(BUDGETS_FILE)) {
+            budgets.load(is);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not load allocation budgets", e);
+        }
+    }
+
+    @Test
+    void shouldStayWithinBudgetForReloadOfSampleConfig() {
+        // given
+        SettingsManager settingsManager = createSampleConfigManager();
+
+        // when
+        long bytesPerOperation = measureAllocatedBytesPerOperation(settingsManager::reload);
+
+        // then
+        assertWithinBudget("reload.config-sample", bytesPerOperation);
+    }
+
+    @Test
+    void shouldStayWithinBudgetForSaveOfSampleConfig() {
+        // given
+        SettingsManager settingsManager = createSampleConfigManager();
+
+        // when
+        long bytesPerOperation = measureAllocatedBytesPerOperation(settingsManager::save);
+
+        // then
+        assertWithinBudget("save.config-sample", bytesPerOperation);
+    }
+
+    @Test
+    void shouldStayWithinBudgetForGetPropertyOfSampleConfig() {
+        // given
+        SettingsManager settingsManager = createSampleConfigManager();
+        List<Property<?>> properties = createConfiguration(TestConfiguration.class).getProperties();
+        int[] index = new int[1];
+
+        // when
+        long bytesPerOperation = measureAllocatedBytesPerOperation(() -> {
+            settingsManager.getProperty(properties.get(index[0]));
+            index[0] = (index[0] + 1) % properties.size();
+        });
+
+        // then
+        assertWithinBudget("getProperty.config-sample", bytesPerOperation);
+    }
+
+    @Test
+    void shouldStayWithinBudgetForReloadOfBeanConfig() {
+        // given
+        SettingsManager settingsManager = createBeanConfigManager();
+
+        // when
+        long bytesPerOperation = measureAllocatedBytesPerOperation(settingsManager::reload);
+
+        // then
+        assertWithinBudget("reload.bean-demo", bytesPerOperation);
+    }
+
+    @Test
+    void shouldStayWithinBudgetForSaveOfBeanConfig() {
+        // given
+        SettingsManager settingsManager = createBeanConfigManager();
+
+        // when
+        long bytesPerOperation = measureAllocatedBytesPerOperation(settingsManager::save);
+
+        // then
+        assertWithinBudget("save.bean-demo", bytesPerOperation);
+    }
+
+    private SettingsManager createSampleConfigManager() {
+        Path file = copyFileFromResources("/config-sample.yml", temporaryFolder);
+        return SettingsManagerBuilder.withYamlFile(file)
+            .configurationData(TestConfiguration.class)
+            .create();
+    }
+
+    private SettingsManager createBeanConfigManager() {
+        Path file = copyFileFromResources("/demo/bean_demo_config.yml", temporaryFolder);
+        return SettingsManagerBuilder.withYamlFile(file)
+            .configurationData(DemoSettings.class)
+            .create();
+    }
+
+    /**
+     * Runs the given operation a number of times to warm up, then returns the average number of bytes
+     * allocated by the current thread over a series of further executions.
+     *
+     * @param operation the operation to measure
+     * @return average bytes allocated per execution
+     */
+    private static long measureAllocatedBytesPerOperation(Runnable operation) {
+        for (int i = 0; i < WARMUP_ITERATIONS; ++i) {
+            operation.run();
+        }
+
+        long threadId = Thread.currentThread().getId();
+        long start = threadBean.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < MEASURED_ITERATIONS; ++i) {
+            operation.run();
+        }
+        long end = threadBean.getThreadAllocatedBytes(threadId);
+        return (end - start) / MEASURED_ITERATIONS;
+    }
+
+    private static void assertWithinBudget(String key, long bytesPerOperation) {
+        String budget = budgets.getProperty(key);
+        if (budget == null) {
+            throw new IllegalStateException("No allocation budget defined for '" + key + "' in " + BUDGETS_FILE);
+        }
+        assertThat("Bytes allocated per operation for '" + key + "'",
+            bytesPerOperation, lessThanOrEqualTo(Long.parseLong(budget.trim())));
+    }
+}
@@ -1,6 +1,7 @@
 package ch.jalu.configme;
 
 import ch.jalu.configme.configurationdata.ConfigurationData;
+import ch.jalu.configme.instrumentation.AccessCountingSettingsManager;
 import ch.jalu.configme.migration.MigrationService;
 import ch.jalu.configme.migration.PlainMigrationService;
 import ch.jalu.configme.resource.PropertyReader;
@@ -156,4 +157,19 @@ class SettingsManagerBuilderTest {
         // then
         assertThat(settingsManager.getProperty(TestConfiguration.SYSTEM_NAME), equalTo("Custom sys name"));
     }
+
+    @Test
+    void shouldCreateSettingsManagerWithAccessCounting() {
+        // given
+        Path file = copyFileFromResources("/config-sample.yml", temporaryFolder);
+
+        // when
+        AccessCountingSettingsManager settingsManager = SettingsManagerBuilder.withYamlFile(file)
+            .configurationData(TestConfiguration.class)
+            .createWithAccessCounting();
+
+        // then
+        assertThat(settingsManager.getProperty(TestConfiguration.SYSTEM_NAME), equalTo("Custom sys name"));
+        assertThat(settingsManager.getUnreadProperties(), hasSize(10));
+    }
 }
@@ -5,7 +5,9 @@ import ch.jalu.configme.beanmapper.worldgroup.Group;
 import ch.jalu.configme.beanmapper.worldgroup.WorldGroupConfig;
 import ch.jalu.configme.configurationdata.ConfigurationData;
 import ch.jalu.configme.exception.ConfigMeException;
+import ch.jalu.configme.instrumentation.LifecycleListener;
 import ch.jalu.configme.migration.MigrationService;
+import ch.jalu.configme.migration.PlainMigrationService;
 import ch.jalu.configme.properties.BeanProperty;
 import ch.jalu.configme.properties.OptionalProperty;
 import ch.jalu.configme.properties.Property;
@@ -19,6 +21,8 @@ import org.junit.jupiter.api.io.TempDir;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Arrays;
 import java.util.Collections;
@@ -35,11 +39,16 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.sameInstance;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.only;
 import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
 
 /**
  * Test for {@link SettingsManagerImpl}.
@@ -144,6 +153,38 @@ class SettingsManagerImplTest {
         verify(migrationService).checkAndMigrate(reader, configurationData);
     }
 
+    @Test
+    void shouldKeepValuesIfResourceReturnsSameReader() {
+        // given
+        ConfigurationData configurationData = mock(ConfigurationData.class);
+        given(resource.createReader()).willReturn(reader);
+        SettingsManager manager = new SettingsManagerImpl(resource, configurationData, migrationService);
+        reset(configurationData, migrationService);
+
+        // when
+        manager.reload();
+
+        // then
+        verify(resource, times(2)).createReader();
+        verifyNoInteractions(configurationData, migrationService);
+    }
+
+    @Test
+    void shouldReinitializeValuesForSameReaderIfValueWasSet() {
+        // given
+        given(resource.createReader()).willReturn(reader);
+        Property<Integer> property = (Property<Integer>) configurationData.getProperties().get(0);
+        SettingsManager manager = new SettingsManagerImpl(resource, configurationData, null);
+        given(reader.getInt(property.getPath(), Integer.MIN_VALUE)).willReturn(7);
+        manager.setProperty(property, 20);
+
+        // when
+        manager.reload();
+
+        // then
+        assertThat(manager.getProperty(property), equalTo(7));
+    }
+
     @Test
     void shouldHandleNullMigrationService() {
         // given
@@ -234,6 +275,28 @@ class SettingsManagerImplTest {
         // that exceptions thrown by configuration data are passed up the calling hierarchy
     }
 
+    @Test
+    void shouldReportPhasesToLifecycleListener() throws IOException {
+        // given
+        Path file = copyFileFromResources("/config-incomplete-sample.yml", temporaryFolder);
+        long initialFileSize = Files.size(file);
+        ConfigurationData configurationData = createConfiguration(TestConfiguration.class);
+        LifecycleListener listener = mock(LifecycleListener.class);
+
+        // when
+        new SettingsManagerImpl(new YamlFileResource(file), configurationData, new PlainMigrationService(), listener);
+
+        // then
+        int propertyCount = configurationData.getProperties().size();
+        verify(listener).onFileRead(eq(file), eq(initialFileSize), anyLong());
+        verify(listener).onYamlParsed(eq(file), anyLong());
+        verify(listener).onMapNormalized(eq(file), anyLong());
+        verify(listener).onValuesInitialized(eq(propertyCount), eq(8), anyLong());
+        verify(listener).onMigrationChecked(eq(true), anyLong());
+        verify(listener).onPropertiesExported(eq(file), eq(propertyCount), eq(Files.size(file)), anyLong());
+        verifyNoMoreInteractions(listener);
+    }
+
     private void verifyWasMigrationServiceChecked() {
         verify(migrationService, only()).checkAndMigrate(reader, configurationData);
     }
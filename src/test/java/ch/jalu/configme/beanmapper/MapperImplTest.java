@@ -19,6 +19,7 @@ import ch.jalu.configme.beanmapper.worldgroup.GameMode;
 import ch.jalu.configme.beanmapper.worldgroup.Group;
 import ch.jalu.configme.beanmapper.worldgroup.WorldGroupConfig;
 import ch.jalu.configme.exception.ConfigMeException;
+import ch.jalu.configme.properties.convertresult.ConversionDiagnostic;
 import ch.jalu.configme.properties.convertresult.ConvertErrorRecorder;
 import ch.jalu.configme.resource.PropertyReader;
 import ch.jalu.configme.resource.YamlFileReader;
@@ -40,6 +41,7 @@ import java.util.NavigableMap;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.TreeMap;
+import java.util.stream.Collectors;
 
 import static ch.jalu.configme.TestUtils.getJarPath;
 import static ch.jalu.configme.TestUtils.verifyException;
@@ -135,6 +137,9 @@ class MapperImplTest {
         assertThat(errorRecorder.isFullyValid(), equalTo(false));
         assertThat(config, notNullValue());
         assertThat(config.getGroups().keySet(), contains("creative"));
+        assertThat(errorRecorder.getDiagnostics().stream().map(ConversionDiagnostic::getPath).collect(Collectors.toList()),
+            contains("groups.[k=default]", "groups.[k=adventure]"));
+        assertThat(errorRecorder.getDiagnostics().get(0).getKind(), equalTo(ConversionDiagnostic.Kind.INVALID_ENTRY));
     }
 
     @Test
@@ -1,5 +1,6 @@
 package ch.jalu.configme.beanmapper;
 
+import ch.jalu.configme.properties.convertresult.ConversionDiagnostic;
 import ch.jalu.configme.properties.convertresult.ConvertErrorRecorder;
 import ch.jalu.configme.utils.TypeInformation;
 import org.junit.jupiter.api.Test;
@@ -57,6 +58,21 @@ class MappingContextImplTest {
         context.registerError("Not a valid value");
 
         // then
-        verify(errorRecorder).setHasError("At path 'bar': Not a valid value");
+        verify(errorRecorder).registerError("bar", "Not a valid value");
+    }
+
+    @Test
+    void shouldForwardErrorWithKindToErrorRecorder() {
+        // given
+        ConvertErrorRecorder errorRecorder = mock(ConvertErrorRecorder.class);
+        MappingContext root = MappingContextImpl.createRoot(new TypeInformation(String.class), errorRecorder);
+        MappingContext context = root.createChild("bar", new TypeInformation(Double.class))
+            .createChild("[2]", new TypeInformation(Double.class));
+
+        // when
+        context.registerError(ConversionDiagnostic.Kind.INVALID_ENTRY, "3.4abc");
+
+        // then
+        verify(errorRecorder).registerError(ConversionDiagnostic.Kind.INVALID_ENTRY, "bar.[2]", "3.4abc");
     }
 }
@@ -1,10 +1,14 @@
 package ch.jalu.configme.configurationdata;
 
 import ch.jalu.configme.exception.ConfigMeException;
+import ch.jalu.configme.instrumentation.ConversionProfiler;
 import ch.jalu.configme.properties.Property;
+import ch.jalu.configme.properties.convertresult.ConversionDiagnostic;
+import ch.jalu.configme.properties.convertresult.ConversionDiagnostics;
 import ch.jalu.configme.properties.convertresult.PropertyValue;
 import ch.jalu.configme.resource.PropertyReader;
 import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
 
 import java.util.Arrays;
 import java.util.Collections;
@@ -19,9 +23,13 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasSize;
 import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
 
 /**
@@ -145,6 +153,7 @@ class ConfigurationDataImplTest {
 
         // then
         assertThat(configurationData.areAllValuesValidInResource(), equalTo(true));
+        assertThat(configurationData.getNumberOfInvalidValuesInResource(), equalTo(0));
     }
 
     @Test
@@ -166,6 +175,111 @@ class ConfigurationDataImplTest {
 
         // then
         assertThat(configurationData.areAllValuesValidInResource(), equalTo(false));
+        assertThat(configurationData.getNumberOfInvalidValuesInResource(), equalTo(1));
+    }
+
+    @Test
+    void shouldRecordConversionsWithProfiler() {
+        // given
+        PropertyReader reader = mock(PropertyReader.class);
+        given(reader.getObject("test.name")).willReturn("Bob");
+        Property<String> property1 = newProperty("test.name", "");
+        Property<Integer> property2 = newProperty("test.age", 30);
+        ConfigurationData configurationData = new ConfigurationDataImpl(Arrays.asList(property1, property2), Collections.emptyMap(), Collections.emptyList());
+        ConversionProfiler profiler = mock(ConversionProfiler.class);
+        configurationData.setConversionProfiler(profiler);
+
+        // when
+        configurationData.initializeValues(reader);
+
+        // then
+        assertThat(configurationData.getValue(property1), equalTo("Bob"));
+        InOrder inOrder = inOrder(profiler);
+        inOrder.verify(profiler).recordConversion(eq("test.name"), anyLong(), anyLong());
+        inOrder.verify(profiler).recordConversion(eq("test.age"), anyLong(), anyLong());
+        inOrder.verify(profiler).onLoadFinished();
+    }
+
+    @Test
+    void shouldEstimateRetainedSizeByPrefix() {
+        // given
+        Property<String> property1 = newProperty("messages.errors.notFound", "");
+        Property<String> property2 = newProperty("messages.errors.noPermission", "");
+        Property<String> property3 = newProperty("messages.welcome", "");
+        Property<Integer> property4 = newProperty("limit", 0);
+        ConfigurationDataImpl configurationData = new ConfigurationDataImpl(
+            Arrays.asList(property1, property2, property3, property4), Collections.emptyMap(), Collections.emptyList());
+        String sharedText = new String("Not available");
+        configurationData.setValue(property1, sharedText);
+        configurationData.setValue(property2, sharedText);
+        configurationData.setValue(property3, new String("Hello!"));
+        configurationData.setValue(property4, 4000);
+
+        // when
+        Map<String, Long> sizesByDepth0 = configurationData.estimateRetainedSizeByPrefix(0);
+        Map<String, Long> sizesByDepth2 = configurationData.estimateRetainedSizeByPrefix(2);
+
+        // then
+        assertThat(sizesByDepth0.keySet(), contains(""));
+        assertThat(sizesByDepth0.get(""), equalTo(56L + 48L + 16L));
+        assertThat(sizesByDepth2.keySet(), contains("messages.errors", "messages.welcome", "limit"));
+        assertThat(sizesByDepth2.get("messages.errors"), equalTo(56L));
+        assertThat(sizesByDepth2.get("messages.welcome"), equalTo(48L));
+        assertThat(sizesByDepth2.get("limit"), equalTo(16L));
+    }
+
+    @Test
+    void shouldCollectConversionDiagnosticsUpToMaximum() {
+        // given
+        PropertyReader reader = mock(PropertyReader.class);
+        given(reader.getInt("test.count", Integer.MIN_VALUE)).willReturn(Integer.MIN_VALUE);
+        given(reader.getObject("test.count")).willReturn("not a number");
+        Property<Integer> property1 = newProperty("test.count", 3);
+        Property<String> property2 = newProperty("test.name", "");
+        Property<String> property3 = newProperty("test.title", "");
+        ConfigurationData configurationData = new ConfigurationDataImpl(
+            Arrays.asList(property1, property2, property3), Collections.emptyMap(), Collections.emptyList());
+        configurationData.setMaxConversionDiagnostics(2);
+
+        // when
+        configurationData.initializeValues(reader);
+
+        // then
+        ConversionDiagnostics diagnostics = configurationData.getConversionDiagnostics();
+        assertThat(diagnostics.getTotalCount(), equalTo(3));
+        assertThat(diagnostics.isTruncated(), equalTo(true));
+        assertThat(diagnostics.getDiagnostics(), hasSize(2));
+        assertThat(diagnostics.getDiagnostics().get(0).getKind(), equalTo(ConversionDiagnostic.Kind.INVALID_VALUE));
+        assertThat(diagnostics.getDiagnostics().get(0).getMessage(),
+            equalTo("At path 'test.count': Invalid value 'not a number', using default value"));
+        assertThat(diagnostics.getDiagnostics().get(1).getKind(), equalTo(ConversionDiagnostic.Kind.MISSING_VALUE));
+        assertThat(diagnostics.getDiagnostics().get(1).getPath(), equalTo("test.name"));
+    }
+
+    @Test
+    void shouldKeepDiagnosticsOfPreviousInitialization() {
+        // given
+        PropertyReader invalidReader = mock(PropertyReader.class);
+        given(invalidReader.getInt("test.count", Integer.MIN_VALUE)).willReturn(Integer.MIN_VALUE);
+        given(invalidReader.getObject("test.count")).willReturn("not a number");
+        PropertyReader validReader = mock(PropertyReader.class);
+        given(validReader.getInt("test.count", Integer.MIN_VALUE)).willReturn(4);
+        Property<Integer> property = newProperty("test.count", 3);
+        ConfigurationData configurationData = new ConfigurationDataImpl(
+            Collections.singletonList(property), Collections.emptyMap(), Collections.emptyList());
+        configurationData.initializeValues(invalidReader);
+        ConversionDiagnostics firstDiagnostics = configurationData.getConversionDiagnostics();
+
+        // when
+        configurationData.setMaxConversionDiagnostics(0);
+        configurationData.initializeValues(validReader);
+
+        // then
+        assertThat(firstDiagnostics.getTotalCount(), equalTo(1));
+        assertThat(firstDiagnostics.getDiagnostics(), hasSize(1));
+        assertThat(firstDiagnostics.getDiagnostics().get(0).getRawValue(), equalTo("not a number"));
+        assertThat(configurationData.getConversionDiagnostics().getTotalCount(), equalTo(0));
+        assertThat(configurationData.getConversionDiagnostics().getDiagnostics(), empty());
     }
 
     private static Map<String, List<String>> createSampleCommentsMap() {
@@ -0,0 +1,133 @@
+package ch.jalu.configme.instrumentation;
+
+import ch.jalu.configme.SettingsManager;
+import ch.jalu.configme.SettingsManagerBuilder;
+import ch.jalu.configme.properties.Property;
+import ch.jalu.configme.samples.TestConfiguration;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static ch.jalu.configme.TestUtils.copyFileFromResources;
+import static ch.jalu.configme.properties.PropertyInitializer.newProperty;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasSize;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Test for {@link AccessCountingSettingsManager}.
+ */
+class AccessCountingSettingsManagerTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    @Test
+    void shouldCountReadsAndWrites() {
+        // given
+        AccessCountingSettingsManager settingsManager = createSettingsManager();
+
+        // when
+        settingsManager.getProperty(TestConfiguration.DURATION_IN_SECONDS);
+        settingsManager.getProperty(TestConfiguration.DURATION_IN_SECONDS);
+        settingsManager.getProperty(TestConfiguration.DURATION_IN_SECONDS);
+        settingsManager.getProperty(TestConfiguration.SYSTEM_NAME);
+        settingsManager.setProperty(TestConfiguration.SYSTEM_NAME, "Other name");
+        String systemName = settingsManager.getProperty(TestConfiguration.SYSTEM_NAME);
+        settingsManager.setProperty(TestConfiguration.RATIO_ORDER, TestConfiguration.RATIO_ORDER.getDefaultValue());
+
+        // then
+        assertThat(systemName, equalTo("Other name"));
+        List<PropertyAccessCount> mostRead = settingsManager.getMostReadProperties(5);
+        assertThat(mostRead, hasSize(2));
+        assertThat(mostRead.get(0).getProperty(), equalTo(TestConfiguration.DURATION_IN_SECONDS));
+        assertThat(mostRead.get(0).getReads(), equalTo(3L));
+        assertThat(mostRead.get(1).getProperty(), equalTo(TestConfiguration.SYSTEM_NAME));
+        assertThat(mostRead.get(1).getReads(), equalTo(2L));
+        assertThat(mostRead.get(1).getWrites(), equalTo(1L));
+
+        List<Property<?>> unreadProperties = settingsManager.getUnreadProperties();
+        assertThat(unreadProperties, hasSize(9));
+        assertThat(unreadProperties.contains(TestConfiguration.RATIO_ORDER), equalTo(true));
+    }
+
+    @Test
+    void shouldCountPropertiesOutsideOfConfiguration() {
+        // given
+        SettingsManager delegate = mock(SettingsManager.class);
+        Property<Integer> knownProperty = newProperty("known", 3);
+        Property<Integer> otherProperty = newProperty("other", 4);
+        AccessCountingSettingsManager settingsManager =
+            new AccessCountingSettingsManager(delegate, Arrays.asList(knownProperty));
+
+        // when
+        settingsManager.getProperty(otherProperty);
+        settingsManager.reload();
+        settingsManager.save();
+
+        // then
+        verify(delegate).getProperty(otherProperty);
+        verify(delegate).reload();
+        verify(delegate).save();
+        List<PropertyAccessCount> accessCounts = settingsManager.getAccessCounts();
+        assertThat(accessCounts.stream().map(PropertyAccessCount::getProperty).collect(Collectors.toList()),
+            contains(knownProperty, otherProperty));
+        assertThat(accessCounts.get(1).getReads(), equalTo(1L));
+        assertThat(settingsManager.getUnreadProperties(), contains(knownProperty));
+    }
+
+    @Test
+    void shouldCountConcurrentReadsAndResetCounts() throws InterruptedException {
+        // given
+        AccessCountingSettingsManager settingsManager = createSettingsManager();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+
+        // when
+        for (int i = 0; i < 4; ++i) {
+            executor.submit(() -> {
+                for (int j = 0; j < 1000; ++j) {
+                    settingsManager.getProperty(TestConfiguration.VERSION_NUMBER);
+                }
+            });
+        }
+        executor.shutdown();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+
+        // then
+        assertThat(settingsManager.getMostReadProperties(1).get(0).getReads(), equalTo(4000L));
+        settingsManager.resetCounts();
+        assertThat(settingsManager.getMostReadProperties(1), hasSize(0));
+    }
+
+    @Test
+    void shouldCreateReport() {
+        // given
+        AccessCountingSettingsManager settingsManager = createSettingsManager();
+        settingsManager.getProperty(TestConfiguration.SKIP_BORING_FEATURES);
+
+        // when
+        String report = settingsManager.createReport(3);
+
+        // then
+        assertThat(report, containsString("Most read properties:\n  features.boring.skip: 1 reads, 0 writes\n"));
+        assertThat(report, containsString("Unread properties (10):\n  test.duration\n"));
+    }
+
+    private AccessCountingSettingsManager createSettingsManager() {
+        Path file = copyFileFromResources("/config-sample.yml", temporaryFolder);
+        return SettingsManagerBuilder.withYamlFile(file)
+            .configurationData(TestConfiguration.class)
+            .createWithAccessCounting();
+    }
+}
@@ -0,0 +1,92 @@
+package ch.jalu.configme.instrumentation;
+
+import ch.jalu.configme.SettingsManagerBuilder;
+import ch.jalu.configme.demo.beans.DemoSettings;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static ch.jalu.configme.TestUtils.copyFileFromResources;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.arrayWithSize;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.startsWith;
+
+/**
+ * Test for {@link ConversionProfiler}.
+ */
+class ConversionProfilerTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    @Test
+    void shouldReturnSlowestConversions() {
+        // given
+        ConversionProfiler profiler = new ConversionProfiler();
+        profiler.recordConversion("fast", 1_000, 100);
+        profiler.recordConversion("slow", 50_000, 4000);
+        profiler.recordConversion("medium", 9_000, 300);
+        profiler.recordConversion("fast", 3_000, 100);
+
+        // when
+        List<ConversionProfile> slowest = profiler.getSlowestConversions(2);
+
+        // then
+        assertThat(slowest.stream().map(ConversionProfile::getPath).collect(Collectors.toList()),
+            contains("slow", "medium"));
+        ConversionProfile fast = profiler.getProfiles().get(0);
+        assertThat(fast.getPath(), equalTo("fast"));
+        assertThat(fast.getConversions(), equalTo(2L));
+        assertThat(fast.getTotalNanos(), equalTo(4_000L));
+        assertThat(fast.getAverageNanos(), equalTo(2_000L));
+        assertThat(fast.getMaxNanos(), equalTo(3_000L));
+        assertThat(fast.getAverageAllocatedBytes(), equalTo(100L));
+    }
+
+    @Test
+    void shouldReportUnknownAllocations() {
+        // given
+        ConversionProfiler profiler = new ConversionProfiler();
+
+        // when
+        profiler.recordConversion("path", 2_000, 400);
+        profiler.recordConversion("path", 2_000, -1);
+
+        // then
+        ConversionProfile profile = profiler.getProfiles().get(0);
+        assertThat(profile.getTotalAllocatedBytes(), equalTo(-1L));
+        assertThat(profile.getAverageAllocatedBytes(), equalTo(-1L));
+        assertThat(profiler.createReport(5),
+            equalTo("Slowest property conversions:\n  path: 2 us avg, 2 us max (2 conversions)"));
+    }
+
+    @Test
+    void shouldProfileBeanConversionsAndReportAfterEachLoad() {
+        // given
+        Path file = copyFileFromResources("/demo/bean_demo_config.yml", temporaryFolder);
+        List<String> reports = new ArrayList<>();
+        ConversionProfiler profiler = new ConversionProfiler().reportAfterEachLoad(1, reports::add);
+
+        // when
+        SettingsManagerBuilder.withYamlFile(file)
+            .configurationData(DemoSettings.class)
+            .conversionProfiler(profiler)
+            .create()
+            .reload();
+
+        // then
+        assertThat(profiler.getProfiles().stream().map(ConversionProfile::getPath).collect(Collectors.toList()),
+            contains("userdata", "country"));
+        assertThat(profiler.getProfiles().get(0).getConversions(), equalTo(2L));
+        assertThat(reports, hasSize(2));
+        assertThat(reports.get(1), startsWith("Slowest property conversions:\n  "));
+        assertThat(reports.get(1).split("\n"), arrayWithSize(2));
+    }
+}
@@ -0,0 +1,121 @@
+package ch.jalu.configme.instrumentation;
+
+import ch.jalu.configme.SettingsManager;
+import ch.jalu.configme.SettingsManagerBuilder;
+import ch.jalu.configme.demo.beans.DemoSettings;
+import ch.jalu.configme.samples.TestConfiguration;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static ch.jalu.configme.TestUtils.copyFileFromResources;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.everyItem;
+import static org.hamcrest.Matchers.hasSize;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Test for {@link FlightRecorderEvents}.
+ */
+class FlightRecorderEventsTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    @BeforeAll
+    static void checkFlightRecorderAvailability() {
+        assumeTrue(FlightRecorderEvents.isAvailable(), "JFR is not available");
+    }
+
+    @Test
+    void shouldEmitEventsForLoadWithMigration() throws IOException {
+        // given
+        Path file = copyFileFromResources("/config-incomplete-sample.yml", temporaryFolder);
+
+        // when
+        List<RecordedEvent> events = record(() -> SettingsManagerBuilder.withYamlFile(file)
+            .configurationData(TestConfiguration.class)
+            .useDefaultMigrationService()
+            .create());
+
+        // then
+        assertThat(getNames(events), contains("ch.jalu.configme.FileRead", "ch.jalu.configme.Migration",
+            "ch.jalu.configme.FileWrite", "ch.jalu.configme.Save", "ch.jalu.configme.Load"));
+
+        RecordedEvent fileRead = events.get(0);
+        assertThat(fileRead.getString("path"), equalTo(file.toString()));
+        assertThat(fileRead.getLong("bytes") > 0, equalTo(true));
+        assertThat(events.get(1).getBoolean("migrationPerformed"), equalTo(true));
+        RecordedEvent fileWrite = events.get(2);
+        assertThat(fileWrite.getString("path"), equalTo(file.toString()));
+        assertThat(fileWrite.getInt("propertyCount"), equalTo(11));
+        assertThat(fileWrite.getLong("bytes"), equalTo(Files.size(file)));
+        assertThat(events.get(3).getInt("propertyCount"), equalTo(11));
+
+        RecordedEvent load = events.get(4);
+        assertThat(load.getBoolean("reload"), equalTo(false));
+        assertThat(load.getInt("propertyCount"), equalTo(11));
+        assertThat(load.getInt("invalidValueCount"), equalTo(8));
+        assertThat(load.getBoolean("migrationRewrite"), equalTo(true));
+    }
+
+    @Test
+    void shouldEmitEventsForReloadWithBeanProperties() throws IOException {
+        // given
+        Path file = copyFileFromResources("/demo/bean_demo_config.yml", temporaryFolder);
+        SettingsManager settingsManager = SettingsManagerBuilder.withYamlFile(file)
+            .configurationData(DemoSettings.class)
+            .create();
+
+        // when
+        List<RecordedEvent> events = record(settingsManager::reload);
+
+        // then
+        List<RecordedEvent> beanEvents = events.stream()
+            .filter(event -> event.getEventType().getName().equals("ch.jalu.configme.BeanMapping"))
+            .collect(Collectors.toList());
+        assertThat(beanEvents, hasSize(2));
+        assertThat(beanEvents.stream().map(event -> event.getBoolean("successful")).collect(Collectors.toList()),
+            everyItem(equalTo(true)));
+
+        RecordedEvent load = events.get(events.size() - 1);
+        assertThat(load.getEventType().getName(), equalTo("ch.jalu.configme.Load"));
+        assertThat(load.getBoolean("reload"), equalTo(true));
+        assertThat(load.getBoolean("migrationRewrite"), equalTo(false));
+    }
+
+    private List<RecordedEvent> record(Runnable action) throws IOException {
+        Path recordingFile = temporaryFolder.resolve("recording.jfr");
+        try (Recording recording = new Recording()) {
+            for (String name : new String[]{ "Load", "Migration", "Save", "FileRead", "FileWrite", "BeanMapping" }) {
+                recording.enable("ch.jalu.configme." + name).withoutThreshold();
+            }
+            recording.start();
+            action.run();
+            recording.stop();
+            recording.dump(recordingFile);
+        }
+        return RecordingFile.readAllEvents(recordingFile).stream()
+            .filter(event -> event.getThread() != null
+                && event.getThread().getJavaThreadId() == Thread.currentThread().getId())
+            .sorted((e1, e2) -> e1.getEndTime().compareTo(e2.getEndTime()))
+            .collect(Collectors.toList());
+    }
+
+    private static List<String> getNames(List<RecordedEvent> events) {
+        return events.stream()
+            .map(event -> event.getEventType().getName())
+            .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,83 @@
+package ch.jalu.configme.instrumentation;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+
+/**
+ * Test for {@link RetainedSizeEstimator}.
+ */
+class RetainedSizeEstimatorTest {
+
+    @Test
+    void shouldEstimateSimpleValues() {
+        // given
+        RetainedSizeEstimator estimator = new RetainedSizeEstimator();
+
+        // when / then
+        assertThat(estimator.estimate(null), equalTo(0L));
+        assertThat(estimator.estimate(TimeUnit.SECONDS), equalTo(0L));
+        assertThat(estimator.estimate(new String("abcdefghij")), equalTo(24L + 32L));
+        assertThat(estimator.estimate(new String("őő")), equalTo(24L + 24L));
+        assertThat(estimator.estimate(1234567L), equalTo(24L));
+        assertThat(estimator.estimate(new int[]{ 1, 2, 3 }), equalTo(32L));
+        assertThat(estimator.estimate(Optional.of(3.5)), equalTo(16L + 24L));
+    }
+
+    @Test
+    void shouldCountObjectsOnlyOnce() {
+        // given
+        RetainedSizeEstimator estimator = new RetainedSizeEstimator();
+        String shared = new String("shared text");
+        List<String> list1 = new ArrayList<>(Arrays.asList(shared, shared));
+        List<String> list2 = new ArrayList<>(Arrays.asList(shared));
+
+        // when
+        long size1 = estimator.estimate(list1);
+        long size2 = estimator.estimate(list2);
+        long size3 = estimator.estimate(list1);
+
+        // then
+        long listOverhead = 24L + 24L; // ArrayList + array of two elements
+        assertThat(size1, equalTo(listOverhead + 24L + 32L));
+        assertThat(size2, equalTo(24L + 24L));
+        assertThat(size3, equalTo(0L));
+    }
+
+    @Test
+    void shouldTraverseBeansAndMaps() {
+        // given
+        Map<String, Entry> entries = new HashMap<>();
+        entries.put("first", new Entry("First entry", 3));
+        entries.put("second", new Entry("Second entry", 4));
+
+        // when
+        long mapSize = new RetainedSizeEstimator().estimate(entries);
+        long entrySize = new RetainedSizeEstimator().estimate(new Entry("First entry", 3));
+
+        // then
+        assertThat(entrySize, equalTo(24L + 24L + 32L)); // Entry + String + array
+        assertThat(mapSize, greaterThan(2 * entrySize));
+    }
+
+    private static final class Entry {
+        private final String name;
+        private final int weight;
+        private final boolean enabled = true;
+
+        Entry(String name, int weight) {
+            this.name = new String(name);
+            this.weight = weight;
+        }
+    }
+}
@@ -1,14 +1,19 @@
 package ch.jalu.configme.properties;
 
+import ch.jalu.configme.properties.convertresult.ConversionDiagnostic;
 import ch.jalu.configme.properties.convertresult.ConvertErrorRecorder;
+import ch.jalu.configme.properties.convertresult.PropertyValue;
 import ch.jalu.configme.resource.PropertyReader;
 import org.junit.jupiter.api.Test;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasSize;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
 
 /**
  * Test for the {@link BaseProperty} abstract type.
@@ -60,6 +65,27 @@ class BasePropertyTest {
         assertThat(isValid2, equalTo(false));
     }
 
+    @Test
+    void shouldUseRecordedRawValueForDiagnostic() {
+        // given
+        PropertyReader reader = mock(PropertyReader.class);
+        given(reader.getInt("test.count", Integer.MIN_VALUE)).willReturn(Integer.MIN_VALUE);
+        given(reader.getObject("test.count")).willReturn("not a number");
+        Property<Integer> property = PropertyInitializer.newProperty("test.count", 3);
+
+        // when
+        PropertyValue<Integer> value = property.determineValue(reader);
+
+        // then
+        assertThat(value.getValue(), equalTo(3));
+        assertThat(value.getDiagnostics(), hasSize(1));
+        assertThat(value.getDiagnostics().get(0).getKind(), equalTo(ConversionDiagnostic.Kind.INVALID_VALUE));
+        assertThat(value.getDiagnostics().get(0).getRawValue(), equalTo("not a number"));
+        verify(reader).getInt("test.count", Integer.MIN_VALUE);
+        verify(reader).getObject("test.count");
+        verifyNoMoreInteractions(reader);
+    }
+
     private static final class PropertyTestImpl extends BaseProperty<Byte> {
         PropertyTestImpl(String path, Byte defaultValue) {
             super(path, defaultValue);
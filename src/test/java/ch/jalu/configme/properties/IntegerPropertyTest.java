@@ -22,8 +22,11 @@ class IntegerPropertyTest {
     @BeforeAll
     static void setUpConfiguration() {
         reader = mock(PropertyReader.class);
-        when(reader.getObject("int.path.test")).thenReturn(27);
+        when(reader.getInt("int.path.test", Integer.MIN_VALUE)).thenReturn(27);
+        when(reader.getInt("int.path.wrong", Integer.MIN_VALUE)).thenReturn(Integer.MIN_VALUE);
         when(reader.getObject("int.path.wrong")).thenReturn(null);
+        when(reader.getInt("int.path.min", Integer.MIN_VALUE)).thenReturn(Integer.MIN_VALUE);
+        when(reader.getObject("int.path.min")).thenReturn(Integer.MIN_VALUE);
     }
 
     @Test
@@ -50,6 +53,18 @@ class IntegerPropertyTest {
         assertThat(result, isErrorValueOf(-10));
     }
 
+    @Test
+    void shouldGetIntValueEqualToAbsentMarker() {
+        // given
+        Property<Integer> property = new IntegerProperty("int.path.min", 3);
+
+        // when
+        PropertyValue<Integer> result = property.determineValue(reader);
+
+        // then
+        assertThat(result, isValidValueOf(Integer.MIN_VALUE));
+    }
+
     @Test
     void shouldReturnValueForExport() {
         // given
@@ -22,7 +22,8 @@ class LongPropertyTest {
     @BeforeAll
     static void setUpConfiguration() {
         reader = mock(PropertyReader.class);
-        when(reader.getObject("long.path.test")).thenReturn(30L);
+        when(reader.getLong("long.path.test", Long.MIN_VALUE)).thenReturn(30L);
+        when(reader.getLong("long.path.wrong", Long.MIN_VALUE)).thenReturn(Long.MIN_VALUE);
         when(reader.getObject("long.path.wrong")).thenReturn(null);
     }
 
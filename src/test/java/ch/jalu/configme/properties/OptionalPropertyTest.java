@@ -33,7 +33,8 @@ class OptionalPropertyTest {
         reader = mock(PropertyReader.class);
         when(reader.getObject("bool.path.test")).thenReturn(true);
         when(reader.getObject("bool.path.wrong")).thenReturn(null);
-        when(reader.getObject("int.path.test")).thenReturn(27);
+        when(reader.getInt("int.path.test", Integer.MIN_VALUE)).thenReturn(27);
+        when(reader.getInt("int.path.wrong", Integer.MIN_VALUE)).thenReturn(Integer.MIN_VALUE);
         when(reader.getObject("int.path.wrong")).thenReturn(null);
         when(reader.getObject("enum.path.test")).thenReturn(TestEnum.FOURTH.name());
         when(reader.getObject("enum.path.wrong")).thenReturn(null);
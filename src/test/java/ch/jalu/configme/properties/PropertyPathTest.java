@@ -0,0 +1,95 @@
+package ch.jalu.configme.properties;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static ch.jalu.configme.properties.PropertyInitializer.newProperty;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+
+/**
+ * Test for {@link PropertyPath}.
+ */
+class PropertyPathTest {
+
+    @Test
+    void shouldSplitLikeStringSplit() {
+        // given
+        String[] paths = { "", "a", "a.b.c", "a..b", ".a", "a.b.", "a..", "first.second.third.fourth" };
+
+        // when / then
+        for (String path : paths) {
+            PropertyPath propertyPath = PropertyPath.of(path);
+            assertThat(path, propertyPath.getSegments(), equalTo(Arrays.asList(path.split("\\."))));
+            assertThat(propertyPath.getPath(), equalTo(path));
+            assertThat(propertyPath.toString(), equalTo(path));
+        }
+    }
+
+    @Test
+    void shouldInternSegments() {
+        // given
+        String path1 = new StringBuilder("security.").append("admin").toString();
+        String path2 = new StringBuilder("security.").append("user").toString();
+
+        // when
+        PropertyPath propertyPath1 = PropertyPath.of(path1);
+        PropertyPath propertyPath2 = PropertyPath.of(path2);
+
+        // then
+        assertThat(propertyPath1.getSegments().get(0), sameInstance(propertyPath2.getSegments().get(0)));
+        assertThat(propertyPath1.getLastSegment(), sameInstance("admin"));
+    }
+
+    @Test
+    void shouldReturnParentAndChild() {
+        // given
+        PropertyPath path = PropertyPath.of("a.b.c");
+
+        // when
+        PropertyPath parent = path.getParent();
+        PropertyPath child = path.child("d");
+
+        // then
+        assertThat(parent.getPath(), equalTo("a.b"));
+        assertThat(parent.getSegments(), contains("a", "b"));
+        assertThat(path.getParent(), sameInstance(parent));
+        assertThat(parent.getParent().getParent(), nullValue());
+        assertThat(child.getPath(), equalTo("a.b.c.d"));
+        assertThat(child.getSegments(), contains("a", "b", "c", "d"));
+        assertThat(child.getSegmentCount(), equalTo(4));
+        assertThat(PropertyPath.of("").child("root").getSegments(), contains("root"));
+    }
+
+    @Test
+    void shouldBeEqualBasedOnPath() {
+        // given
+        PropertyPath path = PropertyPath.of("test.path");
+
+        // when / then
+        assertThat(path, equalTo(PropertyPath.of("test.path")));
+        assertThat(path.hashCode(), equalTo(PropertyPath.of("test.path").hashCode()));
+        assertThat(path, equalTo(PropertyPath.of("test").child("path")));
+        assertThat(path, not(equalTo(PropertyPath.of("test.path2"))));
+        assertThat(path, not(equalTo((Object) "test.path")));
+    }
+
+    @Test
+    void shouldBeCreatedOnceByProperty() {
+        // given
+        Property<String> property = newProperty("some.path", "");
+
+        // when
+        PropertyPath path1 = property.getPropertyPath();
+        PropertyPath path2 = property.getPropertyPath();
+
+        // then
+        assertThat(path1, sameInstance(path2));
+        assertThat(path1.getSegments(), contains("some", "path"));
+    }
+}
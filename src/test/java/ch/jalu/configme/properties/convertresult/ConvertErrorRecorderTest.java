@@ -0,0 +1,80 @@
+package ch.jalu.configme.properties.convertresult;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.nullValue;
+
+/**
+ * Test for {@link ConvertErrorRecorder}.
+ */
+class ConvertErrorRecorderTest {
+
+    @Test
+    void shouldBeValidWithoutDiagnosticsByDefault() {
+        // given
+        ConvertErrorRecorder errorRecorder = new ConvertErrorRecorder("some.path");
+
+        // when / then
+        assertThat(errorRecorder.isFullyValid(), equalTo(true));
+        assertThat(errorRecorder.getDiagnostics(), empty());
+    }
+
+    @Test
+    void shouldRecordDiagnostics() {
+        // given
+        ConvertErrorRecorder errorRecorder = new ConvertErrorRecorder("commands");
+
+        // when
+        errorRecorder.registerError(ConversionDiagnostic.Kind.INVALID_ENTRY, "aliases.[1]", 45.2);
+        errorRecorder.setHasError("Something's wrong");
+
+        // then
+        assertThat(errorRecorder.isFullyValid(), equalTo(false));
+        List<ConversionDiagnostic> diagnostics = errorRecorder.getDiagnostics();
+        assertThat(diagnostics, hasSize(2));
+        assertThat(diagnostics.get(0).getKind(), equalTo(ConversionDiagnostic.Kind.INVALID_ENTRY));
+        assertThat(diagnostics.get(0).getPath(), equalTo("commands.aliases.[1]"));
+        assertThat(diagnostics.get(0).getRawValue(), equalTo(45.2));
+        assertThat(diagnostics.get(0).getMessage(),
+            equalTo("At path 'commands.aliases.[1]': Invalid entry '45.2' was skipped"));
+        assertThat(diagnostics.get(1).getKind(), equalTo(ConversionDiagnostic.Kind.OTHER));
+        assertThat(diagnostics.get(1).getMessage(), equalTo("At path 'commands': Something's wrong"));
+    }
+
+    @Test
+    void shouldCapDiagnostics() {
+        // given
+        ConvertErrorRecorder errorRecorder = new ConvertErrorRecorder();
+
+        // when
+        for (int i = 0; i < ConvertErrorRecorder.MAX_DIAGNOSTICS + 20; ++i) {
+            errorRecorder.registerError(ConversionDiagnostic.Kind.INVALID_ENTRY, "[" + i + "]", i);
+        }
+
+        // then
+        assertThat(errorRecorder.getDiagnostics(), hasSize(ConvertErrorRecorder.MAX_DIAGNOSTICS));
+        assertThat(errorRecorder.getDiagnostics().get(3).getPath(), equalTo("[3]"));
+    }
+
+    @Test
+    void shouldKeepRawValue() {
+        // given
+        ConvertErrorRecorder errorRecorder = new ConvertErrorRecorder("some.path");
+
+        // when
+        boolean hasRawValueBefore = errorRecorder.hasRawValue();
+        errorRecorder.setRawValue(null);
+
+        // then
+        assertThat(hasRawValueBefore, equalTo(false));
+        assertThat(errorRecorder.hasRawValue(), equalTo(true));
+        assertThat(errorRecorder.getRawValue(), nullValue());
+        assertThat(errorRecorder.isFullyValid(), equalTo(true));
+    }
+}
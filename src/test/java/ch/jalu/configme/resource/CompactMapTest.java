@@ -0,0 +1,175 @@
+package ch.jalu.configme.resource;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Test for {@link CompactMap} and {@link CompactList}.
+ */
+class CompactMapTest {
+
+    @Test
+    void shouldKeepValuesAndTheirTypes() {
+        // given
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("int", 3);
+        map.put("long", 4000000000L);
+        map.put("double", -2.5);
+        map.put("bool", true);
+        map.put("text", "test");
+        map.put("big", new BigInteger("123456789012345678901234567890"));
+        map.put("null", null);
+
+        // when
+        CompactMap compactMap = CompactMap.of(map);
+
+        // then
+        assertThat(compactMap, equalTo(map));
+        assertThat(map, equalTo(compactMap));
+        assertThat(compactMap.hashCode(), equalTo(map.hashCode()));
+        assertThat(compactMap.keySet(), contains("int", "long", "double", "bool", "text", "big", "null"));
+        assertThat(compactMap.get("int"), instanceOf(Integer.class));
+        assertThat(compactMap.get("long"), instanceOf(Long.class));
+        assertThat(compactMap.get("double"), equalTo(-2.5));
+        assertThat(compactMap.get("bool"), equalTo(true));
+        assertThat(compactMap.containsKey("null"), equalTo(true));
+        assertThat(compactMap.get("null"), nullValue());
+        assertThat(compactMap.containsKey("other"), equalTo(false));
+        assertThat(compactMap.get(3), nullValue());
+    }
+
+    @Test
+    void shouldLookUpKeysOfLargeMap() {
+        // given
+        Map<String, Object> map = new LinkedHashMap<>();
+        for (int i = 0; i < 100; ++i) {
+            map.put("key" + i, i % 3 == 0 ? "value" + i : i);
+        }
+
+        // when
+        CompactMap compactMap = CompactMap.of(map);
+
+        // then
+        assertThat(compactMap.size(), equalTo(100));
+        for (Map.Entry<String, Object> entry : map.entrySet()) {
+            assertThat(compactMap.get(new String(entry.getKey())), equalTo(entry.getValue()));
+        }
+        assertThat(compactMap.containsKey("key100"), equalTo(false));
+        assertThat(new ArrayList<>(compactMap.keySet()), equalTo(new ArrayList<>(map.keySet())));
+    }
+
+    @Test
+    void shouldConvertNestedMapsAndLists() {
+        // given
+        Map<String, Object> inner = new LinkedHashMap<>();
+        inner.put("name", "test");
+        inner.put("list", Arrays.asList(1, 2L, "three", null, Collections.singletonMap("four", 4.0)));
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("inner", inner);
+        map.put("numbers", Arrays.asList(1, 2, 3));
+
+        // when
+        CompactMap compactMap = CompactMap.of(map);
+
+        // then
+        assertThat(compactMap, equalTo(map));
+        assertThat(compactMap.get("inner"), instanceOf(CompactMap.class));
+        assertThat(((Map<?, ?>) compactMap.get("inner")).get("list"), instanceOf(CompactList.class));
+        assertThat(((List<?>) ((Map<?, ?>) compactMap.get("inner")).get("list")).get(4),
+            instanceOf(CompactMap.class));
+        assertThat(compactMap.get("numbers"), instanceOf(CompactList.class));
+        assertThat(((List<?>) compactMap.get("numbers")).get(1), equalTo(2));
+    }
+
+    @Test
+    void shouldStoreNumbersOfSameTypeUnboxed() {
+        // given
+        Map<String, Object> ints = new LinkedHashMap<>();
+        ints.put("a", 1);
+        ints.put("b", -300);
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("ints", ints);
+        map.put("longs", Arrays.asList(4000000000L, -1L));
+        map.put("doubles", Collections.singletonMap("d", -2.5));
+        map.put("mixed", Arrays.asList(1, 2L, 3.5, true, null));
+
+        // when
+        CompactMap compactMap = CompactMap.of(map);
+
+        // then
+        assertThat(compactMap, equalTo(map));
+        CompactMap compactInts = (CompactMap) compactMap.get("ints");
+        assertThat(compactInts.get("b"), equalTo(-300));
+        assertThat(compactInts.getInt("b", 0), equalTo(-300));
+        assertThat(compactInts.getLong("a", 0L), equalTo(1L));
+        assertThat(compactInts.getDouble("c", -1.0), equalTo(-1.0));
+        assertThat(((List<?>) compactMap.get("longs")).get(0), equalTo(4000000000L));
+        CompactMap compactDoubles = (CompactMap) compactMap.get("doubles");
+        assertThat(compactDoubles.getDouble("d", 0.0), equalTo(-2.5));
+        assertThat(compactDoubles.getInt("d", 0), equalTo(-2));
+        assertThat(compactMap.getInt("mixed", -1), equalTo(-1));
+        assertThat(((List<?>) compactMap.get("mixed")).get(1), instanceOf(Long.class));
+    }
+
+    @Test
+    void shouldKeepLoadedWrappersOfMixedValues() {
+        // given
+        Integer number = 1000;
+        Double decimal = 1.5;
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("number", number);
+        map.put("decimal", decimal);
+        map.put("text", "test");
+
+        // when
+        CompactMap compactMap = CompactMap.of(map);
+
+        // then
+        assertThat(compactMap.get("number"), sameInstance(number));
+        assertThat(compactMap.get("decimal"), sameInstance(decimal));
+        assertThat(compactMap.getInt("number", 0), equalTo(1000));
+        assertThat(compactMap.getDouble("number", 0.0), equalTo(1000.0));
+        assertThat(compactMap.getLong("text", -1L), equalTo(-1L));
+    }
+
+    @Test
+    void shouldKeepKeyInstances() {
+        // given
+        String key = new String(new char[]{'k', 'e', 'y'});
+        Map<String, Object> map = Collections.singletonMap(key, "value");
+
+        // when
+        CompactMap compactMap = CompactMap.of(map);
+
+        // then
+        assertThat(compactMap.keySet().iterator().next(), sameInstance(key));
+    }
+
+    @Test
+    void shouldBeUnmodifiable() {
+        // given
+        CompactMap compactMap = CompactMap.of(Collections.singletonMap("list", Arrays.asList(1, 2)));
+        List<?> list = (List<?>) compactMap.get("list");
+
+        // when / then
+        assertThrows(UnsupportedOperationException.class, () -> compactMap.put("a", "b"));
+        assertThrows(UnsupportedOperationException.class, () -> compactMap.remove("list"));
+        assertThrows(UnsupportedOperationException.class, () -> list.remove(0));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(2));
+    }
+}
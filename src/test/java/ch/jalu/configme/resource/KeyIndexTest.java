@@ -0,0 +1,144 @@
+package ch.jalu.configme.resource;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Test for {@link KeyIndex}.
+ */
+class KeyIndexTest {
+
+    @Test
+    void shouldIndexKeys() {
+        // given
+        Map<String, Object> inner = new LinkedHashMap<>();
+        inner.put("b", 1);
+        inner.put("c", Collections.emptyMap());
+        Map<String, Object> dotted = new LinkedHashMap<>();
+        dotted.put("z", 3);
+        Map<String, Object> root = new LinkedHashMap<>();
+        root.put("a", inner);
+        root.put("x.y", dotted);
+        root.put("d", "text");
+
+        // when
+        KeyIndex index = KeyIndex.create(root);
+
+        // then
+        assertThat(index.getKeys(false), contains("a", "a.b", "a.c", "x.y", "x.y.z", "d"));
+        assertThat(index.getKeys(true), contains("a.b", "a.c", "x.y.z", "d"));
+        assertThat(index.getChildKeys(""), contains("a", "x.y", "d"));
+        assertThat(index.getChildKeys("a"), contains("a.b", "a.c"));
+        assertThat(index.getChildKeys("a.c"), empty());
+        assertThat(index.getChildKeys("a.b"), empty());
+        assertThat(index.getChildKeys("d"), empty());
+        assertThat(index.getChildKeys("x.y"), empty()); // cannot be addressed as the key has a dot
+        assertThat(index.getChildKeys("unknown"), empty());
+    }
+
+    @Test
+    void shouldReturnSameUnmodifiableSets() {
+        // given
+        KeyIndex index = KeyIndex.create(Collections.singletonMap("a", Collections.singletonMap("b", 1)));
+
+        // when
+        Set<String> keys = index.getKeys(false);
+        Set<String> childKeys = index.getChildKeys("a");
+
+        // then
+        assertThat(index.getKeys(false), sameInstance(keys));
+        assertThat(index.getChildKeys("a"), sameInstance(childKeys));
+        assertThrows(UnsupportedOperationException.class, () -> keys.add("c"));
+        assertThrows(UnsupportedOperationException.class, () -> childKeys.clear());
+    }
+
+    @Test
+    void shouldReturnNullForPathsWithEmptySegments() {
+        // given
+        KeyIndex index = KeyIndex.create(Collections.singletonMap("a", Collections.singletonMap("b", 1)));
+
+        // when / then
+        assertThat(index.getChildKeys("a."), nullValue());
+        assertThat(index.getChildKeys(".a"), nullValue());
+        assertThat(index.getChildKeys("a..b"), nullValue());
+    }
+
+    @Test
+    void shouldReturnKeysWithPrefix() {
+        // given
+        KeyIndex index = KeyIndex.create(createWorldsMap());
+
+        // when / then
+        assertThat(index.getKeysWithPrefix("worlds."), contains("worlds.end", "worlds.end.size", "worlds.main",
+            "worlds.main.size", "worlds.nether", "worlds.nether.size"));
+        assertThat(index.getKeysWithPrefix("worlds.n"), contains("worlds.nether", "worlds.nether.size"));
+        assertThat(index.getKeysWithPrefix("worlds.main.size"), contains("worlds.main.size"));
+        assertThat(index.getKeysWithPrefix("worlds.x"), empty());
+        assertThat(index.getKeysWithPrefix("zzz"), empty());
+        assertThat(index.getKeysWithPrefix(""), hasSize(9));
+    }
+
+    @Test
+    void shouldCountKeysUnderPath() {
+        // given
+        KeyIndex index = KeyIndex.create(createWorldsMap());
+
+        // when / then
+        assertThat(index.countUnder(""), equalTo(9));
+        assertThat(index.countUnder("worlds"), equalTo(6));
+        assertThat(index.countUnder("worlds.main"), equalTo(1));
+        assertThat(index.countUnder("worlds.main.size"), equalTo(0));
+        assertThat(index.countUnder("world"), equalTo(0));
+        assertThat(index.countUnder("unknown"), equalTo(0));
+    }
+
+    @Test
+    void shouldReturnKeysInRange() {
+        // given
+        KeyIndex index = KeyIndex.create(createWorldsMap());
+
+        // when / then
+        assertThat(index.getKeysInRange("worlds.end.size", "worlds.nether"),
+            contains("worlds.end.size", "worlds.main", "worlds.main.size"));
+        assertThat(index.getKeysInRange("a", "b"), contains("a", "a.b"));
+        assertThat(index.getKeysInRange("worlds", "worlds"), empty());
+        assertThrows(IllegalArgumentException.class, () -> index.getKeysInRange("b", "a"));
+    }
+
+    @Test
+    void shouldHandleNullRoot() {
+        // given / when
+        KeyIndex index = KeyIndex.create(null);
+
+        // then
+        assertThat(index.getKeys(false), empty());
+        assertThat(index.getKeys(true), empty());
+        assertThat(index.getChildKeys(""), empty());
+        assertThat(index.getKeysWithPrefix(""), empty());
+        assertThat(index.countUnder(""), equalTo(0));
+    }
+
+    private static Map<String, Object> createWorldsMap() {
+        Map<String, Object> worlds = new LinkedHashMap<>();
+        worlds.put("main", Collections.singletonMap("size", 3));
+        worlds.put("nether", Collections.singletonMap("size", 2));
+        worlds.put("end", Collections.singletonMap("size", 1));
+        Map<String, Object> root = new LinkedHashMap<>();
+        root.put("worlds", worlds);
+        root.put("a", Collections.singletonMap("b", true));
+        return root;
+    }
+}
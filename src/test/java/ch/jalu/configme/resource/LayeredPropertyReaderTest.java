@@ -0,0 +1,110 @@
+package ch.jalu.configme.resource;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+
+/**
+ * Test for {@link LayeredPropertyReader}.
+ */
+class LayeredPropertyReaderTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    @Test
+    void shouldResolveValuesFromLayers() throws IOException {
+        // given
+        YamlFileReader base = createReader("base.yml",
+            "a:\n  b: 1\n  c: 2\nlist: [x, y]\nleaf: 3\nsection:\n  x: 1\nonlyBase:\n  q: 'base'");
+        YamlFileReader override = createReader("override.yml",
+            "a:\n  c: 20\n  d: 30\nleaf:\n  nested: true\nsection: 5\nlist: [z]");
+
+        // when
+        LayeredPropertyReader reader = new LayeredPropertyReader(Arrays.asList(base, override));
+
+        // then
+        Map<String, Object> expectedA = new LinkedHashMap<>();
+        expectedA.put("b", 1);
+        expectedA.put("c", 20);
+        expectedA.put("d", 30);
+        assertThat(reader.getObject("a"), equalTo(expectedA));
+        assertThat(reader.getInt("a.b"), equalTo(1));
+        assertThat(reader.getInt("a.c"), equalTo(20));
+        assertThat(reader.getBoolean("leaf.nested"), equalTo(true));
+        assertThat(reader.getInt("section"), equalTo(5));
+        assertThat(reader.getObject("section.x"), nullValue());
+        assertThat(reader.getList("list"), contains("z"));
+        assertThat(reader.getString("onlyBase.q"), equalTo("base"));
+        assertThat(reader.contains("a.d"), equalTo(true));
+        assertThat(reader.contains("a.e"), equalTo(false));
+        assertThat(reader.getKeys(true),
+            contains("a.b", "a.c", "a.d", "list", "leaf.nested", "section", "onlyBase.q"));
+        assertThat(reader.getChildKeys("a"), contains("a.b", "a.c", "a.d"));
+        assertThat(reader.getChildKeys("section"), empty());
+        assertThat(reader.getKeysWithPrefix("a."), contains("a.b", "a.c", "a.d"));
+        assertThat(reader.countUnder("leaf"), equalTo(1));
+        assertThat(reader.getKeysInRange("leaf", "list"), contains("leaf", "leaf.nested"));
+    }
+
+    @Test
+    void shouldShareSectionsDefinedInOneLayer() throws IOException {
+        // given
+        YamlFileReader base = createReader("base.yml", "shared:\n  value: 1\n  sub:\n    x: 'y'");
+        YamlFileReader override = createReader("override.yml", "other: 3");
+
+        // when
+        LayeredPropertyReader reader = new LayeredPropertyReader(Arrays.asList(base, override));
+
+        // then
+        assertThat(reader.getObject("shared"), sameInstance(base.getObject("shared")));
+        assertThat(reader.getObject("shared.sub"), sameInstance(base.getObject("shared.sub")));
+        assertThat(reader.getInt("other"), equalTo(3));
+    }
+
+    @Test
+    void shouldNotOverrideWithNullValues() throws IOException {
+        // given
+        YamlFileReader base = createReader("base.yml", "a: 1\nb:\n  c: 2");
+        YamlFileReader override = createReader("override.yml", "a:\nb:\n  c:");
+
+        // when
+        LayeredPropertyReader reader = new LayeredPropertyReader(Arrays.asList(base, override));
+
+        // then
+        assertThat(reader.getInt("a"), equalTo(1));
+        assertThat(reader.getInt("b.c"), equalTo(2));
+    }
+
+    @Test
+    void shouldHandleNoLayers() {
+        // given / when
+        LayeredPropertyReader reader = new LayeredPropertyReader(Collections.emptyList());
+
+        // then
+        assertThat(reader.getObject(""), nullValue());
+        assertThat(reader.getObject("a.b"), nullValue());
+        assertThat(reader.getKeys(false), empty());
+    }
+
+    private YamlFileReader createReader(String fileName, String content) throws IOException {
+        Path file = temporaryFolder.resolve(fileName);
+        Files.write(file, content.getBytes(StandardCharsets.UTF_8));
+        return new YamlFileReader(file);
+    }
+}
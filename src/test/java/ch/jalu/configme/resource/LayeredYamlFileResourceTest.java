@@ -0,0 +1,155 @@
+package ch.jalu.configme.resource;
+
+import ch.jalu.configme.configurationdata.ConfigurationData;
+import ch.jalu.configme.properties.Property;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static ch.jalu.configme.TestUtils.verifyException;
+import static ch.jalu.configme.configurationdata.ConfigurationDataBuilder.createConfiguration;
+import static ch.jalu.configme.properties.PropertyInitializer.newProperty;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+
+/**
+ * Test for {@link LayeredYamlFileResource}.
+ */
+class LayeredYamlFileResourceTest {
+
+    private static final Property<Integer> SIZE = newProperty("server.size", 1);
+    private static final Property<String> NAME = newProperty("server.name", "default");
+    private static final Property<Boolean> DEBUG = newProperty("debug", false);
+
+    @TempDir
+    public Path temporaryFolder;
+
+    @Test
+    void shouldReadValuesFromAllLayers() throws IOException {
+        // given
+        Path defaults = createFile("defaults.yml", "server:\n  size: 10\n  name: 'shipped'\ndebug: false");
+        Path site = createFile("site.yml", "server:\n  size: 20");
+        Path node = temporaryFolder.resolve("node.yml"); // does not exist
+        LayeredYamlFileResource resource = new LayeredYamlFileResource(Arrays.asList(defaults, site, node));
+        ConfigurationData configurationData = createConfiguration(Arrays.asList(SIZE, NAME, DEBUG));
+
+        // when
+        configurationData.initializeValues(resource.createReader());
+
+        // then
+        assertThat(configurationData.getValue(SIZE), equalTo(20));
+        assertThat(configurationData.getValue(NAME), equalTo("shipped"));
+        assertThat(configurationData.getValue(DEBUG), equalTo(false));
+        assertThat(configurationData.areAllValuesValidInResource(), equalTo(true));
+    }
+
+    @Test
+    void shouldOnlyExportOverriddenValuesToTopLayer() throws IOException {
+        // given
+        String defaultsContent = "server:\n  size: 10\n  name: 'shipped'\ndebug: false";
+        Path defaults = createFile("defaults.yml", defaultsContent);
+        Path site = createFile("site.yml", "server:\n  size: 20\n  name: 'shipped'");
+        LayeredYamlFileResource resource = new LayeredYamlFileResource(Arrays.asList(defaults, site));
+        ConfigurationData configurationData = createConfiguration(Arrays.asList(SIZE, NAME, DEBUG));
+        configurationData.initializeValues(resource.createReader());
+        configurationData.setValue(DEBUG, true);
+
+        // when
+        resource.exportProperties(configurationData);
+
+        // then
+        assertThat(new String(Files.readAllBytes(defaults), StandardCharsets.UTF_8), equalTo(defaultsContent));
+        PropertyReader siteReader = new YamlFileReader(site);
+        assertThat(siteReader.getKeys(true), contains("server.size", "debug"));
+        assertThat(siteReader.getInt("server.size"), equalTo(20));
+        assertThat(siteReader.getBoolean("debug"), equalTo(true));
+
+        ConfigurationData reloadedData = createConfiguration(Arrays.asList(SIZE, NAME, DEBUG));
+        reloadedData.initializeValues(resource.createReader());
+        assertThat(reloadedData.getValue(SIZE), equalTo(20));
+        assertThat(reloadedData.getValue(NAME), equalTo("shipped"));
+        assertThat(reloadedData.getValue(DEBUG), equalTo(true));
+    }
+
+    @Test
+    void shouldCreateTopLayerOnExport() throws IOException {
+        // given
+        Path defaults = createFile("defaults.yml", "server:\n  size: 10");
+        Path node = temporaryFolder.resolve("node.yml");
+        LayeredYamlFileResource resource = new LayeredYamlFileResource(Arrays.asList(defaults, node));
+        ConfigurationData configurationData = createConfiguration(Arrays.asList(SIZE, NAME));
+        configurationData.initializeValues(resource.createReader());
+
+        // when
+        resource.exportProperties(configurationData);
+
+        // then
+        PropertyReader nodeReader = new YamlFileReader(node);
+        assertThat(nodeReader.getKeys(true), contains("server.name"));
+        assertThat(nodeReader.getString("server.name"), equalTo("default"));
+    }
+
+    @Test
+    void shouldReuseReaderIfNoLayerChanged() throws IOException {
+        // given
+        Path defaults = createFile("defaults.yml", "server:\n  size: 10\n  name: 'shipped'");
+        Path site = createFile("site.yml", "server:\n  size: 20");
+        YamlFileResourceOptions options = YamlFileResourceOptions.builder()
+            .reuseReaderIfUnchanged(true)
+            .build();
+        LayeredYamlFileResource resource = new LayeredYamlFileResource(Arrays.asList(defaults, site), options);
+        PropertyReader reader = resource.createReader();
+
+        // when
+        PropertyReader secondReader = resource.createReader();
+        Files.write(defaults, "server:\n  size: 10\n  name: 'updated'".getBytes(StandardCharsets.UTF_8));
+        PropertyReader thirdReader = resource.createReader();
+
+        // then
+        assertThat(secondReader, sameInstance(reader));
+        assertThat(thirdReader, not(sameInstance(reader)));
+        assertThat(thirdReader.getString("server.name"), equalTo("updated"));
+        assertThat(thirdReader.getInt("server.size"), equalTo(20));
+    }
+
+    @Test
+    void shouldCompareWithChangedLowerLayerOnExport() throws IOException {
+        // given
+        Path defaults = createFile("defaults.yml", "server:\n  size: 10\n  name: 'shipped'");
+        Path site = createFile("site.yml", "server:\n  size: 20");
+        LayeredYamlFileResource resource = new LayeredYamlFileResource(Arrays.asList(defaults, site));
+        ConfigurationData configurationData = createConfiguration(Arrays.asList(SIZE, NAME));
+        configurationData.initializeValues(resource.createReader());
+        Files.write(defaults, "server:\n  size: 10\n  name: 'updated'".getBytes(StandardCharsets.UTF_8));
+
+        // when
+        resource.exportProperties(configurationData);
+
+        // then
+        PropertyReader siteReader = new YamlFileReader(site);
+        assertThat(siteReader.getKeys(true), contains("server.size", "server.name"));
+        assertThat(siteReader.getString("server.name"), equalTo("shipped"));
+    }
+
+    @Test
+    void shouldRejectEmptyListOfLayers() {
+        // given / when / then
+        verifyException(() -> new LayeredYamlFileResource(Collections.emptyList()),
+            IllegalArgumentException.class, "At least one layer");
+    }
+
+    private Path createFile(String name, String content) throws IOException {
+        Path file = temporaryFolder.resolve(name);
+        Files.write(file, content.getBytes(StandardCharsets.UTF_8));
+        return file;
+    }
+}
@@ -1,10 +1,12 @@
 package ch.jalu.configme.resource;
 
 import org.junit.jupiter.api.Test;
+import org.yaml.snakeyaml.Yaml;
 
 import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.Set;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.anEmptyMap;
@@ -187,4 +189,68 @@ class MapNormalizerTest {
         assertThat(result1, equalTo(true));
         assertThat(result2, equalTo(false));
     }
+
+    @Test
+    void shouldNormalizeLazilyLikeEagerNormalization() {
+        // given
+        String[] documents = {
+            "a: 1\nb: { c: 2, d: [3, 4] }\n",
+            "test: a test\ntest.one: 1\ntest.two: 2\nother.test: 3\nother.more.test: 4\nother: 0\n~: 3\n",
+            "a: { b: { c: 1 } }\na.b.d: 2\na.e: 3\n'a.': 4\n'.f': 5\n",
+            "x.y: 1\nx: { z: 2 }\nx.y.w: 3\n2: two\n5.25: quarter\ntrue: { 'on': yes }\n",
+            "list: [{ a.b: 1 }, 2]\nempty: {}\nempty.sub: {}\nnull.value: ~\n"
+        };
+
+        for (boolean splitDotPaths : new boolean[]{ true, false }) {
+            MapNormalizer mapNormalizer = new MapNormalizer(splitDotPaths);
+            for (String document : documents) {
+                // when
+                Map<String, Object> eagerResult = mapNormalizer.normalizeMap(new Yaml().load(document));
+                Map<String, Object> lazyResult = mapNormalizer.normalizeMapLazily(new Yaml().load(document));
+
+                // then
+                assertThat(document, lazyResult, equalTo(eagerResult));
+                assertThat(document, lazyResult.toString(), equalTo(eagerResult.toString()));
+            }
+        }
+    }
+
+    @Test
+    void shouldOnlyNormalizeAccessedMaps() {
+        // given
+        MapNormalizer mapNormalizer = new MapNormalizer(true);
+        Map<Object, Object> unaccessedMap = new LinkedHashMap<Object, Object>() {
+            @Override
+            public Set<Map.Entry<Object, Object>> entrySet() {
+                throw new IllegalStateException("Map should not be processed");
+            }
+        };
+        Map<Object, Object> accessedMap = new LinkedHashMap<>();
+        accessedMap.put("b.c", 3);
+        Map<Object, Object> map = new LinkedHashMap<>();
+        map.put("a", accessedMap);
+        map.put("unaccessed", unaccessedMap);
+
+        // when
+        Map<String, Object> result = mapNormalizer.normalizeMapLazily(map);
+        Object value = ((Map<?, ?>) ((Map<?, ?>) result.get("a")).get("b")).get("c");
+
+        // then
+        assertThat(value, equalTo(3));
+        assertThat(result.keySet(), contains("a", "unaccessed"));
+        assertThat(accessedMap.keySet(), contains("b.c"));
+        assertThat(map.get("a"), sameInstance(accessedMap));
+    }
+
+    @Test
+    void shouldReturnNullForNullInLazyMode() {
+        // given
+        MapNormalizer mapNormalizer = new MapNormalizer(true);
+
+        // when
+        Map<String, Object> result = mapNormalizer.normalizeMapLazily(null);
+
+        // then
+        assertThat(result, nullValue());
+    }
 }
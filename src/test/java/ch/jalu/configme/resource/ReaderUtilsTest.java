@@ -0,0 +1,75 @@
+package ch.jalu.configme.resource;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+
+/**
+ * Test for {@link ReaderUtils}.
+ */
+class ReaderUtilsTest {
+
+    @Test
+    void shouldConvertNumbers() {
+        // given
+        Integer integer = 1000;
+        Double decimal = 2.75;
+
+        // when / then
+        assertThat(ReaderUtils.toInteger(integer), sameInstance(integer));
+        assertThat(ReaderUtils.toInteger(decimal), equalTo(2));
+        assertThat(ReaderUtils.toInteger("3"), nullValue());
+        assertThat(ReaderUtils.toLong(integer), equalTo(1000L));
+        assertThat(ReaderUtils.toLong(null), nullValue());
+        assertThat(ReaderUtils.toDouble(decimal), sameInstance(decimal));
+        assertThat(ReaderUtils.toDouble(integer), equalTo(1000.0));
+        assertThat(ReaderUtils.toDouble(true), nullValue());
+    }
+
+    @Test
+    void shouldCastValues() {
+        // given
+        List<Integer> list = Arrays.asList(1, 2);
+
+        // when / then
+        assertThat(ReaderUtils.castOrNull("test", String.class), equalTo("test"));
+        assertThat(ReaderUtils.castOrNull(3, String.class), nullValue());
+        assertThat(ReaderUtils.castOrNull(null, Boolean.class), nullValue());
+        assertThat(ReaderUtils.castOrNull(list, List.class), sameInstance(list));
+    }
+
+    @Test
+    void shouldReturnChildPaths() {
+        // given
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("b", 1);
+        map.put("a", Collections.emptyMap());
+
+        // when / then
+        assertThat(ReaderUtils.getChildPaths("section", map), contains("section.b", "section.a"));
+        assertThat(ReaderUtils.getChildPaths("", map), contains("b", "a"));
+        assertThat(ReaderUtils.getChildPaths("section", "value"), empty());
+        assertThat(ReaderUtils.getChildPaths("section", null), empty());
+    }
+
+    @Test
+    void shouldDetectEmptySegments() {
+        // given / when / then
+        assertThat(ReaderUtils.hasEmptySegment("a.b.c"), equalTo(false));
+        assertThat(ReaderUtils.hasEmptySegment("a"), equalTo(false));
+        assertThat(ReaderUtils.hasEmptySegment(".a"), equalTo(true));
+        assertThat(ReaderUtils.hasEmptySegment("a."), equalTo(true));
+        assertThat(ReaderUtils.hasEmptySegment("a..b"), equalTo(true));
+    }
+}
@@ -0,0 +1,107 @@
+package ch.jalu.configme.resource;
+
+import ch.jalu.configme.TestUtils;
+import ch.jalu.configme.properties.PropertyPath;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+
+/**
+ * Test for {@link SectionPropertyReader} and {@link PropertyReader#getSection}.
+ */
+class SectionPropertyReaderTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    @Test
+    void shouldResolvePathsRelativeToSection() {
+        // given
+        YamlFileReader reader = createReader();
+
+        // when
+        PropertyReader section = reader.getSection("features");
+
+        // then
+        assertThat(section, instanceOf(SectionPropertyReader.class));
+        assertThat(section.getObject(""), sameInstance(reader.getObject("features")));
+        assertThat(section.getObject("boring"), sameInstance(reader.getObject("features.boring")));
+        assertThat(section.getBoolean("boring.skip"), equalTo(false));
+        assertThat(section.getDouble("boring.dustLevel"), equalTo(2.4));
+        assertThat(section.getInt("boring.dustLevel"), equalTo(2));
+        assertThat(section.getList("boring.colors"), contains("beige", "gray"));
+        assertThat(section.getString("cool.options"), nullValue());
+        assertThat(section.getObject(PropertyPath.of("cool.enabled")), equalTo(true));
+        assertThat(section.contains("cool.enabled"), equalTo(true));
+        assertThat(section.contains("test.duration"), equalTo(false));
+        assertThat(section.getObject("boring.skip.more"), nullValue());
+    }
+
+    @Test
+    void shouldReturnKeysRelativeToSection() {
+        // given
+        PropertyReader section = createReader().getSection("features.boring");
+
+        // when / then
+        assertThat(section.getKeys(false), contains("skip", "colors", "dustLevel"));
+        assertThat(section.getChildKeys(""), contains("skip", "colors", "dustLevel"));
+        assertThat(section.getChildKeys("skip"), empty());
+        assertThat(section.getKeysWithPrefix("d"), contains("dustLevel"));
+        assertThat(section.countUnder(""), equalTo(3));
+    }
+
+    @Test
+    void shouldReturnNestedSection() {
+        // given
+        YamlFileReader reader = createReader();
+
+        // when
+        PropertyReader section = reader.getSection("features").getSection("cool");
+
+        // then
+        assertThat(section.getObject(""), sameInstance(reader.getObject("features.cool")));
+        assertThat(section.getBoolean("enabled"), equalTo(true));
+    }
+
+    @Test
+    void shouldReturnEmptySectionForMissingOrLeafPath() {
+        // given
+        YamlFileReader reader = createReader();
+
+        // when
+        PropertyReader missingSection = reader.getSection("bogus");
+        PropertyReader leafSection = reader.getSection("test.duration");
+
+        // then
+        assertThat(missingSection.getObject(""), nullValue());
+        assertThat(missingSection.getKeys(false), empty());
+        assertThat(leafSection.getObject(""), nullValue());
+        assertThat(leafSection.contains("duration"), equalTo(false));
+    }
+
+    @Test
+    void shouldReturnSameReaderForRootSection() {
+        // given
+        YamlFileReader reader = createReader();
+
+        // when
+        PropertyReader section = reader.getSection("");
+
+        // then
+        assertThat(section, sameInstance(reader));
+    }
+
+    private YamlFileReader createReader() {
+        Path file = TestUtils.copyFileFromResources("/config-sample.yml", temporaryFolder);
+        return new YamlFileReader(file);
+    }
+}
@@ -0,0 +1,144 @@
+package ch.jalu.configme.resource;
+
+import ch.jalu.configme.configurationdata.ConfigurationData;
+import ch.jalu.configme.configurationdata.ConfigurationDataBuilder;
+import ch.jalu.configme.properties.Property;
+import ch.jalu.configme.samples.TestConfiguration;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.yaml.snakeyaml.Yaml;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+
+import static ch.jalu.configme.TestUtils.copyFileFromResources;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.nullValue;
+
+/**
+ * Test for {@link SelectiveYamlLoader}.
+ */
+class SelectiveYamlLoaderTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    @Test
+    void shouldLoadSameValuesForRegisteredProperties() {
+        // given
+        Path file = copyFileFromResources("/config-sample.yml", temporaryFolder);
+        ConfigurationData configurationData = ConfigurationDataBuilder.createConfiguration(TestConfiguration.class);
+        YamlFileResourceOptions options = YamlFileResourceOptions.builder()
+            .loadOnlyPathsOf(configurationData)
+            .build();
+
+        // when
+        PropertyReader selectiveReader = new YamlFileResource(file, options).createReader();
+        PropertyReader fullReader = new YamlFileResource(file).createReader();
+
+        // then
+        for (Property<?> property : configurationData.getProperties()) {
+            assertThat(property.getPath(), selectiveReader.getObject(property.getPath()),
+                equalTo(fullReader.getObject(property.getPath())));
+        }
+    }
+
+    @Test
+    void shouldOnlyLoadRelevantEntries() {
+        // given
+        String yaml = "unrelated:\n  big: [1, 2, 3]\n  nested: { a: b }\n"
+            + "section:\n  keep: 3\n  skip: &anchor { x: 1 }\n  bean:\n    name: test\n    values: [a, b]\n"
+            + "  'bean.extra': 4\n"
+            + "'section.dotted': true\n"
+            + "other: 5\n";
+        SelectiveYamlLoader loader = new SelectiveYamlLoader(Arrays.asList("section.keep", "section.bean", "other"));
+
+        // when
+        Map<String, Object> result = (Map<String, Object>) loader.load(yaml);
+
+        // then
+        assertThat(result.keySet(), contains("section", "other"));
+        Map<String, Object> section = (Map<String, Object>) result.get("section");
+        assertThat(section.keySet(), contains("keep", "bean", "bean.extra"));
+        Map<?, ?> fullSection = (Map<?, ?>) new Yaml().<Map<String, Object>>load(yaml).get("section");
+        assertThat(section.get("bean"), equalTo(fullSection.get("bean")));
+        assertThat(result.get("other"), equalTo(5));
+    }
+
+    @Test
+    void shouldResolveAliasesInLoadedEntries() {
+        // given
+        String yaml = "defaults: &defaults\n  size: 4\n  color: red\n"
+            + "settings:\n  <<: *defaults\n  color: blue\n"
+            + "copy: *defaults\n"
+            + "ignored: &other [1, 2]\n";
+        SelectiveYamlLoader loader = new SelectiveYamlLoader(Arrays.asList("settings", "copy"));
+
+        // when
+        Object result = loader.load(yaml);
+
+        // then
+        Map<?, ?> resultMap = (Map<?, ?>) result;
+        Map<?, ?> fullResult = new Yaml().load(yaml);
+        assertThat(resultMap.get("settings"), equalTo(fullResult.get("settings")));
+        assertThat(resultMap.get("copy"), equalTo(fullResult.get("copy")));
+    }
+
+    @Test
+    void shouldLoadFullDocumentIfSelectiveLoadingIsNotPossible() {
+        // given
+        String[] documents = {
+            // Alias to an anchor in a skipped entry
+            "skipped: &anchor 3\nkept: *anchor\n",
+            // Anchor in skipped entry overrides previous anchor with the same name
+            "kept1: &anchor 3\nskipped: &anchor 4\nkept2: *anchor\n",
+            // Merge key in partially loaded section
+            "base: &base { kept: 1 }\nsection:\n  <<: *base\n  other: 2\n",
+            // Root is not a map
+            "[1, 2, 3]\n",
+            // Complex key
+            "? [a, b]\n: 3\nkept: 2\n"
+        };
+        SelectiveYamlLoader loader = new SelectiveYamlLoader(Arrays.asList("kept", "kept2", "section.kept"));
+
+        // when / then
+        for (String document : documents) {
+            Object result = loader.load(document);
+            assertThat(document, result, equalTo(new Yaml().load(document)));
+        }
+    }
+
+    @Test
+    void shouldHandleEmptyDocument() {
+        // given
+        SelectiveYamlLoader loader = new SelectiveYamlLoader(Collections.singletonList("test"));
+
+        // when
+        Object result = loader.load("");
+
+        // then
+        assertThat(result, nullValue());
+    }
+
+    @Test
+    void shouldLoadOnlyRegisteredPathsInReader() throws IOException {
+        // given
+        Path file = temporaryFolder.resolve("test.yml");
+        Files.write(file, "a:\n  b: 1\n  c: 2\nd: 3\n".getBytes(StandardCharsets.UTF_8));
+
+        // when
+        YamlFileReader reader = new YamlFileReader(file, StandardCharsets.UTF_8, true, true,
+            Arrays.asList("a.b"), null);
+
+        // then
+        assertThat(reader.getKeys(false), contains("a", "a.b"));
+        assertThat(reader.getInt("a.b"), equalTo(1));
+    }
+}
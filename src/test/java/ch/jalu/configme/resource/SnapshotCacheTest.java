@@ -0,0 +1,165 @@
+package ch.jalu.configme.resource;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.everyItem;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+
+/**
+ * Test for {@link SnapshotCache}.
+ */
+class SnapshotCacheTest {
+
+    private static final FileFingerprint FINGERPRINT = new FileFingerprint(120, 1000L, 4567L);
+
+    @TempDir
+    public Path temporaryFolder;
+
+    @Test
+    void shouldWriteAndReadSnapshot() {
+        // given
+        Path yamlFile = temporaryFolder.resolve("config.yml");
+        Map<String, Object> inner = new LinkedHashMap<>();
+        inner.put("name", "test");
+        inner.put("enabled", true);
+        inner.put("disabled", false);
+        inner.put("none", null);
+        Map<String, Object> root = new LinkedHashMap<>();
+        root.put("int", 3);
+        root.put("long", 4000000000L);
+        root.put("big", new BigInteger("123456789012345678901234567890"));
+        root.put("double", -2.5);
+        root.put("inner", inner);
+        root.put("list", Arrays.asList("name", 1, Collections.singletonMap("name", "ü€")));
+
+        // when
+        boolean written = SnapshotCache.write(yamlFile, FINGERPRINT, 7, root);
+        Map<String, Object> result = SnapshotCache.read(yamlFile, FINGERPRINT, 7);
+
+        // then
+        assertThat(written, equalTo(true));
+        assertThat(Files.exists(temporaryFolder.resolve("config.yml.snapshot")), equalTo(true));
+        assertThat(result, equalTo(root));
+        assertThat(result.keySet(), contains("int", "long", "big", "double", "inner", "list"));
+        assertThat(result.get("long"), instanceOf(Long.class));
+        // Repeated strings are read as the same instance
+        Map<?, ?> resultInner = (Map<?, ?>) result.get("inner");
+        assertThat(((List<?>) result.get("list")).get(0),
+            sameInstance(resultInner.keySet().iterator().next()));
+    }
+
+    @Test
+    void shouldNotReturnSnapshotForDifferentContentsOrOptions() {
+        // given
+        Path yamlFile = temporaryFolder.resolve("config.yml");
+        SnapshotCache.write(yamlFile, FINGERPRINT, 7, Collections.singletonMap("a", 1));
+
+        // when / then
+        assertThat(SnapshotCache.read(yamlFile, new FileFingerprint(120, 1000L, 4568L), 7), nullValue());
+        assertThat(SnapshotCache.read(yamlFile, new FileFingerprint(121, 1000L, 4567L), 7), nullValue());
+        assertThat(SnapshotCache.read(yamlFile, FINGERPRINT, 8), nullValue());
+        // Modification time is irrelevant
+        assertThat(SnapshotCache.read(yamlFile, new FileFingerprint(120, 2000L, 4567L), 7),
+            equalTo(Collections.singletonMap("a", 1)));
+    }
+
+    @Test
+    void shouldIgnoreCorruptSnapshot() throws IOException {
+        // given
+        Path yamlFile = temporaryFolder.resolve("config.yml");
+        SnapshotCache.write(yamlFile, FINGERPRINT, 7, Collections.singletonMap("a", "value"));
+        Path snapshotFile = temporaryFolder.resolve("config.yml.snapshot");
+        byte[] bytes = Files.readAllBytes(snapshotFile);
+        Files.write(snapshotFile, Arrays.copyOf(bytes, bytes.length - 3));
+
+        // when
+        Map<String, Object> result = SnapshotCache.read(yamlFile, FINGERPRINT, 7);
+
+        // then
+        assertThat(result, nullValue());
+    }
+
+    @Test
+    void shouldNotWriteSnapshotForUnsupportedValues() {
+        // given
+        Path yamlFile = temporaryFolder.resolve("config.yml");
+        SnapshotCache.write(yamlFile, FINGERPRINT, 7, Collections.singletonMap("a", 1));
+
+        // when
+        boolean written = SnapshotCache.write(yamlFile, FINGERPRINT, 7, Collections.singletonMap("date", new Date()));
+
+        // then
+        assertThat(written, equalTo(false));
+        assertThat(Files.exists(temporaryFolder.resolve("config.yml.snapshot")), equalTo(false));
+        assertThat(SnapshotCache.read(yamlFile, FINGERPRINT, 7), nullValue());
+    }
+
+    @Test
+    void shouldCollectExportedValues() {
+        // given
+        SnapshotCache.ExportedValues values = new SnapshotCache.ExportedValues();
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("x", Arrays.asList(1, null, "two"));
+        map.put("y", Collections.emptyMap());
+
+        // when
+        boolean result1 = values.add(Arrays.asList("a", "b"), "text");
+        boolean result2 = values.add(Arrays.asList("a", "c"), new LinkedHashSet<>(Arrays.asList("q", "r")));
+        boolean result3 = values.add(Collections.singletonList("d"), map);
+        boolean result4 = values.add(Collections.singletonList("e"), null);
+        boolean result5 = values.add(Collections.singletonList("f"), new String[]{"s"});
+
+        // then
+        assertThat(Arrays.asList(result1, result2, result3, result4, result5), everyItem(equalTo(true)));
+        Map<String, Object> expected = new LinkedHashMap<>();
+        Map<String, Object> a = new LinkedHashMap<>();
+        a.put("b", "text");
+        a.put("c", Arrays.asList("q", "r"));
+        expected.put("a", a);
+        expected.put("d", map);
+        expected.put("f", Collections.singletonList("s"));
+        assertThat(values.getRoot(), equalTo(expected));
+        assertThat(((Map<?, ?>) values.getRoot().get("a")).get("c"), instanceOf(List.class));
+    }
+
+    @Test
+    void shouldRejectValuesWhichAreNotLoadedAsExported() {
+        // given
+        SnapshotCache.ExportedValues values = new SnapshotCache.ExportedValues();
+        values.add(Arrays.asList("a", "b"), 1);
+        values.add(Collections.singletonList("c"), Collections.singletonMap("d", 2));
+
+        // when / then
+        assertThat(values.add(Collections.singletonList("x"), 3L), equalTo(false));
+        assertThat(values.add(Collections.singletonList("x"), 2.5f), equalTo(false));
+        assertThat(values.add(Collections.singletonList("x"), BigInteger.ONE), equalTo(false));
+        assertThat(values.add(Collections.singletonList("x"), Collections.singletonMap("k.l", 1)), equalTo(false));
+        assertThat(values.add(Collections.singletonList("x"), Collections.singletonMap("k", null)), equalTo(false));
+        assertThat(values.add(Collections.singletonList("x"),
+            Collections.singletonList(Collections.singleton("set"))), equalTo(false));
+        assertThat(values.add(Collections.singletonList(""), "root"), equalTo(false));
+        // Conflicts with existing values
+        assertThat(values.add(Arrays.asList("a", "b"), 2), equalTo(false));
+        assertThat(values.add(Arrays.asList("a", "b", "c"), 2), equalTo(false));
+        assertThat(values.add(Arrays.asList("c", "d", "e"), 2), equalTo(false));
+        assertThat(values.add(Arrays.asList("c", "f"), 2), equalTo(false));
+    }
+}
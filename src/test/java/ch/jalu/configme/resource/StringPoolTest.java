@@ -0,0 +1,51 @@
+package ch.jalu.configme.resource;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+
+/**
+ * Test for {@link StringPool}.
+ */
+class StringPoolTest {
+
+    @Test
+    void shouldReturnCanonicalInstance() {
+        // given
+        StringPool pool = new StringPool(10);
+        String first = new String("enabled");
+        String second = new String("enabled");
+
+        // when
+        String result1 = pool.canonicalize(first);
+        String result2 = pool.canonicalize(second);
+
+        // then
+        assertThat(result1, sameInstance(first));
+        assertThat(result2, sameInstance(first));
+        assertThat(pool.size(), equalTo(1));
+    }
+
+    @Test
+    void shouldNotGrowBeyondMaxSize() {
+        // given
+        StringPool pool = new StringPool(2);
+        pool.canonicalize("a");
+        pool.canonicalize("b");
+        String c = new String("c");
+
+        // when
+        String result1 = pool.canonicalize(c);
+        String result2 = pool.canonicalize(new String("c"));
+        String result3 = pool.canonicalize(new String("a"));
+
+        // then
+        assertThat(result1, sameInstance(c));
+        assertThat(result2, not(sameInstance(c)));
+        assertThat(result3, sameInstance("a"));
+        assertThat(pool.size(), equalTo(2));
+    }
+}
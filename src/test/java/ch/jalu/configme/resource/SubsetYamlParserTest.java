@@ -0,0 +1,267 @@
+package ch.jalu.configme.resource;
+
+import ch.jalu.configme.TestUtils;
+import ch.jalu.configme.configurationdata.ConfigurationData;
+import ch.jalu.configme.samples.TestConfiguration;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.yaml.snakeyaml.DumperOptions;
+import org.yaml.snakeyaml.Yaml;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static ch.jalu.configme.configurationdata.ConfigurationDataBuilder.createConfiguration;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Test for {@link SubsetYamlParser}. Most tests are differential: the result of the parser is compared with
+ * the result of SnakeYAML for the same document.
+ */
+class SubsetYamlParserTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+        "key: value",
+        "a: 1\nb: -2\nc: +3\nd: 0\ne: 123456789\nf: 1234567890\ng: 12345678901234567890\nh: 010\ni: 0x1F",
+        "a: 1.5\nb: -0.0\nc: 1e5\nd: 1.5e-3\ne: .inf\nf: -.Inf\ng: .NaN\nh: 1_000.5\ni: 190:20:30.15",
+        "a: true\nb: False\nc: yes\nd: NO\ne: on\nf: Off\ng: y\nh: n",
+        "a: ~\nb: null\nc: Null\nd:\ne: ''\nf: \"\"",
+        "date: 2024-01-31\ntime: 2001-12-14t21:59:43.10-05:00",
+        "1: one\n2.5: two\ntrue: three\nnull: four\n~: five",
+        "nested:\n  inner:\n    value: 3\n    list:\n    - a\n    - b\n  other: x\nlast: y",
+        "list:\n- a\n- 2\n-\n- - x\n  - y\n-\n  - z\n- k: v\n  k2: v2\n- ''",
+        "list:\n  - a\n  - b\nnext: c",
+        "beans:\n- name: Alex\n  tags:\n  - a\n  - b\n  size: 3\n- name: Bob\n  tags: []\n  extra: {}",
+        "'quoted key': 'it''s'\n\"double\": \"esc \\\" \\\\ \\n \\t \\x41 \\u00e9 \\U0001F600 \\_ \\0\"",
+        "a: text # comment\n# full line comment\n  # indented comment\nb: 'q' # comment\nc: \"d\"   # c\nd: [] # c",
+        "url: http://example.com:8080/path?a=b#frag\nmsg: a:b c#d e\ntime: 12:30\ncolon: a :b",
+        "spaces:    value with   inner spaces   \nunicode: äöü € 日本\nemoji: 😀 test",
+        "key with spaces  : value\n'' : empty key\n\"a.b\": dotted",
+        "dup: 1\nother: 2\ndup: 3",
+        "  indented:\n    root: 1\n  second: 2",
+        "a:\n\n\n  b: 1\n\n\nc: 2\n",
+        "windows: 1\r\nline: 2\r\nnested:\r\n  x: y\r\n",
+        "a: -1.5\nb: -.5\nc: +.5e3\nd: 1.\ne: 0.\nf: 00.5\ng: 1e",
+        "a: 0b1010\nb: -0x10\nc: 0o17\nd: 1_000\ne: +0\nf: -0",
+        "k: 'single ''quoted'' # not a comment'\nl: \"double # not a comment\"",
+    })
+    void shouldParseLikeSnakeYaml(String yaml) throws SubsetYamlParser.UnsupportedSyntaxException {
+        // given / when / then
+        assertParsesLikeSnakeYaml(yaml);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+        "a: &anchor 1\nb: *anchor",
+        "a: !!str 1",
+        "a: [1, 2]",
+        "a: {b: 1}",
+        "a: |\n  literal",
+        "a: >\n  folded",
+        "a: multi\n  line",
+        "a: 'multi\n  line'",
+        "a: \"multi\n  line\"",
+        "a: \"escaped \\\n  newline\"",
+        "---\na: 1",
+        "a: 1\n...",
+        "%YAML 1.1\n---\na: 1",
+        "? complex\n: key",
+        "a:\tb",
+        "\uFEFFa: 1",
+        "- root\n- list",
+        "root scalar",
+        "base: &b\n  x: 1\nderived:\n  <<: *b",
+        "a: 1\n  b: 2",
+        "a:\n    b: 1\n  c: 2",
+        "a: b: c",
+        "a: b:",
+        "a: - b",
+        "a: @b",
+        "a: `b",
+        "key:value",
+        "a: \"\\q\"",
+        "'a':b",
+        "a: 'b' c",
+        "a:\n  - x\n b: 1",
+        "a: 1\n- b",
+        "a\n",
+    })
+    void shouldRejectUnsupportedDocuments(String yaml) {
+        // given
+        SubsetYamlParser parser = new SubsetYamlParser(yaml, null, false, 0);
+
+        // when / then
+        assertThrows(SubsetYamlParser.UnsupportedSyntaxException.class, parser::parse);
+    }
+
+    @Test
+    void shouldReturnNullForEmptyDocument() throws SubsetYamlParser.UnsupportedSyntaxException {
+        // given / when / then
+        assertThat(new SubsetYamlParser("", null, false, 0).parse(), nullValue());
+        assertThat(new SubsetYamlParser("\n  # comment\n\n", null, false, 0).parse(), nullValue());
+    }
+
+    @Test
+    void shouldParseYamlFilesFromTestResourcesLikeSnakeYaml() throws IOException {
+        // given
+        List<Path> files;
+        try (Stream<Path> paths = Files.walk(TestUtils.getJarPath("/"))) {
+            files = paths.filter(path -> path.toString().endsWith(".yml")).collect(Collectors.toList());
+        }
+        int supportedFiles = 0;
+
+        // when / then
+        for (Path file : files) {
+            String yaml = new String(Files.readAllBytes(file), StandardCharsets.UTF_8);
+            try {
+                Map<Object, Object> result = new SubsetYamlParser(yaml, null, false, 0).parse();
+                assertThat(file.toString(), result, equalTo(new Yaml().load(yaml)));
+                ++supportedFiles;
+            } catch (SubsetYamlParser.UnsupportedSyntaxException ignore) {
+                // Differential check only applies to supported files
+            }
+        }
+        assertThat(supportedFiles, greaterThan(files.size() / 2));
+    }
+
+    @Test
+    void shouldParseExportedConfigurationFile() throws IOException, SubsetYamlParser.UnsupportedSyntaxException {
+        // given
+        Path file = TestUtils.copyFileFromResources("/config-sample.yml", temporaryFolder);
+        YamlFileResource resource = new YamlFileResource(file);
+        ConfigurationData configurationData = createConfiguration(TestConfiguration.class);
+        configurationData.initializeValues(resource.createReader());
+        resource.exportProperties(configurationData);
+        String yaml = new String(Files.readAllBytes(file), StandardCharsets.UTF_8);
+
+        // when / then
+        assertParsesLikeSnakeYaml(yaml);
+    }
+
+    @Test
+    void shouldParseGeneratedDocumentsLikeSnakeYaml() {
+        // given
+        DumperOptions options = new DumperOptions();
+        options.setDefaultFlowStyle(DumperOptions.FlowStyle.BLOCK);
+        Yaml yaml = new Yaml(options);
+        Random random = new Random(4711);
+        int supportedDocuments = 0;
+
+        // when / then
+        for (int i = 0; i < 500; ++i) {
+            String document = yaml.dump(generateMap(random, 0));
+            try {
+                Map<Object, Object> result = new SubsetYamlParser(document, null, false, 0).parse();
+                assertThat(document, result, equalTo(new Yaml().load(document)));
+                ++supportedDocuments;
+            } catch (SubsetYamlParser.UnsupportedSyntaxException ignore) {
+                // Differential check only applies to supported documents
+            }
+        }
+        assertThat(supportedDocuments, greaterThan(250));
+    }
+
+    @Test
+    void shouldDeduplicateStrings() throws SubsetYamlParser.UnsupportedSyntaxException {
+        // given
+        String yaml = "a:\n  name: test\n  key: long value\nb:\n  'name': test\n  key: long value";
+        StringPool pool = new StringPool(100);
+
+        // when
+        Map<Object, Object> result = new SubsetYamlParser(yaml, pool, true, 4).parse();
+
+        // then
+        Map<?, ?> a = (Map<?, ?>) result.get("a");
+        Map<?, ?> b = (Map<?, ?>) result.get("b");
+        assertThat(getKeys(a).get(0), sameInstance(getKeys(b).get(0)));
+        assertThat(a.get("name"), sameInstance(b.get("name")));
+        assertThat(a.get("key") == b.get("key"), equalTo(false));
+    }
+
+    @Test
+    void shouldCreateSameNumberTypesAsSnakeYaml() throws SubsetYamlParser.UnsupportedSyntaxException {
+        // given
+        String yaml = "int: 123\nlong: 3000000000\nbig: 123456789012345678901\ndouble: 1.25";
+
+        // when
+        Map<Object, Object> result = new SubsetYamlParser(yaml, null, false, 0).parse();
+
+        // then
+        assertThat(result.get("int"), instanceOf(Integer.class));
+        assertThat(result.get("long"), instanceOf(Long.class));
+        assertThat(result.get("double"), instanceOf(Double.class));
+        assertThat(result, equalTo(new Yaml().load(yaml)));
+    }
+
+    private static void assertParsesLikeSnakeYaml(String yaml) throws SubsetYamlParser.UnsupportedSyntaxException {
+        Object expected = new Yaml().load(yaml);
+        Map<Object, Object> result = new SubsetYamlParser(yaml, null, false, 0).parse();
+        assertThat(yaml, result, equalTo(expected));
+    }
+
+    private static List<?> getKeys(Map<?, ?> map) {
+        return new ArrayList<>(map.keySet());
+    }
+
+    private static Map<String, Object> generateMap(Random random, int depth) {
+        Map<String, Object> map = new LinkedHashMap<>();
+        int size = depth == 0 ? 1 + random.nextInt(4) : random.nextInt(5);
+        for (int i = 0; i < size; ++i) {
+            map.put(generateString(random), generateValue(random, depth + 1));
+        }
+        return map;
+    }
+
+    private static Object generateValue(Random random, int depth) {
+        int type = random.nextInt(depth > 3 ? 6 : 8);
+        switch (type) {
+            case 0: return generateString(random);
+            case 1: return random.nextInt();
+            case 2: return random.nextLong();
+            case 3: return random.nextDouble() * 1000 - 500;
+            case 4: return random.nextBoolean();
+            case 5: return random.nextInt(4) == 0 ? null : generateString(random);
+            case 6: return generateMap(random, depth);
+            default:
+                List<Object> list = new ArrayList<>();
+                int size = random.nextInt(4);
+                for (int i = 0; i < size; ++i) {
+                    list.add(generateValue(random, depth + 1));
+                }
+                return list;
+        }
+    }
+
+    private static String generateString(Random random) {
+        List<String> parts = Arrays.asList("a", "key", " ", ":", "#", "'", "\"", "-", "yes", "1", ".5", "~",
+            "é", "日", "\\", "[", "{", ",", "!", "&", "*", "%", "@", "?", "|", ">", "null", "0x1", "\t");
+        StringBuilder sb = new StringBuilder();
+        int length = random.nextInt(5);
+        for (int i = 0; i < length; ++i) {
+            sb.append(parts.get(random.nextInt(parts.size())));
+        }
+        return sb.toString();
+    }
+}
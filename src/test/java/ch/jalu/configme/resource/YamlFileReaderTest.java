@@ -3,6 +3,7 @@ package ch.jalu.configme.resource;
 import ch.jalu.configme.TestUtils;
 import ch.jalu.configme.exception.ConfigMeException;
 import ch.jalu.configme.properties.Property;
+import ch.jalu.configme.properties.PropertyPath;
 import ch.jalu.configme.samples.TestConfiguration;
 import ch.jalu.configme.samples.TestEnum;
 import org.junit.jupiter.api.Test;
@@ -16,6 +17,7 @@ import java.nio.file.Path;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
@@ -30,8 +32,12 @@ import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.hasItems;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.not;
 import static org.hamcrest.Matchers.nullValue;
 import static org.hamcrest.Matchers.sameInstance;
+import static org.mockito.Mockito.CALLS_REAL_METHODS;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
 
 /**
  * Test for {@link YamlFileReader}.
@@ -106,6 +112,28 @@ class YamlFileReaderTest {
         assertThat(reader.getDouble(TestConfiguration.SKIP_BORING_FEATURES.getPath()), nullValue());
     }
 
+    @Test
+    void shouldRetrievePrimitiveValues() {
+        // given
+        Path file = copyFileFromResources(COMPLETE_FILE);
+        PropertyReader reader = new YamlFileReader(file);
+
+        // when / then
+        assertThat(reader.getLong("version"), equalTo(2492L));
+        assertThat(reader.getFloat("features.boring.dustLevel"), equalTo(2.4f));
+        assertThat(reader.getLong("test.systemName"), nullValue());
+        assertThat(reader.getInt("version", -1), equalTo(2492));
+        assertThat(reader.getInt("features.boring.dustLevel", -1), equalTo(2));
+        assertThat(reader.getInt("test.systemName", -1), equalTo(-1));
+        assertThat(reader.getLong("version", -1L), equalTo(2492L));
+        assertThat(reader.getLong("absent.path", -1L), equalTo(-1L));
+        assertThat(reader.getFloat("features.boring.dustLevel", -1f), equalTo(2.4f));
+        assertThat(reader.getDouble("features.boring.dustLevel", -1.0), equalTo(2.4));
+        assertThat(reader.getDouble("features.boring", -1.0), equalTo(-1.0));
+        assertThat(reader.getBoolean("features.cool.enabled", false), equalTo(true));
+        assertThat(reader.getBoolean("version", false), equalTo(false));
+    }
+
     @Test
     void shouldReadValuesAndHandleAbsentOnes() {
         // given
@@ -315,7 +343,193 @@ class YamlFileReaderTest {
         assertThat(leafChildren, empty());
     }
 
+    @Test
+    void shouldReturnCachedKeySets() {
+        // given
+        Path file = copyFileFromResources(COMPLETE_FILE);
+        YamlFileReader reader = new YamlFileReader(file);
+
+        // when
+        Set<String> keys = reader.getKeys(false);
+        Set<String> leafKeys = reader.getKeys(true);
+        Set<String> childKeys = reader.getChildKeys("features.boring");
+
+        // then
+        assertThat(reader.getKeys(false), sameInstance(keys));
+        assertThat(reader.getKeys(true), sameInstance(leafKeys));
+        assertThat(reader.getChildKeys("features.boring"), sameInstance(childKeys));
+        verifyException(() -> keys.remove("features"), UnsupportedOperationException.class);
+    }
+
+    @Test
+    void shouldAnswerPrefixAndRangeQueriesLikeDefaultImplementation() {
+        // given
+        Path file = copyFileFromResources(COMPLETE_FILE);
+        YamlFileReader reader = new YamlFileReader(file);
+        PropertyReader defaultReader = mock(PropertyReader.class, CALLS_REAL_METHODS);
+        doReturn(reader.getKeys(false)).when(defaultReader).getKeys(false);
+
+        // when / then
+        for (String prefix : Arrays.asList("", "features", "features.", "features.boring.", "test.d", "bogus")) {
+            assertThat(prefix, reader.getKeysWithPrefix(prefix), equalTo(defaultReader.getKeysWithPrefix(prefix)));
+            assertThat(prefix, reader.countUnder(prefix), equalTo(defaultReader.countUnder(prefix)));
+        }
+        assertThat(reader.getKeysInRange("features.boring", "sample"),
+            equalTo(defaultReader.getKeysInRange("features.boring", "sample")));
+        assertThat(reader.countUnder("features.boring"), equalTo(3));
+    }
+
     private Path copyFileFromResources(String path) {
         return TestUtils.copyFileFromResources(path, temporaryFolder);
     }
+
+    @Test
+    void shouldReturnSameValuesWithAndWithoutPathIndex() throws IOException {
+        // given
+        Path file = temporaryFolder.resolve("file.yml");
+        Files.write(file, ("a:\n  b:\n    c: 3\n    list: [1, 2]\n  'd.e': 4\n  '': 5\n  none: ~\n"
+            + "'f.g':\n  h: 6\n").getBytes(StandardCharsets.UTF_8));
+        YamlFileReader indexedReader = new YamlFileReader(file, StandardCharsets.UTF_8, false, true, null);
+        YamlFileReader plainReader = new YamlFileReader(file, StandardCharsets.UTF_8, false, false, null);
+        String[] paths = { "a", "a.b", "a.b.c", "a.b.list", "a.d.e", "a.d", "a.", "a..", "a..b", ".a", "a.none",
+            "f.g", "f.g.h", "f", "a.b.c.d", "unknown", "a.b.c." };
+
+        // when / then
+        for (String path : paths) {
+            assertThat("Path '" + path + "'", indexedReader.getObject(path), equalTo(plainReader.getObject(path)));
+            assertThat("Path '" + path + "'", indexedReader.contains(path), equalTo(plainReader.contains(path)));
+            assertThat("Path '" + path + "'", indexedReader.getObject(PropertyPath.of(path)),
+                equalTo(plainReader.getObject(path)));
+            assertThat("Path '" + path + "'", plainReader.getObject(PropertyPath.of(path)),
+                equalTo(plainReader.getObject(path)));
+        }
+        assertThat(indexedReader.getInt("a.b.c"), equalTo(3));
+        assertThat(indexedReader.getObject("a."), instanceOf(Map.class));
+        assertThat(indexedReader.getObject("a.d.e"), nullValue());
+    }
+
+    @Test
+    void shouldReturnSameValuesWithLazyNormalization() {
+        // given
+        Path file = TestUtils.copyFileFromResources("/config-sample.yml", temporaryFolder);
+        YamlFileReader lazyReader = new YamlFileReader(file,
+            YamlFileResourceOptions.builder().normalizeLazily(true).build(), null);
+        YamlFileReader eagerReader = new YamlFileReader(file);
+
+        // when / then
+        for (String path : eagerReader.getKeys(false)) {
+            assertThat(path, lazyReader.getObject(path), equalTo(eagerReader.getObject(path)));
+            assertThat(path, lazyReader.getChildKeys(path), equalTo(eagerReader.getChildKeys(path)));
+        }
+        assertThat(lazyReader.getKeys(true), equalTo(eagerReader.getKeys(true)));
+        assertThat(lazyReader.getObject(""), equalTo(eagerReader.getObject("")));
+    }
+
+    @Test
+    void shouldReturnSameValuesWithCompactValues() {
+        // given
+        Path file = TestUtils.copyFileFromResources("/config-sample.yml", temporaryFolder);
+        YamlFileReader compactReader = new YamlFileReader(file,
+            YamlFileResourceOptions.builder().compactValues(true).build(), null);
+        YamlFileReader reader = new YamlFileReader(file);
+
+        // when / then
+        for (String path : reader.getKeys(false)) {
+            assertThat(path, compactReader.getObject(path), equalTo(reader.getObject(path)));
+            assertThat(path, compactReader.getChildKeys(path), equalTo(reader.getChildKeys(path)));
+        }
+        assertThat(compactReader.getKeys(true), equalTo(reader.getKeys(true)));
+        assertThat(compactReader.getObject(""), instanceOf(CompactMap.class));
+        assertThat(compactReader.getObject(""), equalTo(reader.getObject("")));
+        assertThat(compactReader.getInt("test.duration"), equalTo(reader.getInt("test.duration")));
+    }
+
+    @Test
+    void shouldReturnPrimitiveValuesWithCompactValues() throws IOException {
+        // given
+        Path file = temporaryFolder.resolve("numbers.yml");
+        Files.write(file, ("ints:\n  a: 1\n  b: -2\nlongs:\n  a: 4000000000\ndoubles:\n  a: 2.5\n"
+            + "mixed:\n  int: 3\n  text: test\n  double: -1.5\n  long: 5000000000\nroot: 7").getBytes(StandardCharsets.UTF_8));
+        YamlFileReader compactReader = new YamlFileReader(file,
+            YamlFileResourceOptions.builder().compactValues(true).build(), null);
+        YamlFileReader reader = new YamlFileReader(file);
+        List<String> paths = Arrays.asList("ints.a", "ints.b", "ints.c", "longs.a", "doubles.a", "mixed.int",
+            "mixed.text", "mixed.double", "mixed.long", "mixed", "root", "absent", "absent.path", "root.x");
+
+        // when / then
+        for (String path : paths) {
+            assertThat(path, compactReader.getInt(path, -9), equalTo(reader.getInt(path, -9)));
+            assertThat(path, compactReader.getLong(path, -9L), equalTo(reader.getLong(path, -9L)));
+            assertThat(path, compactReader.getDouble(path, -9.0), equalTo(reader.getDouble(path, -9.0)));
+        }
+        assertThat(compactReader.getLong("mixed.long", -9L), equalTo(5000000000L));
+        assertThat(compactReader.getDouble("doubles.a", -9.0), equalTo(2.5));
+    }
+
+    @Test
+    void shouldReturnSameValuesWithFastParser() throws IOException {
+        // given
+        Path file = TestUtils.copyFileFromResources("/config-sample.yml", temporaryFolder);
+        Path fileWithAnchors = temporaryFolder.resolve("anchors.yml");
+        Files.write(fileWithAnchors, "base: &base\n  x: 1\ncopy: *base\nflow: [a, b]"
+            .getBytes(StandardCharsets.UTF_8));
+        YamlFileResourceOptions snakeYamlOptions = YamlFileResourceOptions.builder().useFastParser(false).build();
+
+        // when
+        YamlFileReader reader = new YamlFileReader(file);
+        YamlFileReader snakeYamlReader = new YamlFileReader(file, snakeYamlOptions, null);
+        YamlFileReader anchorReader = new YamlFileReader(fileWithAnchors);
+
+        // then
+        assertThat(reader.getObject(""), equalTo(snakeYamlReader.getObject("")));
+        assertThat(anchorReader.getInt("copy.x"), equalTo(1));
+        assertThat(anchorReader.getList("flow"), contains("a", "b"));
+    }
+
+    @Test
+    void shouldDeduplicateKeys() throws IOException {
+        // given
+        Path file = temporaryFolder.resolve("dedup.yml");
+        Files.write(file, "a:\n  enabled: true\n  msg: hello\nb:\n  enabled: false\n  msg: hello\nc.enabled: true"
+            .getBytes(StandardCharsets.UTF_8));
+
+        // when
+        YamlFileReader reader = new YamlFileReader(file);
+
+        // then
+        String keyA = getOnlyKey((Map<?, ?>) reader.getObject("a"), "enabled");
+        assertThat(getOnlyKey((Map<?, ?>) reader.getObject("b"), "enabled"), sameInstance(keyA));
+        assertThat(getOnlyKey((Map<?, ?>) reader.getObject("c"), "enabled"), sameInstance(keyA));
+        assertThat(reader.getString("a.msg"), not(sameInstance(reader.getString("b.msg"))));
+    }
+
+    @Test
+    void shouldDeduplicateShortScalars() throws IOException {
+        // given
+        Path file = temporaryFolder.resolve("dedup.yml");
+        Files.write(file, "a:\n  msg: hello\n  text: some longer text\nb:\n  msg: hello\n  text: some longer text"
+            .getBytes(StandardCharsets.UTF_8));
+        YamlFileResourceOptions options = YamlFileResourceOptions.builder()
+            .deduplicateKeys(false)
+            .deduplicateScalarsUpTo(10)
+            .build();
+
+        // when
+        YamlFileReader reader = new YamlFileReader(file, options, null);
+
+        // then
+        assertThat(reader.getString("a.msg"), sameInstance(reader.getString("b.msg")));
+        assertThat(reader.getString("a.text"), equalTo(reader.getString("b.text")));
+        assertThat(reader.getString("a.text"), not(sameInstance(reader.getString("b.text"))));
+        assertThat(getOnlyKey((Map<?, ?>) reader.getObject("a"), "msg"),
+            not(sameInstance(getOnlyKey((Map<?, ?>) reader.getObject("b"), "msg"))));
+    }
+
+    private static String getOnlyKey(Map<?, ?> map, String key) {
+        return map.keySet().stream()
+            .map(String.class::cast)
+            .filter(key::equals)
+            .findFirst()
+            .orElseThrow(() -> new IllegalStateException("No key " + key));
+    }
 }
@@ -7,7 +7,9 @@ import java.nio.charset.StandardCharsets;
 import java.util.function.ToIntFunction;
 
 import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.nullValue;
 
@@ -27,11 +29,13 @@ class YamlFileResourceOptionsTest {
             .charset(StandardCharsets.UTF_16BE)
             .indentationSize(2)
             .splitDotPaths(false)
+            .indexPaths(true)
             .build();
 
         // then
         assertThat(options.getCharset(), equalTo(StandardCharsets.UTF_16BE));
         assertThat(options.getIndentFunction(), equalTo(lineFunction));
+        assertThat(options.indexPaths(), equalTo(true));
         PathElement pathElement = new PathElement(3, "test", emptyList(), false);
         assertThat(options.getNumberOfEmptyLinesBefore(pathElement), equalTo(3));
         assertThat(options.getIndentationSize(), equalTo(2));
@@ -52,5 +56,52 @@ class YamlFileResourceOptionsTest {
         PathElement pathElement = new PathElement(3, "test", emptyList(), false);
         assertThat(options.getNumberOfEmptyLinesBefore(pathElement), equalTo(0));
         assertThat(options.splitDotPaths(), equalTo(true));
+        assertThat(options.indexPaths(), equalTo(false));
+        assertThat(options.normalizeLazily(), equalTo(false));
+        assertThat(options.compactValues(), equalTo(false));
+        assertThat(options.deduplicateKeys(), equalTo(true));
+        assertThat(options.getMaxDeduplicatedScalarLength(), equalTo(0));
+        assertThat(options.useSnapshotCache(), equalTo(false));
+        assertThat(options.useFastParser(), equalTo(true));
+    }
+
+    @Test
+    void shouldCreateBuilderWithSameValues() {
+        // given
+        ToIntFunction<PathElement> lineFunction = PathElement::getIndentationLevel;
+        YamlFileResourceOptions options = YamlFileResourceOptions.builder()
+            .numberOfLinesBeforeFunction(lineFunction)
+            .charset(StandardCharsets.UTF_16BE)
+            .indentationSize(2)
+            .splitDotPaths(false)
+            .loadOnlyPaths(singletonList("server"))
+            .reuseReaderIfUnchanged(true)
+            .compactValues(true)
+            .deduplicateKeys(false)
+            .deduplicateScalarsUpTo(16)
+            .useSnapshotCache(true)
+            .useFastParser(false)
+            .build();
+
+        // when
+        YamlFileResourceOptions copy = options.toBuilder()
+            .indexPaths(true)
+            .build();
+
+        // then
+        assertThat(copy.getCharset(), equalTo(StandardCharsets.UTF_16BE));
+        assertThat(copy.getIndentFunction(), equalTo(lineFunction));
+        assertThat(copy.getIndentationSize(), equalTo(2));
+        assertThat(copy.splitDotPaths(), equalTo(false));
+        assertThat(copy.indexPaths(), equalTo(true));
+        assertThat(copy.getPathsToLoad(), contains("server"));
+        assertThat(copy.reuseReaderIfUnchanged(), equalTo(true));
+        assertThat(copy.normalizeLazily(), equalTo(false));
+        assertThat(copy.compactValues(), equalTo(true));
+        assertThat(copy.deduplicateKeys(), equalTo(false));
+        assertThat(copy.getMaxDeduplicatedScalarLength(), equalTo(16));
+        assertThat(copy.useSnapshotCache(), equalTo(true));
+        assertThat(copy.useFastParser(), equalTo(false));
+        assertThat(options.indexPaths(), equalTo(false));
     }
 }
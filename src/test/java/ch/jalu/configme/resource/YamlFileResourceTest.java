@@ -19,6 +19,7 @@ import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
@@ -315,6 +316,90 @@ class YamlFileResourceTest {
         ));
     }
 
+    @Test
+    void shouldExportAndReloadWithUtf16() throws IOException {
+        // given
+        Path file = Files.createFile(temporaryFolder.resolve("utf16.yml"));
+        YamlFileResourceOptions options = YamlFileResourceOptions.builder()
+            .charset(StandardCharsets.UTF_16)
+            .build();
+        YamlFileResource resource = new YamlFileResource(file, options);
+
+        Property<String> firstProp = newProperty("elem.first", "Санкт-Петербург");
+        Property<String> secondProp = newProperty("elem.second", "");
+        Property<Integer> thirdProp = newProperty("third", 0);
+        ConfigurationData configurationData = ConfigurationDataBuilder.createConfiguration(asList(firstProp, secondProp, thirdProp));
+        configurationData.initializeValues(resource.createReader());
+        configurationData.setValue(secondProp, "错误的密码 😀");
+        configurationData.setValue(thirdProp, 42);
+
+        // when
+        resource.exportProperties(configurationData);
+
+        // then
+        assertThat(Files.readAllLines(file, StandardCharsets.UTF_16), contains(
+            "elem:",
+            "    first: Санкт-Петербург",
+            "    second: 错误的密码 😀",
+            "third: 42"
+        ));
+        PropertyReader reader = new YamlFileResource(file, options).createReader();
+        assertThat(reader.getString("elem.first"), equalTo("Санкт-Петербург"));
+        assertThat(reader.getString("elem.second"), equalTo("错误的密码 😀"));
+        assertThat(reader.getInt("third"), equalTo(42));
+    }
+
+    @Test
+    void shouldExportAndReloadLargeFile() throws IOException {
+        // given
+        Path file = Files.createFile(temporaryFolder.resolve("large.yml"));
+        YamlFileResource resource = new YamlFileResource(file);
+        List<Property<String>> properties = new ArrayList<>();
+        for (int i = 0; i < 20_000; ++i) {
+            properties.add(newProperty("section" + (i / 100) + ".value" + i, "default value ä " + i));
+        }
+        ConfigurationData configurationData = ConfigurationDataBuilder.createConfiguration(properties);
+        configurationData.initializeValues(resource.createReader());
+
+        // when
+        resource.exportProperties(configurationData);
+        configurationData.setValue(properties.get(12_345), "changed");
+        resource.exportProperties(configurationData);
+
+        // then
+        assertThat(Files.size(file) > 500_000, equalTo(true));
+        PropertyReader reader = resource.createReader();
+        assertThat(reader.getKeys(true).size(), equalTo(properties.size()));
+        for (int i = 0; i < properties.size(); ++i) {
+            String expectedValue = i == 12_345 ? "changed" : "default value ä " + i;
+            assertThat(reader.getString(properties.get(i).getPath()), equalTo(expectedValue));
+        }
+    }
+
+    @Test
+    void shouldTruncateLongerExistingFile() throws IOException {
+        // given
+        Path file = temporaryFolder.resolve("config.yml");
+        StringBuilder longContent = new StringBuilder("name: old\n");
+        for (int i = 0; i < 1000; ++i) {
+            longContent.append("# some long comment line which will be removed by the export: ").append(i).append('\n');
+        }
+        Files.write(file, longContent.toString().getBytes(StandardCharsets.UTF_8));
+        YamlFileResource resource = new YamlFileResource(file);
+
+        Property<String> nameProp = newProperty("name", "");
+        ConfigurationData configurationData = ConfigurationDataBuilder.createConfiguration(singletonList(nameProp));
+        configurationData.initializeValues(resource.createReader());
+        configurationData.setValue(nameProp, "new");
+
+        // when
+        resource.exportProperties(configurationData);
+
+        // then
+        assertThat(new String(Files.readAllBytes(file), StandardCharsets.UTF_8), equalTo("name: new\n"));
+        assertThat(resource.createReader().getString("name"), equalTo("new"));
+    }
+
     @Test
     void shouldReturnFieldsOfResource() {
         // given
@@ -402,6 +487,165 @@ class YamlFileResourceTest {
         ));
     }
 
+    @Test
+    void shouldReuseReaderIfFileIsUnchanged() throws IOException {
+        // given
+        Path file = copyFileFromResources(COMPLETE_FILE);
+        YamlFileResource resource = new YamlFileResource(file, YamlFileResourceOptions.builder()
+            .reuseReaderIfUnchanged(true)
+            .build());
+        PropertyReader reader = resource.createReader();
+
+        // when
+        PropertyReader secondReader = resource.createReader();
+        Files.write(file, "test:\n  duration: 4\n".getBytes(StandardCharsets.UTF_8));
+        PropertyReader thirdReader = resource.createReader();
+
+        // then
+        assertThat(secondReader, sameInstance(reader));
+        assertThat(thirdReader, not(sameInstance(reader)));
+        assertThat(thirdReader.getInt("test.duration"), equalTo(4));
+    }
+
+    @Test
+    void shouldDetectChangedContentWithSameSizeAndModificationTime() throws IOException {
+        // given
+        Path file = temporaryFolder.resolve("config.yml");
+        Files.write(file, "value: 1\n".getBytes(StandardCharsets.UTF_8));
+        YamlFileResource resource = new YamlFileResource(file, YamlFileResourceOptions.builder()
+            .reuseReaderIfUnchanged(true)
+            .build());
+        PropertyReader reader = resource.createReader();
+        FileTime lastModified = Files.getLastModifiedTime(file);
+
+        // when
+        Files.write(file, "value: 2\n".getBytes(StandardCharsets.UTF_8));
+        Files.setLastModifiedTime(file, lastModified);
+        PropertyReader newReader = resource.createReader();
+
+        // then
+        assertThat(newReader, not(sameInstance(reader)));
+        assertThat(newReader.getInt("value"), equalTo(2));
+    }
+
+    @Test
+    void shouldNotReuseReaderByDefault() {
+        // given
+        Path file = copyFileFromResources(COMPLETE_FILE);
+        YamlFileResource resource = new YamlFileResource(file);
+
+        // when
+        PropertyReader reader1 = resource.createReader();
+        PropertyReader reader2 = resource.createReader();
+
+        // then
+        assertThat(reader1, not(sameInstance(reader2)));
+    }
+
+    @Test
+    void shouldLoadValuesFromSnapshot() throws IOException {
+        // given
+        Path file = copyFileFromResources(COMPLETE_FILE);
+        YamlFileResource resource = new YamlFileResource(file, YamlFileResourceOptions.builder()
+            .useSnapshotCache(true)
+            .build());
+        YamlFileReader reader = (YamlFileReader) resource.createReader();
+
+        // when
+        YamlFileReader secondReader = (YamlFileReader) resource.createReader();
+        Files.write(file, "test:\n  duration: 4\n".getBytes(StandardCharsets.UTF_8));
+        YamlFileReader thirdReader = (YamlFileReader) resource.createReader();
+
+        // then
+        assertThat(reader.isLoadedFromSnapshot(), equalTo(false));
+        assertThat(secondReader.isLoadedFromSnapshot(), equalTo(true));
+        assertThat(secondReader.getRoot(), equalTo(reader.getRoot()));
+        assertThat(thirdReader.isLoadedFromSnapshot(), equalTo(false));
+        assertThat(thirdReader.getInt("test.duration"), equalTo(4));
+    }
+
+    @Test
+    void shouldUpdateSnapshotWhenSaving() {
+        // given
+        Path file = copyFileFromResources(COMPLETE_FILE);
+        YamlFileResource resource = new YamlFileResource(file, YamlFileResourceOptions.builder()
+            .useSnapshotCache(true)
+            .build());
+        ConfigurationData configurationData = createConfiguration(TestConfiguration.class);
+        configurationData.initializeValues(resource.createReader());
+        configurationData.setValue(TestConfiguration.DURATION_IN_SECONDS, 1234);
+
+        // when
+        resource.exportProperties(configurationData);
+        YamlFileReader reader = (YamlFileReader) resource.createReader();
+
+        // then
+        assertThat(reader.isLoadedFromSnapshot(), equalTo(true));
+        assertThat(reader.getInt(TestConfiguration.DURATION_IN_SECONDS.getPath()), equalTo(1234));
+    }
+
+    @Test
+    void shouldWriteSnapshotWithSameValuesAsParsedFile() {
+        // given
+        Path file = copyFileFromResources(COMPLETE_FILE);
+        YamlFileResource resource = new YamlFileResource(file, YamlFileResourceOptions.builder()
+            .useSnapshotCache(true)
+            .build());
+        List<Property<?>> properties = new ArrayList<>(createConfiguration(TestConfiguration.class).getProperties());
+        properties.add(newProperty("numbers.long", 5000000000L));
+        properties.add(newProperty("numbers.double", 1e20));
+        properties.add(newProperty("text.special", "yes: 'no' # \"quoted\"\nline"));
+        ConfigurationData configurationData = createConfiguration(properties);
+        configurationData.initializeValues(resource.createReader());
+
+        // when
+        resource.exportProperties(configurationData);
+        YamlFileReader snapshotReader = (YamlFileReader) resource.createReader();
+
+        // then
+        assertThat(snapshotReader.isLoadedFromSnapshot(), equalTo(true));
+        YamlFileReader parsingReader = new YamlFileReader(file);
+        assertThat(snapshotReader.getObject(""), equalTo(parsingReader.getObject("")));
+        assertThat(snapshotReader.getObject("numbers.long"), equalTo(5000000000L));
+    }
+
+    @Test
+    void shouldDeleteSnapshotIfExportedValuesAreNotLoadedUnchanged() {
+        // given
+        Path file = copyFileFromResources(COMPLETE_FILE);
+        YamlFileResource resource = new YamlFileResource(file, YamlFileResourceOptions.builder()
+            .useSnapshotCache(true)
+            .build());
+        Property<Short> shortProperty = newProperty("number.short", (short) 4);
+        ConfigurationData configurationData = createConfiguration(singletonList(shortProperty));
+        configurationData.initializeValues(resource.createReader());
+        assertThat(Files.exists(SnapshotCache.getSnapshotPath(file)), equalTo(true));
+
+        // when
+        resource.exportProperties(configurationData);
+
+        // then
+        assertThat(Files.exists(SnapshotCache.getSnapshotPath(file)), equalTo(false));
+        YamlFileReader reader1 = (YamlFileReader) resource.createReader();
+        YamlFileReader reader2 = (YamlFileReader) resource.createReader();
+        assertThat(reader1.isLoadedFromSnapshot(), equalTo(false));
+        assertThat(reader2.isLoadedFromSnapshot(), equalTo(true));
+        assertThat(reader2.getObject("number.short"), equalTo(4));
+    }
+
+    @Test
+    void shouldNotWriteSnapshotByDefault() {
+        // given
+        Path file = copyFileFromResources(COMPLETE_FILE);
+        YamlFileResource resource = new YamlFileResource(file);
+
+        // when
+        resource.createReader();
+
+        // then
+        assertThat(Files.exists(SnapshotCache.getSnapshotPath(file)), equalTo(false));
+    }
+
     private Path copyFileFromResources(String path) {
         return TestUtils.copyFileFromResources(path, temporaryFolder);
     }